@@ -15,9 +15,22 @@
  * */
 package br.com.armange.commons.object.api.typeconverter;
 
+import java.util.List;
+
+import br.com.armange.commons.object.api.typeconverter.bean.BeanConverterMode;
 import br.com.armange.commons.object.api.typeconverter.bean.BeanConverterStrategy;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionError;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionErrorPolicy;
 
 public interface BeanConverter<S, T> extends TypeConverter<S, T> {
 
     void setStrategy(BeanConverterStrategy strategy);
+    
+    void setMode(BeanConverterMode mode);
+    
+    void setProjection(String... targetFieldNames);
+    
+    void setErrorPolicy(ConversionErrorPolicy policy);
+    
+    List<ConversionError> getConversionErrors();
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.api.typeconverter;
+
+/**
+ * A reusable holder for the outcome of {@link TypeConverter#tryConvert(Object, Class, ConversionResult)}.
+ * It is not thread-safe.
+ */
+public final class ConversionResult<T> {
+    private T value;
+    private Object rejectedValue;
+    private boolean success;
+    
+    /**
+     * Records a successful conversion.
+     * @param value the converted value
+     * @return always true
+     */
+    public boolean succeed(final T value) {
+        this.value = value;
+        this.rejectedValue = null;
+        this.success = true;
+        
+        return true;
+    }
+    
+    /**
+     * Records a failed conversion.
+     * @param rejectedValue the value that could not be converted
+     * @return always false
+     */
+    public boolean fail(final Object rejectedValue) {
+        this.value = null;
+        this.rejectedValue = rejectedValue;
+        this.success = false;
+        
+        return false;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    /**
+     * @return the converted value or null if the last conversion failed
+     */
+    public T getValue() {
+        return value;
+    }
+    
+    /**
+     * @return the value that could not be converted or null if the last conversion succeeded
+     */
+    public Object getRejectedValue() {
+        return rejectedValue;
+    }
+}
@@ -21,4 +21,21 @@ public interface TypeConverter<S,T> {
     T to(Class<T> targetClass);
     
     boolean matches(Object sourceObject, final Class<?> targetClass);
+    
+    /**
+     * Converts without throwing for invalid input. Implementations that can detect invalid input up front 
+     * should override this method, since this default one still relies on the exception thrown by 
+     * {@link #from(Object)} or {@link #to(Class)}.
+     * @param sourceObject the object to be converted
+     * @param targetClass the class of the converted object
+     * @param result the holder receiving the converted object or the failure
+     * @return true if the conversion succeeded
+     */
+    default boolean tryConvert(final S sourceObject, final Class<T> targetClass, final ConversionResult<T> result) {
+        try {
+            return result.succeed(from(sourceObject).to(targetClass));
+        } catch (final RuntimeException e) {
+            return result.fail(sourceObject);
+        }
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.api.typeconverter.bean;
+
+/**
+ * A target field whose value could not be converted, as collected by {@link ConversionErrorPolicy#COLLECT}.
+ */
+public final class ConversionError {
+    private final String fieldName;
+    private final Object rejectedValue;
+    
+    public ConversionError(final String fieldName, final Object rejectedValue) {
+        this.fieldName = fieldName;
+        this.rejectedValue = rejectedValue;
+    }
+    
+    public String getFieldName() {
+        return fieldName;
+    }
+    
+    public Object getRejectedValue() {
+        return rejectedValue;
+    }
+    
+    @Override
+    public String toString() {
+        return fieldName + "=" + rejectedValue;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The cost of finding a converter once the registry is loaded: a registered pair, a primitive pair that is 
+ * wrapped first, a pair without converter and an exception-free attempt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    
+    @Setup
+    public void setUp() {
+        TypeConverters.registeredPairs();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object find() {
+        return TypeConverters.find(Integer.class, Long.class);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object findParallel() {
+        return TypeConverters.find(Integer.class, Long.class);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object findPrimitive() {
+        return TypeConverters.find(int.class, long.class);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object findMissing() {
+        return TypeConverters.find(Integer.class, Thread.class);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object findAttempt() {
+        return TypeConverters.findAttempt(Integer.class, Long.class);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object findAttemptParallel() {
+        return TypeConverters.findAttempt(Integer.class, Long.class);
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+
+/*
+ * Every pair of the scalar converters, through the conversion functions and the exception-free attempts that 
+ * bean conversions use. The parameters form all 100 pairs of the scalar types, every one of them registered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalarConverterBenchmark {
+    private static final Map<String, Object> SAMPLES = samples();
+    
+    @Param({ "Boolean", "Byte", "Character", "Short", "Integer", "Long", "Float", "Double", "BigDecimal", "String" })
+    private String source;
+    
+    @Param({ "Boolean", "Byte", "Character", "Short", "Integer", "Long", "Float", "Double", "BigDecimal", "String" })
+    private String target;
+    
+    private Object sourceObject;
+    private Function<Object, Object> function;
+    private ConversionAttempt attempt;
+    private final ConversionResult<Object> result = new ConversionResult<>();
+    
+    @Setup
+    public void setUp() {
+        final Class<?> targetClass = SAMPLES.get(target).getClass();
+        
+        sourceObject = SAMPLES.get(source);
+        function = TypeConverters.find(sourceObject.getClass(), targetClass).orElseThrow();
+        attempt = TypeConverters.findAttempt(sourceObject.getClass(), targetClass).orElseThrow();
+        function.apply(sourceObject);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object convert() {
+        return function.apply(sourceObject);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object convertParallel() {
+        return function.apply(sourceObject);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public boolean attempt() {
+        return attempt.attempt(sourceObject, result);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean attemptParallel() {
+        return attempt.attempt(sourceObject, result);
+    }
+    
+    private static Map<String, Object> samples() {
+        final Map<String, Object> samples = new HashMap<>();
+        
+        samples.put("Boolean", Boolean.TRUE);
+        samples.put("Byte", (byte) 1);
+        samples.put("Character", '1');
+        samples.put("Short", (short) 1);
+        samples.put("Integer", 1);
+        samples.put("Long", 1L);
+        samples.put("Float", 1F);
+        samples.put("Double", 1D);
+        samples.put("BigDecimal", BigDecimal.ONE);
+        samples.put("String", "1");
+        
+        return samples;
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+
+/*
+ * Every pair of the java.time and enum converters, through the conversion functions and the exception-free
+ * attempts, as the ScalarConverterBenchmark does for the pairs of the scalar types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeAndEnumConverterBenchmark {
+    
+    public enum Pair {
+        INSTANT_TO_STRING(Instant.parse("2019-06-01T10:15:30.123Z"), String.class),
+        STRING_TO_INSTANT("2019-06-01T10:15:30.123Z", Instant.class),
+        INSTANT_TO_LONG(Instant.parse("2019-06-01T10:15:30.123Z"), Long.class),
+        LONG_TO_INSTANT(1_559_384_130_123L, Instant.class),
+        LOCAL_DATE_TO_STRING(LocalDate.of(2019, 6, 1), String.class),
+        STRING_TO_LOCAL_DATE("2019-06-01", LocalDate.class),
+        LOCAL_DATE_TIME_TO_STRING(LocalDateTime.of(2019, 6, 1, 10, 15, 30), String.class),
+        STRING_TO_LOCAL_DATE_TIME("2019-06-01T10:15:30", LocalDateTime.class),
+        OFFSET_DATE_TIME_TO_STRING(OffsetDateTime.parse("2019-06-01T10:15:30-03:00"), String.class),
+        STRING_TO_OFFSET_DATE_TIME("2019-06-01T10:15:30-03:00", OffsetDateTime.class),
+        ENUM_TO_STRING(ChronoUnit.SECONDS, String.class),
+        STRING_TO_ENUM("SECONDS", ChronoUnit.class),
+        ENUM_TO_INTEGER(ChronoUnit.SECONDS, Integer.class),
+        INTEGER_TO_ENUM(3, ChronoUnit.class),
+        ENUM_TO_ENUM(TimeUnit.SECONDS, ChronoUnit.class);
+        
+        private final Object sourceObject;
+        private final Class<?> targetClass;
+        
+        Pair(final Object sourceObject, final Class<?> targetClass) {
+            this.sourceObject = sourceObject;
+            this.targetClass = targetClass;
+        }
+    }
+    
+    @Param
+    private Pair pair;
+    
+    private Object sourceObject;
+    private Function<Object, Object> function;
+    private ConversionAttempt attempt;
+    private final ConversionResult<Object> result = new ConversionResult<>();
+    
+    @Setup
+    public void setUp() {
+        sourceObject = pair.sourceObject;
+        function = TypeConverters.find(sourceObject.getClass(), pair.targetClass).orElseThrow();
+        attempt = TypeConverters.findAttempt(sourceObject.getClass(), pair.targetClass).orElseThrow();
+        function.apply(sourceObject);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object convert() {
+        return function.apply(sourceObject);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object convertParallel() {
+        return function.apply(sourceObject);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public boolean attempt() {
+        return attempt.attempt(sourceObject, result);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean attemptParallel() {
+        return attempt.attempt(sourceObject, result);
+    }
+}
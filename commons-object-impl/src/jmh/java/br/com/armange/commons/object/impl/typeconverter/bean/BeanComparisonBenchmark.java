@@ -0,0 +1,100 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+
+/*
+ * Compiled bean comparisons against their hand-written equivalents over RecordArtifact, by a primitive, a 
+ * floating-point and an object key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanComparisonBenchmark {
+    private static final Comparator<RecordArtifact> HAND_WRITTEN = Comparator
+            .comparingInt(RecordArtifact::getQuantity)
+            .thenComparingDouble(RecordArtifact::getPrice)
+            .thenComparing(RecordArtifact::getName);
+    
+    private final BeanComparison<RecordArtifact> comparison = 
+            BeanComparison.of(RecordArtifact.class, "quantity", "price", "name");
+    private final Comparator<RecordArtifact> compiled = comparison.comparator();
+    private RecordArtifact[] records;
+    private RecordArtifact left;
+    private RecordArtifact right;
+    
+    @Setup
+    public void setUp() {
+        records = new RecordArtifact[1 << 16];
+        
+        for (int i = 0; i < records.length; i++) {
+            final RecordArtifact record = new RecordArtifact();
+            
+            record.setId(i);
+            record.setQuantity(i * 31 % 97);
+            record.setPrice(i % 13 / 4.0);
+            record.setTotal(BigDecimal.valueOf(i));
+            record.setName("name" + i % 7);
+            records[i] = record;
+        }
+        
+        left = records[1];
+        right = records[98];
+    }
+    
+    @Benchmark
+    public int compare() {
+        return compiled.compare(left, right);
+    }
+    
+    @Benchmark
+    public int compareHandWritten() {
+        return HAND_WRITTEN.compare(left, right);
+    }
+    
+    @Benchmark
+    public boolean equalsCompiled() {
+        return comparison.equals(left, right);
+    }
+    
+    @Benchmark
+    public int hashCodeCompiled() {
+        return comparison.hashCode(left);
+    }
+    
+    @Benchmark
+    public Object sort() {
+        final RecordArtifact[] sorted = records.clone();
+        
+        Arrays.sort(sorted, compiled);
+        
+        return sorted;
+    }
+    
+    @Benchmark
+    public Object sortHandWritten() {
+        final RecordArtifact[] sorted = records.clone();
+        
+        Arrays.sort(sorted, HAND_WRITTEN);
+        
+        return sorted;
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.armange.commons.object.api.typeconverter.bean.BeanConverterStrategy;
+import br.com.armange.commons.object.impl.typeconverter.bean.BenchmarkBeans.Shape;
+
+/*
+ * BeanConverterImpl with the SAME_NAME strategy over wide and deep beans, with a new converter per conversion as 
+ * callers use it, a reused converter and the plan lookup alone. The parallel variants run on every available 
+ * processor against the same shared plan caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BeanConverterBenchmark {
+    
+    @Param
+    private Shape shape;
+    
+    private Object sourceObject;
+    private Class<Object> targetClass;
+    private BeanConverterImpl<Object, Object> converter;
+    
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        sourceObject = shape.getSourceClass().getDeclaredConstructor().newInstance();
+        targetClass = (Class<Object>) shape.getTargetClass();
+        converter = newConverter();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object convert() {
+        return newConverter().from(sourceObject).to(targetClass);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object convertParallel() {
+        return newConverter().from(sourceObject).to(targetClass);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object convertReused() {
+        return converter.from(sourceObject).to(targetClass);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object convertReusedParallel() {
+        return converter.from(sourceObject).to(targetClass);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Object planLookup() {
+        return FieldInjectionPlan.of(sourceObject.getClass(), targetClass);
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object planLookupParallel() {
+        return FieldInjectionPlan.of(sourceObject.getClass(), targetClass);
+    }
+    
+    private static BeanConverterImpl<Object, Object> newConverter() {
+        final BeanConverterImpl<Object, Object> result = new BeanConverterImpl<>();
+        
+        result.setStrategy(BeanConverterStrategy.SAME_NAME);
+        
+        return result;
+    }
+}
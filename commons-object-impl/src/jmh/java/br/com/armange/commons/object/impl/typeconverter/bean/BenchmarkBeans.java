@@ -0,0 +1,279 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+/*
+ * Source and target beans of the bean benchmarks. Wide beans declare all of their fields, deep beans declare
+ * 4 fields per level of their hierarchy. A quarter of the fields is copied as is, the others are converted
+ * between Integer, Long and String.
+ */
+public final class BenchmarkBeans {
+
+    public enum Shape {
+        WIDE_4(Wide4Source.class, Wide4Target.class),
+        WIDE_16(Wide16Source.class, Wide16Target.class),
+        WIDE_64(Wide64Source.class, Wide64Target.class),
+        DEEP_1(Deep1Source.class, Deep1Target.class),
+        DEEP_2(Deep2Source.class, Deep2Target.class),
+        DEEP_4(Deep4Source.class, Deep4Target.class);
+
+        private final Class<?> sourceClass;
+        private final Class<?> targetClass;
+
+        Shape(final Class<?> sourceClass, final Class<?> targetClass) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+        }
+
+        public Class<?> getSourceClass() {
+            return sourceClass;
+        }
+
+        public Class<?> getTargetClass() {
+            return targetClass;
+        }
+    }
+
+    private BenchmarkBeans() {
+    }
+
+    public static class Wide4Source {
+        private Integer field00 = 1;
+        private Long field01 = 1L;
+        private String field02 = "1";
+        private Integer field03 = 1;
+    }
+
+    public static class Wide4Target {
+        private Integer field00;
+        private Long field01;
+        private Integer field02;
+        private String field03;
+    }
+
+    public static class Wide16Source {
+        private Integer field00 = 1;
+        private Long field01 = 1L;
+        private String field02 = "1";
+        private Integer field03 = 1;
+        private Integer field04 = 1;
+        private Long field05 = 1L;
+        private String field06 = "1";
+        private Integer field07 = 1;
+        private Integer field08 = 1;
+        private Long field09 = 1L;
+        private String field10 = "1";
+        private Integer field11 = 1;
+        private Integer field12 = 1;
+        private Long field13 = 1L;
+        private String field14 = "1";
+        private Integer field15 = 1;
+    }
+
+    public static class Wide16Target {
+        private Integer field00;
+        private Long field01;
+        private Integer field02;
+        private String field03;
+        private Integer field04;
+        private Long field05;
+        private Integer field06;
+        private String field07;
+        private Integer field08;
+        private Long field09;
+        private Integer field10;
+        private String field11;
+        private Integer field12;
+        private Long field13;
+        private Integer field14;
+        private String field15;
+    }
+
+    public static class Wide64Source {
+        private Integer field00 = 1;
+        private Long field01 = 1L;
+        private String field02 = "1";
+        private Integer field03 = 1;
+        private Integer field04 = 1;
+        private Long field05 = 1L;
+        private String field06 = "1";
+        private Integer field07 = 1;
+        private Integer field08 = 1;
+        private Long field09 = 1L;
+        private String field10 = "1";
+        private Integer field11 = 1;
+        private Integer field12 = 1;
+        private Long field13 = 1L;
+        private String field14 = "1";
+        private Integer field15 = 1;
+        private Integer field16 = 1;
+        private Long field17 = 1L;
+        private String field18 = "1";
+        private Integer field19 = 1;
+        private Integer field20 = 1;
+        private Long field21 = 1L;
+        private String field22 = "1";
+        private Integer field23 = 1;
+        private Integer field24 = 1;
+        private Long field25 = 1L;
+        private String field26 = "1";
+        private Integer field27 = 1;
+        private Integer field28 = 1;
+        private Long field29 = 1L;
+        private String field30 = "1";
+        private Integer field31 = 1;
+        private Integer field32 = 1;
+        private Long field33 = 1L;
+        private String field34 = "1";
+        private Integer field35 = 1;
+        private Integer field36 = 1;
+        private Long field37 = 1L;
+        private String field38 = "1";
+        private Integer field39 = 1;
+        private Integer field40 = 1;
+        private Long field41 = 1L;
+        private String field42 = "1";
+        private Integer field43 = 1;
+        private Integer field44 = 1;
+        private Long field45 = 1L;
+        private String field46 = "1";
+        private Integer field47 = 1;
+        private Integer field48 = 1;
+        private Long field49 = 1L;
+        private String field50 = "1";
+        private Integer field51 = 1;
+        private Integer field52 = 1;
+        private Long field53 = 1L;
+        private String field54 = "1";
+        private Integer field55 = 1;
+        private Integer field56 = 1;
+        private Long field57 = 1L;
+        private String field58 = "1";
+        private Integer field59 = 1;
+        private Integer field60 = 1;
+        private Long field61 = 1L;
+        private String field62 = "1";
+        private Integer field63 = 1;
+    }
+
+    public static class Wide64Target {
+        private Integer field00;
+        private Long field01;
+        private Integer field02;
+        private String field03;
+        private Integer field04;
+        private Long field05;
+        private Integer field06;
+        private String field07;
+        private Integer field08;
+        private Long field09;
+        private Integer field10;
+        private String field11;
+        private Integer field12;
+        private Long field13;
+        private Integer field14;
+        private String field15;
+        private Integer field16;
+        private Long field17;
+        private Integer field18;
+        private String field19;
+        private Integer field20;
+        private Long field21;
+        private Integer field22;
+        private String field23;
+        private Integer field24;
+        private Long field25;
+        private Integer field26;
+        private String field27;
+        private Integer field28;
+        private Long field29;
+        private Integer field30;
+        private String field31;
+        private Integer field32;
+        private Long field33;
+        private Integer field34;
+        private String field35;
+        private Integer field36;
+        private Long field37;
+        private Integer field38;
+        private String field39;
+        private Integer field40;
+        private Long field41;
+        private Integer field42;
+        private String field43;
+        private Integer field44;
+        private Long field45;
+        private Integer field46;
+        private String field47;
+        private Integer field48;
+        private Long field49;
+        private Integer field50;
+        private String field51;
+        private Integer field52;
+        private Long field53;
+        private Integer field54;
+        private String field55;
+        private Integer field56;
+        private Long field57;
+        private Integer field58;
+        private String field59;
+        private Integer field60;
+        private Long field61;
+        private Integer field62;
+        private String field63;
+    }
+
+    public static class Deep1Source {
+        private Integer level1Field0 = 1;
+        private Long level1Field1 = 1L;
+        private String level1Field2 = "1";
+        private Integer level1Field3 = 1;
+    }
+
+    public static class Deep2Source extends Deep1Source {
+        private Integer level2Field0 = 1;
+        private Long level2Field1 = 1L;
+        private String level2Field2 = "1";
+        private Integer level2Field3 = 1;
+    }
+
+    public static class Deep3Source extends Deep2Source {
+        private Integer level3Field0 = 1;
+        private Long level3Field1 = 1L;
+        private String level3Field2 = "1";
+        private Integer level3Field3 = 1;
+    }
+
+    public static class Deep4Source extends Deep3Source {
+        private Integer level4Field0 = 1;
+        private Long level4Field1 = 1L;
+        private String level4Field2 = "1";
+        private Integer level4Field3 = 1;
+    }
+
+    public static class Deep1Target {
+        private Integer level1Field0;
+        private Long level1Field1;
+        private Integer level1Field2;
+        private String level1Field3;
+    }
+
+    public static class Deep2Target extends Deep1Target {
+        private Integer level2Field0;
+        private Long level2Field1;
+        private Integer level2Field2;
+        private String level2Field3;
+    }
+
+    public static class Deep3Target extends Deep2Target {
+        private Integer level3Field0;
+        private Long level3Field1;
+        private Integer level3Field2;
+        private String level3Field3;
+    }
+
+    public static class Deep4Target extends Deep3Target {
+        private Integer level4Field0;
+        private Long level4Field1;
+        private Integer level4Field2;
+        private String level4Field3;
+    }
+}
@@ -18,7 +18,20 @@ package br.com.armange.commons.object.impl.message;
 import br.com.armange.commons.message.MessageFormat;
 
 public enum Messages implements MessageFormat {
-    DEFAULT_CONSTRUCTOR_NOT_FOUND("The default constructor was not found in the class \"{0}\"");
+    DEFAULT_CONSTRUCTOR_NOT_FOUND("The default constructor was not found in the class \"{0}\""),
+    INJECTABLE_CONSTRUCTOR_NOT_FOUND("No constructor with named or field-ordered parameters was found in the class \"{0}\""),
+    CONVERTER_NOT_FOUND("No converter was found from \"{0}\" to \"{1}\""),
+    LAZY_TARGET_NOT_INTERFACE("The lazy conversion requires an interface target, but \"{0}\" is not an interface"),
+    LAZY_TARGET_METHOD("The method \"{0}\" of the lazy target \"{1}\" is neither an accessor nor a default method"),
+    FIELD_NOT_FOUND("The field \"{0}\" was not found in the class \"{1}\""),
+    PROJECTION_MISMATCH("The projection was compiled for \"{0}\" but the conversion is \"{1}\""),
+    ENUM_CONSTANT_NOT_FOUND("No constant of the enum \"{0}\" matches \"{1}\""),
+    INVALID_DELIMITER("The delimiter \"{0}\" must be an ASCII character other than a line break"),
+    INVALID_COLUMN_VALUE("The value \"{0}\" of the column \"{1}\" at byte {2} cannot be converted to \"{3}\""),
+    UNDELIMITED_VALUE("The value \"{0}\" of the column \"{1}\" contains the delimiter or a line break"),
+    STRUCT_FIELD_TYPE("The struct field \"{0}\" of type \"{1}\" cannot be read as \"{2}\""),
+    STRUCT_OVERFLOW("{0} structs of {1} bytes do not fit in a buffer"),
+    FIELD_NOT_COMPARABLE("The field \"{0}\" of type \"{1}\" is not comparable");
 
     private final String message;
     
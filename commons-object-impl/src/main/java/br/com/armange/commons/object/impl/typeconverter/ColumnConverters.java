@@ -0,0 +1,643 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.string.NumberParser;
+import br.com.armange.commons.object.impl.typeconverter.string.NumberSyntax;
+
+/**
+ * Whole-column conversions from a source array slice into a preallocated target array. Invalid rows are
+ * recorded in a {@link ColumnReport} instead of throwing.
+ */
+public final class ColumnConverters {
+    private static final String REPORT = "report";
+    
+    private ColumnConverters() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Parses a column of decimal text into bytes.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as zero
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final byte[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            if (value == null) {
+                target[targetOffset + row] = 0;
+                report.rejectNull(row);
+            } else if (NumberSyntax.isInteger(value, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+                target[targetOffset + row] = NumberParser.parseByte(value, 0, value.length());
+            } else {
+                target[targetOffset + row] = 0;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+
+    /**
+     * Parses a column of decimal text into shorts.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as zero
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final short[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            if (value == null) {
+                target[targetOffset + row] = 0;
+                report.rejectNull(row);
+            } else if (NumberSyntax.isInteger(value, Short.MIN_VALUE, Short.MAX_VALUE)) {
+                target[targetOffset + row] = NumberParser.parseShort(value, 0, value.length());
+            } else {
+                target[targetOffset + row] = 0;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+
+    /**
+     * Parses a column of decimal text into ints.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as zero
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final int[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            if (value == null) {
+                target[targetOffset + row] = 0;
+                report.rejectNull(row);
+            } else if (NumberSyntax.isInteger(value, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                target[targetOffset + row] = NumberParser.parseInt(value, 0, value.length());
+            } else {
+                target[targetOffset + row] = 0;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+
+    /**
+     * Parses a column of decimal text into longs.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as zero
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final long[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            if (value == null) {
+                target[targetOffset + row] = 0;
+                report.rejectNull(row);
+            } else if (NumberSyntax.isInteger(value, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                target[targetOffset + row] = NumberParser.parseLong(value, 0, value.length());
+            } else {
+                target[targetOffset + row] = 0;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+
+    /**
+     * Parses a column of decimal text into floats.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as zero
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final float[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            if (value == null) {
+                target[targetOffset + row] = 0;
+                report.rejectNull(row);
+            } else if (NumberSyntax.isFloatingPoint(value)) {
+                target[targetOffset + row] = NumberParser.parseFloat(value, 0, value.length());
+            } else {
+                target[targetOffset + row] = 0;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+
+    /**
+     * Parses a column of decimal text into doubles.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as zero
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final double[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            if (value == null) {
+                target[targetOffset + row] = 0;
+                report.rejectNull(row);
+            } else if (NumberSyntax.isFloatingPoint(value)) {
+                target[targetOffset + row] = NumberParser.parseDouble(value, 0, value.length());
+            } else {
+                target[targetOffset + row] = 0;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+
+    /**
+     * Converts a column of int values into longs.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final int[] source, 
+            final int sourceOffset, 
+            final long[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of int values into doubles.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final int[] source, 
+            final int sourceOffset, 
+            final double[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of int values into big decimals.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final int[] source, 
+            final int sourceOffset, 
+            final BigDecimal[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = BigDecimal.valueOf(source[sourceOffset + row]);
+        }
+    }
+
+    /**
+     * Converts a column of int values into strings.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final int[] source, 
+            final int sourceOffset, 
+            final String[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = Integer.toString(source[sourceOffset + row]);
+        }
+    }
+
+    /**
+     * Converts a column of long values into ints, keeping the low-order bits as {@link Long#intValue()} does.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final long[] source, 
+            final int sourceOffset, 
+            final int[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = (int) source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of long values into doubles.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final long[] source, 
+            final int sourceOffset, 
+            final double[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = (double) source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of long values into big decimals.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final long[] source, 
+            final int sourceOffset, 
+            final BigDecimal[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = BigDecimal.valueOf(source[sourceOffset + row]);
+        }
+    }
+
+    /**
+     * Converts a column of long values into strings.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final long[] source, 
+            final int sourceOffset, 
+            final String[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = Long.toString(source[sourceOffset + row]);
+        }
+    }
+
+    /**
+     * Converts a column of double values into ints, truncating as {@link Double#intValue()} does.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final double[] source, 
+            final int sourceOffset, 
+            final int[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = (int) source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of double values into longs, truncating as {@link Double#longValue()} does.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final double[] source, 
+            final int sourceOffset, 
+            final long[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = (long) source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of double values into floats.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final double[] source, 
+            final int sourceOffset, 
+            final float[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = (float) source[sourceOffset + row];
+        }
+    }
+
+    /**
+     * Converts a column of double values into strings.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     */
+    public static void convert(
+            final double[] source, 
+            final int sourceOffset, 
+            final String[] target, 
+            final int targetOffset, 
+            final int length) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length);
+        
+        for (int row = 0; row < length; row++) {
+            target[targetOffset + row] = Double.toString(source[sourceOffset + row]);
+        }
+    }
+
+    /**
+     * Parses a column of decimal text into big decimals, keeping the scale of the text.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null and unparseable rows, which are stored as null
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final CharSequence[] source, 
+            final int sourceOffset, 
+            final BigDecimal[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final CharSequence value = source[sourceOffset + row];
+            
+            target[targetOffset + row] = null;
+            
+            if (value == null) {
+                report.rejectNull(row);
+            } else if (NumberSyntax.isBigDecimal(value)) {
+                target[targetOffset + row] = NumberParser.parseBigDecimal(value, 0, value.length());
+            } else {
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+    
+    /**
+     * Converts a column of double values into exact big decimals.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the NaN and infinite rows, which are stored as null
+     * @return the number of rejected rows
+     */
+    public static int convert(
+            final double[] source, 
+            final int sourceOffset, 
+            final BigDecimal[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        for (int row = 0; row < length; row++) {
+            final double value = source[sourceOffset + row];
+            
+            if (Double.isFinite(value)) {
+                target[targetOffset + row] = new BigDecimal(value);
+            } else {
+                target[targetOffset + row] = null;
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+    
+    /**
+     * Converts a column of boxed values through the registered converter of the component types of the 
+     * given arrays.
+     * @param source the source column
+     * @param sourceOffset the index of the first source row
+     * @param target the preallocated target column
+     * @param targetOffset the index of the first target row
+     * @param length the number of rows to be converted
+     * @param report receives the null rows and the rows whose conversion failed, which are stored as null
+     * @return the number of rejected rows
+     * @throws ObjectConverterException if there is no converter between the component types
+     */
+    public static int convert(
+            final Object[] source, 
+            final int sourceOffset, 
+            final Object[] target, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        checkRanges(source.length, sourceOffset, target.length, targetOffset, length, report);
+        
+        final Class<?> sourceClass = source.getClass().getComponentType();
+        final Class<?> targetClass = target.getClass().getComponentType();
+        final ConversionAttempt converter = TypeConverters
+                .findAttempt(sourceClass, targetClass)
+                .orElseThrow(() -> new ObjectConverterException(
+                        Messages.CONVERTER_NOT_FOUND, sourceClass.getName(), targetClass.getName()));
+        final ConversionResult<Object> result = new ConversionResult<>();
+        
+        for (int row = 0; row < length; row++) {
+            final Object value = source[sourceOffset + row];
+            
+            target[targetOffset + row] = null;
+            
+            if (value == null) {
+                report.rejectNull(row);
+            } else if (converter.attempt(value, result)) {
+                target[targetOffset + row] = result.getValue();
+            } else {
+                report.rejectInvalid(row);
+            }
+        }
+        
+        return report.getRejectedCount();
+    }
+    
+    private static void checkRanges(
+            final int sourceLength, 
+            final int sourceOffset, 
+            final int targetLength, 
+            final int targetOffset, 
+            final int length, 
+            final ColumnReport report) {
+        Objects.requireNonNull(report, CommonMessages.REQUIRED_PARAMETER.format(REPORT));
+        checkRanges(sourceLength, sourceOffset, targetLength, targetOffset, length);
+        report.clear();
+    }
+    
+    private static void checkRanges(
+            final int sourceLength, 
+            final int sourceOffset, 
+            final int targetLength, 
+            final int targetOffset, 
+            final int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, sourceLength);
+        Objects.checkFromIndexSize(targetOffset, length, targetLength);
+    }
+}
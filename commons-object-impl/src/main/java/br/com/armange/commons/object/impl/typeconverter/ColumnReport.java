@@ -0,0 +1,70 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.BitSet;
+
+/**
+ * The rows of a columnar conversion that could not be converted, numbered from the start of the slice.
+ */
+public final class ColumnReport {
+    private final BitSet nullRows = new BitSet();
+    private final BitSet invalidRows = new BitSet();
+    
+    /**
+     * @return the rows whose source value was null
+     */
+    public BitSet getNullRows() {
+        return nullRows;
+    }
+    
+    /**
+     * @return the rows whose source value could not be converted to the target type
+     */
+    public BitSet getInvalidRows() {
+        return invalidRows;
+    }
+    
+    /**
+     * @return the number of null and invalid rows
+     */
+    public int getRejectedCount() {
+        return nullRows.cardinality() + invalidRows.cardinality();
+    }
+    
+    /**
+     * @return true if every row was converted
+     */
+    public boolean isClean() {
+        return nullRows.isEmpty() && invalidRows.isEmpty();
+    }
+    
+    /**
+     * Forgets the rows of the previous conversion.
+     */
+    public void clear() {
+        nullRows.clear();
+        invalidRows.clear();
+    }
+    
+    void rejectNull(final int row) {
+        nullRows.set(row);
+    }
+    
+    void rejectInvalid(final int row) {
+        invalidRows.set(row);
+    }
+}
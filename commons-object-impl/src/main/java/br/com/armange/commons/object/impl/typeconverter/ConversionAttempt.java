@@ -0,0 +1,33 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+
+/**
+ * An exception-free conversion of a (source, target) pair, as found by
+ * {@link TypeConverters#findAttempt(Class, Class)}.
+ */
+@FunctionalInterface
+public interface ConversionAttempt {
+    
+    /**
+     * @param sourceObject the object to be converted
+     * @param result the holder receiving the converted object or the rejected source object
+     * @return true if the conversion succeeded
+     */
+    boolean attempt(Object sourceObject, ConversionResult<Object> result);
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+import br.com.armange.commons.message.CommonMessages;
+
+/**
+ * A bounded, concurrent cache of converted values with LRU eviction and frequency-aware (TinyLFU) admission.
+ * Null keys and values are never cached.
+ */
+public final class ConversionCache<K, V> {
+    private static final String LOADER = "loader";
+    private static final String WEIGHER = "weigher";
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_WEIGHT = 32;
+    
+    private final Segment<K, V>[] segments;
+    private final FrequencySketch sketch;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final long maximumWeight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ConversionCache(final long maximumWeight, final ToIntBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("The maximum weight must be positive: " + maximumWeight);
+        }
+        
+        final int segmentCount = Integer.highestOneBit(
+                (int) Math.max(1, Math.min(MAX_SEGMENTS, maximumWeight / MIN_SEGMENT_WEIGHT)));
+        
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.segments = new Segment[segmentCount];
+        this.sketch = new FrequencySketch((int) Math.min(maximumWeight, 1 << 20));
+        
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maximumWeight / segmentCount + (i < maximumWeight % segmentCount ? 1 : 0));
+        }
+    }
+    
+    /**
+     * @param maximumSize the maximum number of cached values
+     * @return a new cache bounded by its number of entries
+     */
+    public static <K, V> ConversionCache<K, V> ofSize(final int maximumSize) {
+        return new ConversionCache<>(maximumSize, (key, value) -> 1);
+    }
+    
+    /**
+     * @param maximumWeight the maximum total weight of the cached values
+     * @param weigher the weight of an entry, such as the length of a key or the size of a value
+     * @return a new cache bounded by the total weight of its entries
+     */
+    public static <K, V> ConversionCache<K, V> ofWeight(
+            final long maximumWeight, final ToIntBiFunction<? super K, ? super V> weigher) {
+        return new ConversionCache<>(
+                maximumWeight, Objects.requireNonNull(weigher, CommonMessages.REQUIRED_PARAMETER.format(WEIGHER)));
+    }
+    
+    /**
+     * Returns the cached value of the key, loading and offering it to the cache on a miss.
+     * @param key the source value
+     * @param loader the conversion of the source value
+     * @return the converted value
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader, CommonMessages.REQUIRED_PARAMETER.format(LOADER));
+        
+        if (key == null) {
+            return loader.apply(null);
+        }
+        
+        final V cached = getIfPresent(key);
+        
+        if (cached != null) {
+            return cached;
+        }
+        
+        final V value = loader.apply(key);
+        
+        put(key, value);
+        
+        return value;
+    }
+    
+    /**
+     * @param key the source value
+     * @return the cached value or null if it is absent, which counts as a miss
+     */
+    public V getIfPresent(final K key) {
+        if (key == null) {
+            return null;
+        }
+        
+        final int hash = spread(key.hashCode());
+        final Segment<K, V> segment = segmentOf(hash);
+        final Entry<V> entry;
+        
+        sketch.increment(hash);
+        
+        synchronized (segment) {
+            entry = segment.entries.get(key);
+        }
+        
+        if (entry == null) {
+            misses.increment();
+            
+            return null;
+        }
+        
+        hits.increment();
+        
+        return entry.value;
+    }
+    
+    /**
+     * Offers a value to the cache. It is rejected if it outweighs a segment or if it is requested less often 
+     * than the entries it would evict.
+     * @param key the source value
+     * @param value the converted value
+     */
+    public void put(final K key, final V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        
+        final int hash = spread(key.hashCode());
+        final Segment<K, V> segment = segmentOf(hash);
+        final int weight = weigher.applyAsInt(key, value);
+        
+        if (weight > segment.maximumWeight) {
+            rejections.increment();
+            
+            return;
+        }
+        
+        synchronized (segment) {
+            final Entry<V> previous = segment.entries.get(key);
+            
+            if (previous != null) {
+                segment.entries.put(key, new Entry<>(value, weight));
+                segment.weight += weight - previous.weight;
+            } else if (admit(segment, hash, weight)) {
+                segment.entries.put(key, new Entry<>(value, weight));
+                segment.weight += weight;
+            } else {
+                rejections.increment();
+            }
+        }
+    }
+    
+    /*
+     * Evicts the least recently used entries to make room for the candidate, unless one of them is at least as 
+     * frequent as the candidate, in which case nothing is evicted.
+     */
+    private boolean admit(final Segment<K, V> segment, final int hash, final int weight) {
+        final int frequency = sketch.frequency(hash);
+        long freed = 0;
+        int victims = 0;
+        
+        for (final Map.Entry<K, Entry<V>> victim : segment.entries.entrySet()) {
+            if (segment.weight - freed + weight <= segment.maximumWeight) {
+                break;
+            } else if (sketch.frequency(spread(victim.getKey().hashCode())) >= frequency) {
+                return false;
+            }
+            
+            freed += victim.getValue().weight;
+            victims++;
+        }
+        
+        final Iterator<Entry<V>> iterator = segment.entries.values().iterator();
+        
+        for (int i = 0; i < victims; i++) {
+            segment.weight -= iterator.next().weight;
+            iterator.remove();
+            evictions.increment();
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Removes every cached value. The counters and the frequency history are kept.
+     */
+    public void clear() {
+        for (final Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+    
+    /**
+     * @return the number of cached values
+     */
+    public int size() {
+        int result = 0;
+        
+        for (final Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                result += segment.entries.size();
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * @return the total weight of the cached values
+     */
+    public long getWeight() {
+        long result = 0;
+        
+        for (final Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                result += segment.weight;
+            }
+        }
+        
+        return result;
+    }
+    
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    /**
+     * @return the number of values removed to make room for more frequent ones
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    
+    /**
+     * @return the number of values that were not admitted
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+    
+    private Segment<K, V> segmentOf(final int hash) {
+        return segments[(hash >>> 16) & (segments.length - 1)];
+    }
+    
+    private static int spread(final int hashCode) {
+        final int hash = hashCode * 0x9E3779B9;
+        
+        return hash ^ (hash >>> 16);
+    }
+    
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maximumWeight;
+        private long weight;
+        
+        private Segment(final long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+    
+    private static final class Entry<V> {
+        private final V value;
+        private final int weight;
+        
+        private Entry(final V value, final int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+    
+    /*
+     * A count-min sketch of four rows of saturating counters. Concurrent updates are not synchronized: a lost 
+     * increment only makes the estimate slightly lower, which the admission policy tolerates.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97CB3127, 0xB492B66F, 0x9AE16A3B, 0xC2B2AE35};
+        private static final int MAX_FREQUENCY = 15;
+        private static final int SAMPLE_FACTOR = 10;
+        
+        private final int[] counters;
+        private final int width;
+        private final int sampleSize;
+        private int additions;
+        
+        private FrequencySketch(final int expectedEntries) {
+            this.width = Integer.highestOneBit(Math.max(16, expectedEntries - 1) << 1);
+            this.counters = new int[SEEDS.length * width];
+            this.sampleSize = SAMPLE_FACTOR * width;
+        }
+        
+        private void increment(final int hash) {
+            boolean added = false;
+            
+            for (int row = 0; row < SEEDS.length; row++) {
+                final int index = indexOf(hash, row);
+                
+                if (counters[index] < MAX_FREQUENCY) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+        
+        private int frequency(final int hash) {
+            int result = MAX_FREQUENCY;
+            
+            for (int row = 0; row < SEEDS.length; row++) {
+                result = Math.min(result, counters[indexOf(hash, row)]);
+            }
+            
+            return result;
+        }
+        
+        /*
+         * Halves every counter, so the sketch follows the recent popularity of the keys.
+         */
+        private void reset() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>>= 1;
+            }
+            
+            additions = sampleSize / 2;
+        }
+        
+        private int indexOf(final int hash, final int row) {
+            int result = hash * SEEDS[row];
+            
+            result ^= result >>> 15;
+            
+            return row * width + (result & (width - 1));
+        }
+    }
+}
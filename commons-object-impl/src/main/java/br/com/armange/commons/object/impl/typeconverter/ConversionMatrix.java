@@ -0,0 +1,358 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.string.NumberParser;
+import br.com.armange.commons.object.impl.typeconverter.string.NumberSyntax;
+
+/**
+ * Precomputed conversions between the built-in value types, each entry holding the code of its own pair, as 
+ * served by {@link TypeConverters} unless a converter registered outside of this library replaces the pair.
+ */
+public final class ConversionMatrix {
+    private static final int BOOLEAN = 0;
+    private static final int BYTE = 1;
+    private static final int CHARACTER = 2;
+    private static final int SHORT = 3;
+    private static final int INTEGER = 4;
+    private static final int LONG = 5;
+    private static final int FLOAT = 6;
+    private static final int DOUBLE = 7;
+    private static final int BIG_DECIMAL = 8;
+    private static final int STRING = 9;
+    private static final int TYPES = 10;
+    private static final Class<?>[] BOXES = {
+        Boolean.class, Byte.class, Character.class, Short.class, Integer.class, 
+        Long.class, Float.class, Double.class, BigDecimal.class, String.class
+    };
+    private static final Class<?>[] PRIMITIVES = {
+        boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+    };
+    private static final Function<Object, Object>[] FUNCTIONS = functions();
+    private static final ConversionAttempt[] ATTEMPTS = attempts();
+    
+    private ConversionMatrix() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * @param sourceClass any class
+     * @param targetClass any class
+     * @return true if both classes are built-in value types, either primitive or boxed
+     */
+    public static boolean supports(final Class<?> sourceClass, final Class<?> targetClass) {
+        return ordinalOf(sourceClass) >= 0 && ordinalOf(targetClass) >= 0;
+    }
+    
+    /**
+     * @param sourceClass the class of the values to be converted
+     * @param targetClass the class of the converted values
+     * @return the conversion of the pair, which converts null to null
+     * @throws ObjectConverterException if any of the classes is not a built-in value type
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <S, T> Function<S, T> of(final Class<S> sourceClass, final Class<T> targetClass) {
+        final Function function = functionOf(sourceClass, targetClass);
+        
+        if (function == null) {
+            throw new ObjectConverterException(
+                    Messages.CONVERTER_NOT_FOUND, sourceClass.getName(), targetClass.getName());
+        }
+        
+        return function;
+    }
+    
+    static Function<Object, Object> functionOf(final Class<?> sourceClass, final Class<?> targetClass) {
+        final int index = indexOf(sourceClass, targetClass);
+        
+        return index >= 0 ? FUNCTIONS[index] : null;
+    }
+    
+    static ConversionAttempt attemptOf(final Class<?> sourceClass, final Class<?> targetClass) {
+        final int index = indexOf(sourceClass, targetClass);
+        
+        return index >= 0 ? ATTEMPTS[index] : null;
+    }
+    
+    private static int indexOf(final Class<?> sourceClass, final Class<?> targetClass) {
+        final int source = ordinalOf(sourceClass);
+        final int target = ordinalOf(targetClass);
+        
+        return source >= 0 && target >= 0 ? source * TYPES + target : -1;
+    }
+    
+    private static int ordinalOf(final Class<?> type) {
+        for (int i = 0; i < TYPES; i++) {
+            if (BOXES[i] == type || (i < PRIMITIVES.length && PRIMITIVES[i] == type)) {
+                return i;
+            }
+        }
+        
+        return -1;
+    }
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<Object, Object>[] functions() {
+        final Function<Object, Object>[] result = new Function[TYPES * TYPES];
+        
+        for (int source = 0; source < TYPES; source++) {
+            for (int target = 0; target < TYPES; target++) {
+                result[source * TYPES + target] = functionOf(source, target);
+            }
+        }
+        
+        return result;
+    }
+    
+    private static ConversionAttempt[] attempts() {
+        final ConversionAttempt[] result = new ConversionAttempt[TYPES * TYPES];
+        
+        for (int source = 0; source < TYPES; source++) {
+            for (int target = 0; target < TYPES; target++) {
+                result[source * TYPES + target] = attemptOf(source, target, FUNCTIONS[source * TYPES + target]);
+            }
+        }
+        
+        return result;
+    }
+    
+    private static Function<Object, Object> functionOf(final int source, final int target) {
+        if (source == target) {
+            return value -> value;
+        } else if (target == STRING) {
+            return value -> value != null ? value.toString() : null;
+        }
+        
+        switch (source) {
+        case BOOLEAN:
+            return fromBoolean(target);
+        case CHARACTER:
+            return fromCharacter(target);
+        case FLOAT:
+        case DOUBLE:
+            return fromFloatingPoint(target);
+        case BIG_DECIMAL:
+            return fromBigDecimal(target);
+        case STRING:
+            return fromString(target);
+        default:
+            return fromIntegral(target);
+        }
+    }
+    
+    /*
+     * Mirrors the checks of the converters overriding tryConvert, so no conversion of the table throws.
+     */
+    private static ConversionAttempt attemptOf(
+            final int source, final int target, final Function<Object, Object> function) {
+        if (source == STRING) {
+            switch (target) {
+            case BYTE:
+                return (value, conversion) -> value == null 
+                        || NumberSyntax.isInteger((String) value, Byte.MIN_VALUE, Byte.MAX_VALUE) 
+                            ? conversion.succeed(function.apply(value)) 
+                            : conversion.fail(value);
+            case SHORT:
+                return (value, conversion) -> value == null 
+                        || NumberSyntax.isInteger((String) value, Short.MIN_VALUE, Short.MAX_VALUE) 
+                            ? conversion.succeed(function.apply(value)) 
+                            : conversion.fail(value);
+            case INTEGER:
+                return (value, conversion) -> value == null 
+                        || NumberSyntax.isInteger((String) value, Integer.MIN_VALUE, Integer.MAX_VALUE) 
+                            ? conversion.succeed(function.apply(value)) 
+                            : conversion.fail(value);
+            case LONG:
+                return (value, conversion) -> value == null 
+                        || NumberSyntax.isInteger((String) value, Long.MIN_VALUE, Long.MAX_VALUE) 
+                            ? conversion.succeed(function.apply(value)) 
+                            : conversion.fail(value);
+            case FLOAT:
+            case DOUBLE:
+                return (value, conversion) -> value == null || NumberSyntax.isFloatingPoint((String) value) 
+                        ? conversion.succeed(function.apply(value)) 
+                        : conversion.fail(value);
+            case BIG_DECIMAL:
+                return (value, conversion) -> value == null || NumberSyntax.isBigDecimal((String) value) 
+                        ? conversion.succeed(function.apply(value)) 
+                        : conversion.fail(value);
+            default:
+                break;
+            }
+        } else if (target == BIG_DECIMAL && (source == FLOAT || source == DOUBLE)) {
+            return (value, conversion) -> value == null || Double.isFinite(((Number) value).doubleValue()) 
+                    ? conversion.succeed(function.apply(value)) 
+                    : conversion.fail(value);
+        }
+        
+        return (value, conversion) -> conversion.succeed(function.apply(value));
+    }
+    
+    private static Function<Object, Object> fromBoolean(final int target) {
+        switch (target) {
+        case BYTE:
+            return value -> value != null ? (byte) ((Boolean) value ? 1 : 0) : null;
+        case CHARACTER:
+            return value -> value != null ? (char) ((Boolean) value ? 1 : 0) : null;
+        case SHORT:
+            return value -> value != null ? (short) ((Boolean) value ? 1 : 0) : null;
+        case INTEGER:
+            return value -> value != null ? ((Boolean) value ? 1 : 0) : null;
+        case LONG:
+            return value -> value != null ? ((Boolean) value ? 1L : 0L) : null;
+        case FLOAT:
+            return value -> value != null ? ((Boolean) value ? 1F : 0F) : null;
+        case DOUBLE:
+            return value -> value != null ? ((Boolean) value ? 1D : 0D) : null;
+        default:
+            return value -> value != null ? BigDecimal.valueOf((Boolean) value ? 1 : 0) : null;
+        }
+    }
+    
+    private static Function<Object, Object> fromCharacter(final int target) {
+        switch (target) {
+        case BOOLEAN:
+            return value -> value != null ? toBoolean((Character) value) : null;
+        case BYTE:
+            return value -> value != null ? (byte) ((Character) value).charValue() : null;
+        case SHORT:
+            return value -> value != null ? (short) ((Character) value).charValue() : null;
+        case INTEGER:
+            return value -> value != null ? (int) ((Character) value).charValue() : null;
+        case LONG:
+            return value -> value != null ? (long) ((Character) value).charValue() : null;
+        case FLOAT:
+            return value -> value != null ? (float) ((Character) value).charValue() : null;
+        case DOUBLE:
+            return value -> value != null ? (double) ((Character) value).charValue() : null;
+        default:
+            return value -> value != null ? BigDecimal.valueOf(((Character) value).charValue()) : null;
+        }
+    }
+    
+    /*
+     * Byte, Short, Integer and Long sources, which are narrowed like their long value.
+     */
+    private static Function<Object, Object> fromIntegral(final int target) {
+        switch (target) {
+        case BOOLEAN:
+            return value -> value != null ? ((Number) value).longValue() != 0 : null;
+        case BYTE:
+            return value -> value != null ? ((Number) value).byteValue() : null;
+        case CHARACTER:
+            return value -> value != null ? (char) ((Number) value).longValue() : null;
+        case SHORT:
+            return value -> value != null ? ((Number) value).shortValue() : null;
+        case INTEGER:
+            return value -> value != null ? ((Number) value).intValue() : null;
+        case LONG:
+            return value -> value != null ? ((Number) value).longValue() : null;
+        case FLOAT:
+            return value -> value != null ? (float) ((Number) value).longValue() : null;
+        case DOUBLE:
+            return value -> value != null ? (double) ((Number) value).longValue() : null;
+        default:
+            return value -> value != null ? BigDecimal.valueOf(((Number) value).longValue()) : null;
+        }
+    }
+    
+    /*
+     * Float and Double sources, which are narrowed like their double value.
+     */
+    private static Function<Object, Object> fromFloatingPoint(final int target) {
+        switch (target) {
+        case BOOLEAN:
+            return value -> value != null ? Math.abs(((Number) value).doubleValue()) > 0 : null;
+        case BYTE:
+            return value -> value != null ? (byte) ((Number) value).doubleValue() : null;
+        case CHARACTER:
+            return value -> value != null ? (char) ((Number) value).doubleValue() : null;
+        case SHORT:
+            return value -> value != null ? (short) ((Number) value).doubleValue() : null;
+        case INTEGER:
+            return value -> value != null ? (int) ((Number) value).doubleValue() : null;
+        case LONG:
+            return value -> value != null ? (long) ((Number) value).doubleValue() : null;
+        case FLOAT:
+            return value -> value != null ? (float) ((Number) value).doubleValue() : null;
+        case DOUBLE:
+            return value -> value != null ? ((Number) value).doubleValue() : null;
+        default:
+            return value -> value != null ? new BigDecimal(((Number) value).doubleValue()) : null;
+        }
+    }
+    
+    private static Function<Object, Object> fromBigDecimal(final int target) {
+        switch (target) {
+        case BOOLEAN:
+            return value -> value != null ? ((BigDecimal) value).signum() != 0 : null;
+        case BYTE:
+            return value -> value != null ? ((BigDecimal) value).byteValue() : null;
+        case CHARACTER:
+            return value -> value != null ? (char) ((BigDecimal) value).intValue() : null;
+        case SHORT:
+            return value -> value != null ? ((BigDecimal) value).shortValue() : null;
+        case INTEGER:
+            return value -> value != null ? ((BigDecimal) value).intValue() : null;
+        case LONG:
+            return value -> value != null ? ((BigDecimal) value).longValue() : null;
+        case FLOAT:
+            return value -> value != null ? ((BigDecimal) value).floatValue() : null;
+        default:
+            return value -> value != null ? ((BigDecimal) value).doubleValue() : null;
+        }
+    }
+    
+    private static Function<Object, Object> fromString(final int target) {
+        switch (target) {
+        case BOOLEAN:
+            return value -> value != null ? Boolean.valueOf((String) value) : null;
+        case BYTE:
+            return value -> value != null ? Byte.valueOf((String) value) : null;
+        case CHARACTER:
+            return value -> value != null ? firstCharacterOf((String) value) : null;
+        case SHORT:
+            return value -> value != null ? Short.valueOf((String) value) : null;
+        case INTEGER:
+            return value -> value != null ? Integer.valueOf((String) value) : null;
+        case LONG:
+            return value -> value != null ? Long.valueOf((String) value) : null;
+        case FLOAT:
+            return value -> value != null ? Float.valueOf((String) value) : null;
+        case DOUBLE:
+            return value -> value != null ? Double.valueOf((String) value) : null;
+        default:
+            return value -> value != null ? parseBigDecimal((String) value) : null;
+        }
+    }
+    
+    private static boolean toBoolean(final char value) {
+        return value == '1' || value == 't' || value == 'T';
+    }
+    
+    private static char firstCharacterOf(final String value) {
+        return value.isEmpty() ? Character.MIN_VALUE : value.charAt(0);
+    }
+    
+    private static BigDecimal parseBigDecimal(final String value) {
+        return NumberParser.parseBigDecimal(value, 0, value.length());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import br.com.armange.commons.message.CommonMessages;
+
+/**
+ * Opt-in counts, failures and latency histograms of the conversions by (source, target) pair.
+ */
+public final class ConversionMetrics {
+    
+    /**
+     * The system property enabling the metrics when it is true.
+     */
+    public static final String ENABLED_PROPERTY = "br.com.armange.commons.object.metrics";
+    private static final String SOURCE_CLASS = "sourceClass";
+    private static final String TARGET_CLASS = "targetClass";
+    private static final Map<TypePair, ConversionRecorder> RECORDERS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    
+    private ConversionMetrics() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Starts recording the conversions.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+    
+    /**
+     * Stops recording the conversions and keeps the recorded metrics.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+    
+    /**
+     * @return true if the conversions are being recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Clears the recorded metrics of every pair.
+     */
+    public static void reset() {
+        RECORDERS.values().forEach(ConversionRecorder::reset);
+    }
+    
+    /**
+     * @return the metrics of the pairs converted since they were last reset, by pair
+     */
+    public static Map<TypePair, ConversionStats> snapshot() {
+        final Map<TypePair, ConversionStats> result = new LinkedHashMap<>();
+        
+        RECORDERS.forEach((pair, recorder) -> {
+            if (recorder.getCount() > 0) {
+                result.put(pair, recorder.snapshot(pair));
+            }
+        });
+        
+        return Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Records a conversion made outside of the converters found by {@link TypeConverters}, if metrics are 
+     * enabled.
+     * @param sourceClass the class of the converted object
+     * @param targetClass the class of the conversion
+     * @param nanos the latency of the conversion
+     * @param failed true if the conversion failed
+     */
+    public static void record(
+            final Class<?> sourceClass, final Class<?> targetClass, final long nanos, final boolean failed) {
+        Objects.requireNonNull(sourceClass, CommonMessages.REQUIRED_PARAMETER.format(SOURCE_CLASS));
+        Objects.requireNonNull(targetClass, CommonMessages.REQUIRED_PARAMETER.format(TARGET_CLASS));
+        
+        if (enabled) {
+            recorderOf(TypePair.of(sourceClass, targetClass)).record(nanos, failed);
+        }
+    }
+    
+    /*
+     * Wraps the conversion whether or not metrics are enabled, so that the conversions kept by bean plans are 
+     * recorded as soon as metrics are enabled at runtime.
+     */
+    static Function<Object, Object> instrumented(final TypePair pair, final Function<Object, Object> function) {
+        if (isAssignable(pair)) {
+            return function;
+        }
+        
+        final ConversionRecorder recorder = recorderOf(pair);
+        
+        return value -> {
+            if (!enabled) {
+                return function.apply(value);
+            }
+            
+            final long start = System.nanoTime();
+            boolean failed = true;
+            
+            try {
+                final Object result = function.apply(value);
+                
+                failed = false;
+                
+                return result;
+            } finally {
+                recorder.record(System.nanoTime() - start, failed);
+            }
+        };
+    }
+    
+    static ConversionAttempt instrumented(final TypePair pair, final ConversionAttempt attempt) {
+        if (isAssignable(pair)) {
+            return attempt;
+        }
+        
+        final ConversionRecorder recorder = recorderOf(pair);
+        
+        return (value, result) -> {
+            if (!enabled) {
+                return attempt.attempt(value, result);
+            }
+            
+            final long start = System.nanoTime();
+            boolean converted = false;
+            
+            try {
+                converted = attempt.attempt(value, result);
+                
+                return converted;
+            } finally {
+                recorder.record(System.nanoTime() - start, !converted);
+            }
+        };
+    }
+    
+    private static boolean isAssignable(final TypePair pair) {
+        return pair.getTargetClass().isAssignableFrom(pair.getSourceClass());
+    }
+    
+    private static ConversionRecorder recorderOf(final TypePair pair) {
+        return RECORDERS.computeIfAbsent(pair, key -> new ConversionRecorder());
+    }
+}
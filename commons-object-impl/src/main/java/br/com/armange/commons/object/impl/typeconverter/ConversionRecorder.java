@@ -0,0 +1,131 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The striped counters and log-linear latency histogram of the conversions of a pair.
+ */
+final class ConversionRecorder {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS << 1;
+    private static final int LINEAR_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int STRIPES = stripes();
+    static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - LINEAR_EXPONENT) * SUB_BUCKETS;
+    
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+    
+    void record(final long nanos, final boolean failed) {
+        final long latency = Math.max(nanos, 0);
+        
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+        
+        if (failed) {
+            failures.increment();
+        }
+        
+        stripe().incrementAndGet(bucketOf(latency));
+    }
+    
+    /*
+     * Conversions recorded while resetting may be partially kept.
+     */
+    void reset() {
+        count.reset();
+        failures.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.set(i, null);
+        }
+    }
+    
+    long getCount() {
+        return count.sum();
+    }
+    
+    ConversionStats snapshot(final TypePair pair) {
+        final long[] histogram = new long[BUCKETS];
+        
+        for (int i = 0; i < STRIPES; i++) {
+            final AtomicLongArray stripe = stripes.get(i);
+            
+            for (int j = 0; stripe != null && j < BUCKETS; j++) {
+                histogram[j] += stripe.get(j);
+            }
+        }
+        
+        return new ConversionStats(
+                pair, count.sum(), failures.sum(), totalNanos.sum(), maxNanos.get(), histogram);
+    }
+    
+    static int bucketOf(final long nanos) {
+        if (nanos < LINEAR_BUCKETS) {
+            return (int) nanos;
+        }
+        
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        
+        return LINEAR_BUCKETS + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * @param bucket any bucket index
+     * @return the greatest latency in nanoseconds counted in the bucket
+     */
+    static long upperBoundOf(final int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        
+        final int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_EXPONENT;
+        final long subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        final long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+    
+    private AtomicLongArray stripe() {
+        final int index = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        AtomicLongArray stripe = stripes.get(index);
+        
+        while (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS));
+            stripe = stripes.get(index);
+        }
+        
+        return stripe;
+    }
+    
+    private static int stripes() {
+        final int processors = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+        
+        return Integer.highestOneBit(Math.max(processors, 1) * 2 - 1);
+    }
+}
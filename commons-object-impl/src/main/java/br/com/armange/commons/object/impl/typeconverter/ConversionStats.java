@@ -0,0 +1,140 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A point-in-time copy of the metrics of the conversions of a pair. Latencies are in nanoseconds.
+ */
+public final class ConversionStats {
+    private final TypePair typePair;
+    private final long count;
+    private final long failureCount;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+    
+    ConversionStats(
+            final TypePair typePair, 
+            final long count, 
+            final long failureCount, 
+            final long totalNanos, 
+            final long maxNanos, 
+            final long[] histogram) {
+        this.typePair = typePair;
+        this.count = count;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram;
+    }
+    
+    /**
+     * @return the (source, target) pair of the conversions
+     */
+    public TypePair getTypePair() {
+        return typePair;
+    }
+    
+    /**
+     * @return the number of conversions, including the failed ones
+     */
+    public long getCount() {
+        return count;
+    }
+    
+    /**
+     * @return the number of conversions that threw an exception or could not convert their value
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+    
+    /**
+     * @return the sum of the latencies of the conversions
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+    
+    /**
+     * @return the mean latency of the conversions or 0 if there was none
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+    
+    /**
+     * @return the greatest latency of the conversions
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+    
+    /**
+     * @param percentile the percentile from 0 to 100
+     * @return the upper bound of the bucket holding the given percentile of the latencies, or 0 if there was no 
+     * conversion
+     */
+    public long getPercentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+        }
+        
+        long total = 0;
+        
+        for (final long bucketCount : histogram) {
+            total += bucketCount;
+        }
+        
+        final long rank = Math.max((long) Math.ceil(total * percentile / 100), 1);
+        long seen = 0;
+        
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            
+            if (seen >= rank) {
+                return Math.min(ConversionRecorder.upperBoundOf(i), maxNanos);
+            }
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * @return the number of conversions by upper bound of their latency bucket, for the non-empty buckets only
+     */
+    public SortedMap<Long, Long> getBuckets() {
+        final SortedMap<Long, Long> result = new TreeMap<>();
+        
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) {
+                result.put(ConversionRecorder.upperBoundOf(i), histogram[i]);
+            }
+        }
+        
+        return Collections.unmodifiableSortedMap(result);
+    }
+    
+    @Override
+    public String toString() {
+        return typePair + " count=" + count + " failures=" + failureCount + " mean=" + getMeanNanos() 
+                + "ns p99=" + getPercentileNanos(99) + "ns max=" + maxNanos + "ns";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+
+/**
+ * A {@link TypeConverter} decorator that serves repeated source values from a {@link ConversionCache}.
+ */
+public final class MemoizingConverter<S, T> implements TypeConverter<S, T> {
+    private static final String DELEGATE = "delegate";
+    private static final String CACHE = "cache";
+    
+    private final TypeConverter<S, T> delegate;
+    private final ConversionCache<S, T> cache;
+    private S sourceObject;
+    
+    /**
+     * @param delegate the converter of the values missing from the cache
+     * @param cache the cache of converted values
+     */
+    public MemoizingConverter(final TypeConverter<S, T> delegate, final ConversionCache<S, T> cache) {
+        this.delegate = Objects.requireNonNull(delegate, CommonMessages.REQUIRED_PARAMETER.format(DELEGATE));
+        this.cache = Objects.requireNonNull(cache, CommonMessages.REQUIRED_PARAMETER.format(CACHE));
+    }
+    
+    @Override
+    public TypeConverter<S, T> from(final S sourceObject) {
+        this.sourceObject = sourceObject;
+        
+        return this;
+    }
+
+    @Override
+    public T to(final Class<T> targetClass) {
+        return cache.get(sourceObject, key -> delegate.from(key).to(targetClass));
+    }
+    
+    @Override
+    public boolean tryConvert(final S sourceObject, final Class<T> targetClass, final ConversionResult<T> result) {
+        final T cached = cache.getIfPresent(sourceObject);
+        
+        if (cached != null) {
+            return result.succeed(cached);
+        } else if (delegate.tryConvert(sourceObject, targetClass, result)) {
+            cache.put(sourceObject, result.getValue());
+            
+            return true;
+        }
+        
+        return false;
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return delegate.matches(sourceObject, targetClass);
+    }
+}
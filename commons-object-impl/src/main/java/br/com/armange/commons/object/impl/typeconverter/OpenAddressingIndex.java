@@ -0,0 +1,141 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.Arrays;
+
+/**
+ * An immutable open-addressing table from key hashes to key positions, whose hash seed is searched when the 
+ * table is built so that every key of a usual key set lands in its own slot.
+ */
+public final class OpenAddressingIndex {
+    private static final int SEED_ATTEMPTS = 64;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    
+    private final int[] slots;
+    private final int seed;
+    private final int shift;
+    
+    /**
+     * @param hashes the hashes of distinct keys, whose positions are their indexes in the array
+     */
+    public OpenAddressingIndex(final int[] hashes) {
+        this(hashes, (existing, candidate) -> false);
+    }
+    
+    /**
+     * @param hashes the hashes of the keys, whose positions are their indexes in the array
+     * @param duplicates tells whether a key equals a previous one, in which case it is left out of the table
+     */
+    public OpenAddressingIndex(final int[] hashes, final Duplicates duplicates) {
+        final int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, hashes.length * 4 - 1)));
+        
+        this.shift = 32 - bits;
+        this.slots = new int[1 << bits];
+        this.seed = fill(hashes, duplicates);
+    }
+    
+    /**
+     * @param hash the hash of a key
+     * @return the first slot to be probed for the key
+     */
+    public int slotOf(final int hash) {
+        return slotOf(hash, seed);
+    }
+    
+    /**
+     * @param slot any slot
+     * @return the position of the key in the slot or -1 if the slot is empty, which ends a probe
+     */
+    public int positionAt(final int slot) {
+        return slots[slot] - 1;
+    }
+    
+    /**
+     * @param slot any slot
+     * @return the slot to be probed after the given one
+     */
+    public int next(final int slot) {
+        return (slot + 1) & (slots.length - 1);
+    }
+    
+    /*
+     * Searches a seed without collisions, falling back to the seed with the fewest collisions, which are 
+     * resolved by linear probing.
+     */
+    private int fill(final int[] hashes, final Duplicates duplicates) {
+        int bestSeed = GOLDEN_RATIO;
+        int bestCollisions = Integer.MAX_VALUE;
+        
+        for (int attempt = 0, candidate = GOLDEN_RATIO; attempt < SEED_ATTEMPTS && bestCollisions > 0; attempt++) {
+            final int collisions = tryFill(hashes, duplicates, candidate);
+            
+            if (collisions < bestCollisions) {
+                bestSeed = candidate;
+                bestCollisions = collisions;
+            }
+            
+            candidate += 2;
+        }
+        
+        if (bestCollisions > 0) {
+            tryFill(hashes, duplicates, bestSeed);
+        }
+        
+        return bestSeed;
+    }
+    
+    private int tryFill(final int[] hashes, final Duplicates duplicates, final int candidate) {
+        int result = 0;
+        
+        Arrays.fill(slots, 0);
+        
+        for (int position = 0; position < hashes.length; position++) {
+            int slot = slotOf(hashes[position], candidate);
+            boolean duplicate = false;
+            
+            while (slots[slot] != 0 && !duplicate) {
+                duplicate = duplicates.test(slots[slot] - 1, position);
+                result += duplicate ? 0 : 1;
+                slot = next(slot);
+            }
+            
+            if (!duplicate) {
+                slots[slot] = position + 1;
+            }
+        }
+        
+        return result;
+    }
+    
+    private int slotOf(final int hash, final int candidate) {
+        return (hash * candidate) >>> shift;
+    }
+    
+    /**
+     * Tells whether the key at a position equals the key of a previous position.
+     */
+    @FunctionalInterface
+    public interface Duplicates {
+        
+        /**
+         * @param existing the position of a key already in the table
+         * @param candidate the position of the key being added
+         * @return true if both keys are equal
+         */
+        boolean test(int existing, int candidate);
+    }
+}
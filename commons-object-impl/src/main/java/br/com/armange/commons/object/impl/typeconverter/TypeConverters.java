@@ -0,0 +1,453 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.typeconverter.enumvalue.EnumConversions;
+import br.com.armange.commons.spi.Loader;
+import br.com.armange.commons.spi.exception.NoImplementationFoundException;
+
+/**
+ * Cached conversions by (source, target) pair, served by the {@link ConversionMatrix}, the enum conversions or chains
+ * of the registered {@link TypeConverter} implementations, where converters from outside this library come first.
+ */
+public final class TypeConverters {
+    private static final Map<Class<?>, Class<?>> WRAPPERS = wrappers();
+    private static final Map<TypePair, Optional<List<TypePair>>> CHAINS = new ConcurrentHashMap<>();
+    private static final Map<TypePair, Optional<Function<Object, Object>>> FUNCTIONS = new ConcurrentHashMap<>();
+    private static final Map<TypePair, Optional<ConversionAttempt>> ATTEMPTS = new ConcurrentHashMap<>();
+    private static final Map<TypePair, ConversionCache<Object, Object>> CACHES = new ConcurrentHashMap<>();
+    private static final Set<TypePair> OVERRIDES = ConcurrentHashMap.newKeySet();
+    private static final String BUILT_IN_PACKAGE = TypeConverters.class.getPackage().getName() + ".";
+    private static volatile Map<TypePair, MethodHandle> providers;
+    
+    private TypeConverters() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Finds a conversion function from the source class to the target class. Primitive classes are 
+     * handled as their wrappers and assignable classes are converted by identity.
+     * @param sourceClass the class of the values to be converted
+     * @param targetClass the class of the converted values
+     * @return the cached conversion function or an empty optional if there is no registered converter
+     */
+    public static Optional<Function<Object, Object>> find(final Class<?> sourceClass, final Class<?> targetClass) {
+        return FUNCTIONS.computeIfAbsent(
+                TypePair.of(wrap(sourceClass), wrap(targetClass)), 
+                pair -> functionOf(pair)
+                        .map(function -> ConversionMetrics.instrumented(pair, memoized(pair, function))));
+    }
+    
+    /**
+     * Finds an exception-free conversion from the source class to the target class, which is served by 
+     * {@link TypeConverter#tryConvert(Object, Class, ConversionResult)} of the same converters as 
+     * {@link #find(Class, Class)}.
+     * @param sourceClass the class of the values to be converted
+     * @param targetClass the class of the converted values
+     * @return the cached conversion attempt or an empty optional if there is no registered converter
+     */
+    public static Optional<ConversionAttempt> findAttempt(final Class<?> sourceClass, final Class<?> targetClass) {
+        return ATTEMPTS.computeIfAbsent(
+                TypePair.of(wrap(sourceClass), wrap(targetClass)), 
+                pair -> attemptOf(pair)
+                        .map(attempt -> ConversionMetrics.instrumented(pair, memoized(pair, attempt))));
+    }
+    
+    /**
+     * Memoizes the conversions of a pair, as served by {@link #find(Class, Class)} and 
+     * {@link #findAttempt(Class, Class)}, in the given cache. Bean conversion plans built before this call keep 
+     * the conversions they already found, hence the pairs of bean fields are memoized before the first 
+     * conversion of their beans.
+     * @param sourceClass the class of the values to be converted
+     * @param targetClass the class of the converted values
+     * @param cache the cache of the converted values or null to stop memoizing the pair
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> void memoize(
+            final Class<S> sourceClass, final Class<T> targetClass, final ConversionCache<? super S, T> cache) {
+        final TypePair pair = TypePair.of(wrap(sourceClass), wrap(targetClass));
+        
+        if (cache == null) {
+            CACHES.remove(pair);
+        } else {
+            CACHES.put(pair, (ConversionCache<Object, Object>) cache);
+        }
+        
+        FUNCTIONS.remove(pair);
+        ATTEMPTS.remove(pair);
+    }
+    
+    /**
+     * @return the routes resolved so far by pair, where a route is the registered pairs run in order, an empty 
+     * list for assignable pairs, or absent when the pair cannot be converted
+     */
+    public static Map<TypePair, Optional<List<TypePair>>> routes() {
+        return Collections.unmodifiableMap(new HashMap<>(CHAINS));
+    }
+    
+    /**
+     * Seeds the route of a pair, as resolved by an earlier run, so the pair is not searched again. A route is 
+     * ignored if the pair is already resolved or if one of its hops is neither registered nor built in, and an 
+     * absent route is only valid for the same {@link #registeredPairs()}.
+     * @param pair the pair
+     * @param route the route of the pair as returned by {@link #routes()}
+     * @return true if the route was seeded
+     */
+    public static boolean preload(final TypePair pair, final Optional<List<TypePair>> route) {
+        final boolean valid = route
+                .map(hops -> hops.stream().allMatch(hop -> providers().containsKey(hop) 
+                        || ConversionMatrix.supports(hop.getSourceClass(), hop.getTargetClass())))
+                .orElse(true);
+        
+        return valid && CHAINS.putIfAbsent(pair, route) == null;
+    }
+    
+    /**
+     * @return the pairs of the registered converters in registration order, which is what routes depend on
+     */
+    public static List<TypePair> registeredPairs() {
+        return new ArrayList<>(providers().keySet());
+    }
+    
+    /**
+     * @param type any class
+     * @return the wrapper class if the given class is primitive, otherwise the class itself
+     */
+    public static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? WRAPPERS.get(type) : type;
+    }
+    
+    private static Optional<Function<Object, Object>> functionOf(final TypePair pair) {
+        Function<Object, Object> function = matrixFunctionOf(pair);
+        
+        if (function == null) {
+            function = EnumConversions.functionOf(pair.getSourceClass(), pair.getTargetClass());
+        }
+        
+        return function != null ? Optional.of(function) : chainOf(pair).map(TypeConverters::newConversionFunction);
+    }
+    
+    private static Optional<ConversionAttempt> attemptOf(final TypePair pair) {
+        ConversionAttempt attempt = matrixAttemptOf(pair);
+        
+        if (attempt == null) {
+            attempt = EnumConversions.attemptOf(pair.getSourceClass(), pair.getTargetClass());
+        }
+        
+        return attempt != null ? Optional.of(attempt) : chainOf(pair).map(TypeConverters::newConversionAttempt);
+    }
+    
+    /*
+     * The matrix conversion of a pair, unless a converter registered outside of this library replaces it.
+     */
+    private static Function<Object, Object> matrixFunctionOf(final TypePair pair) {
+        return isOverridden(pair) ? null : ConversionMatrix.functionOf(pair.getSourceClass(), pair.getTargetClass());
+    }
+    
+    private static ConversionAttempt matrixAttemptOf(final TypePair pair) {
+        return isOverridden(pair) ? null : ConversionMatrix.attemptOf(pair.getSourceClass(), pair.getTargetClass());
+    }
+    
+    private static boolean isOverridden(final TypePair pair) {
+        return ConversionMatrix.supports(pair.getSourceClass(), pair.getTargetClass()) 
+                && providers().containsKey(pair) 
+                && OVERRIDES.contains(pair);
+    }
+    
+    /*
+     * The registered pairs to be run in order, where an empty chain is an identity conversion.
+     */
+    private static Optional<List<TypePair>> chainOf(final TypePair pair) {
+        return CHAINS.computeIfAbsent(pair, TypeConverters::resolve);
+    }
+    
+    private static Optional<List<TypePair>> resolve(final TypePair pair) {
+        if (pair.getTargetClass().isAssignableFrom(pair.getSourceClass())) {
+            return Optional.of(Collections.emptyList());
+        }
+        
+        return providers().containsKey(pair) ? Optional.of(Collections.singletonList(pair)) : compose(pair);
+    }
+    
+    /*
+     * Breadth-first search over the registered pairs, so the first chain reaching the target is the shortest.
+     */
+    private static Optional<List<TypePair>> compose(final TypePair pair) {
+        final Map<Class<?>, TypePair> reachedBy = new HashMap<>();
+        final Map<Class<?>, Class<?>> reachedFrom = new HashMap<>();
+        final Deque<Class<?>> frontier = new ArrayDeque<>();
+        
+        reachedBy.put(pair.getSourceClass(), null);
+        frontier.add(pair.getSourceClass());
+        
+        while (!frontier.isEmpty()) {
+            final Class<?> current = frontier.poll();
+            
+            for (final TypePair edge : providers().keySet()) {
+                final Class<?> next = edge.getTargetClass();
+                
+                if (edge.getSourceClass().isAssignableFrom(current) && !reachedBy.containsKey(next)) {
+                    reachedBy.put(next, edge);
+                    reachedFrom.put(next, current);
+                    
+                    if (pair.getTargetClass().isAssignableFrom(next)) {
+                        return Optional.of(pathTo(next, reachedBy, reachedFrom));
+                    }
+                    
+                    frontier.add(next);
+                }
+            }
+        }
+        
+        return Optional.empty();
+    }
+    
+    private static List<TypePair> pathTo(
+            final Class<?> last, final Map<Class<?>, TypePair> reachedBy, final Map<Class<?>, Class<?>> reachedFrom) {
+        final Deque<TypePair> result = new ArrayDeque<>();
+        
+        for (Class<?> node = last; reachedBy.get(node) != null; node = reachedFrom.get(node)) {
+            result.addFirst(reachedBy.get(node));
+        }
+        
+        return Collections.unmodifiableList(new ArrayList<>(result));
+    }
+    
+    private static Function<Object, Object> memoized(final TypePair pair, final Function<Object, Object> function) {
+        final ConversionCache<Object, Object> cache = CACHES.get(pair);
+        
+        return cache == null ? function : value -> cache.get(value, function);
+    }
+    
+    private static ConversionAttempt memoized(final TypePair pair, final ConversionAttempt attempt) {
+        final ConversionCache<Object, Object> cache = CACHES.get(pair);
+        
+        if (cache == null) {
+            return attempt;
+        }
+        
+        return (value, result) -> {
+            final Object cached = cache.getIfPresent(value);
+            
+            if (cached != null) {
+                return result.succeed(cached);
+            } else if (attempt.attempt(value, result)) {
+                cache.put(value, result.getValue());
+                
+                return true;
+            }
+            
+            return false;
+        };
+    }
+    
+    /*
+     * Fuses the chain into a single function in which every hop holds its own converter constructor.
+     */
+    private static Function<Object, Object> newConversionFunction(final List<TypePair> chain) {
+        Function<Object, Object> result = null;
+        
+        for (final TypePair hop : chain) {
+            final Function<Object, Object> matrixHop = matrixFunctionOf(hop);
+            final Function<Object, Object> next = matrixHop != null 
+                    ? matrixHop 
+                    : newConversionFunction(providers().get(hop), hop.getTargetClass());
+            
+            result = result == null ? next : result.andThen(next);
+        }
+        
+        return result == null ? Function.identity() : result;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<Object, Object> newConversionFunction(
+            final MethodHandle constructor, final Class targetClass) {
+        return value -> {
+            try {
+                return ((TypeConverter) constructor.invoke()).from(value).to(targetClass);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new ObjectConverterException(e);
+            }
+        };
+    }
+    
+    /*
+     * Every hop of a chain writes into the same result, and a failure reports the original source value.
+     */
+    private static ConversionAttempt newConversionAttempt(final List<TypePair> chain) {
+        ConversionAttempt result = null;
+        
+        for (final TypePair hop : chain) {
+            final ConversionAttempt previous = result;
+            final ConversionAttempt matrixHop = matrixAttemptOf(hop);
+            final ConversionAttempt next = matrixHop != null 
+                    ? matrixHop 
+                    : newConversionAttempt(providers().get(hop), hop.getTargetClass());
+            
+            result = previous == null 
+                    ? next 
+                    : (value, conversion) -> (previous.attempt(value, conversion) 
+                            && next.attempt(conversion.getValue(), conversion)) 
+                            || conversion.fail(value);
+        }
+        
+        return result == null ? (value, conversion) -> conversion.succeed(value) : result;
+    }
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ConversionAttempt newConversionAttempt(final MethodHandle constructor, final Class targetClass) {
+        return (value, conversion) -> {
+            final TypeConverter converter;
+            
+            try {
+                converter = (TypeConverter) constructor.invoke();
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new ObjectConverterException(e);
+            }
+            
+            return converter.tryConvert(value, targetClass, (ConversionResult) conversion);
+        };
+    }
+    
+    private static Map<TypePair, MethodHandle> providers() {
+        Map<TypePair, MethodHandle> result = providers;
+        
+        if (result == null) {
+            synchronized (TypeConverters.class) {
+                result = providers;
+                
+                if (result == null) {
+                    result = loadProviders();
+                    providers = result;
+                }
+            }
+        }
+        
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private static Map<TypePair, MethodHandle> loadProviders() {
+        final Map<TypePair, MethodHandle> result = new LinkedHashMap<>();
+        final List<TypeConverter> converters;
+        
+        try {
+            converters = Loader.loadServices(TypeConverter.class);
+        } catch (final NoImplementationFoundException e) {
+            return Collections.emptyMap();
+        }
+        
+        for (final TypeConverter converter : converters) {
+            final TypePair pair = declaredPair(converter.getClass());
+            
+            if (pair != null && isOverride(converter.getClass(), pair) && OVERRIDES.add(pair)) {
+                result.put(pair, constructorOf(converter.getClass()));
+            } else if (pair != null) {
+                result.putIfAbsent(pair, constructorOf(converter.getClass()));
+            }
+        }
+        
+        return Collections.unmodifiableMap(result);
+    }
+    
+    /*
+     * A converter from outside this library for a pair of built-in value types replaces the built-in one.
+     */
+    private static boolean isOverride(final Class<?> converterClass, final TypePair pair) {
+        return !converterClass.getName().startsWith(BUILT_IN_PACKAGE) 
+                && ConversionMatrix.supports(pair.getSourceClass(), pair.getTargetClass());
+    }
+    
+    private static MethodHandle constructorOf(final Class<?> converterClass) {
+        try {
+            return MethodHandles
+                    .publicLookup()
+                    .findConstructor(converterClass, MethodType.methodType(void.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static TypePair declaredPair(final Type type) {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            final Type[] arguments = parameterizedType.getActualTypeArguments();
+            
+            if (!parameterizedType.getRawType().equals(TypeConverter.class)) {
+                return declaredPair(parameterizedType.getRawType());
+            } else if (arguments[0] instanceof Class && arguments[1] instanceof Class) {
+                return TypePair.of((Class<?>) arguments[0], (Class<?>) arguments[1]);
+            } else {
+                return null;
+            }
+        } else if (type instanceof Class) {
+            final Class<?> typeClass = (Class<?>) type;
+            
+            for (final Type genericInterface : typeClass.getGenericInterfaces()) {
+                final TypePair pair = declaredPair(genericInterface);
+                
+                if (pair != null) {
+                    return pair;
+                }
+            }
+            
+            return typeClass.getGenericSuperclass() != null ? declaredPair(typeClass.getGenericSuperclass()) : null;
+        }
+        
+        return null;
+    }
+    
+    private static Map<Class<?>, Class<?>> wrappers() {
+        final Map<Class<?>, Class<?>> result = new HashMap<>();
+        
+        result.put(boolean.class, Boolean.class);
+        result.put(byte.class, Byte.class);
+        result.put(char.class, Character.class);
+        result.put(short.class, Short.class);
+        result.put(int.class, Integer.class);
+        result.put(long.class, Long.class);
+        result.put(float.class, Float.class);
+        result.put(double.class, Double.class);
+        result.put(void.class, Void.class);
+        
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter;
+
+import java.util.Objects;
+
+/**
+ * An immutable (source class, target class) key of everything resolved once per conversion pair.
+ */
+public final class TypePair {
+    private final Class<?> sourceClass;
+    private final Class<?> targetClass;
+    private final int hash;
+    
+    private TypePair(final Class<?> sourceClass, final Class<?> targetClass) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.hash = 31 * sourceClass.hashCode() + targetClass.hashCode();
+    }
+    
+    public static TypePair of(final Class<?> sourceClass, final Class<?> targetClass) {
+        return new TypePair(
+                Objects.requireNonNull(sourceClass), 
+                Objects.requireNonNull(targetClass));
+    }
+
+    public Class<?> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        
+        if (!(obj instanceof TypePair)) {
+            return false;
+        }
+        
+        final TypePair other = (TypePair) obj;
+        
+        return sourceClass.equals(other.sourceClass) && targetClass.equals(other.targetClass);
+    }
+
+    @Override
+    public String toString() {
+        return sourceClass.getName() + " -> " + targetClass.getName();
+    }
+}
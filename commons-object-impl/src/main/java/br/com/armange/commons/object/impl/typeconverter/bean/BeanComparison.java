@@ -0,0 +1,365 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+
+/**
+ * Equality, hash codes and ordering of the beans of a class by a list of their fields, compiled once per
+ * class and field list.
+ */
+public final class BeanComparison<T> {
+    private static final String BEAN_CLASS = "beanClass";
+    private static final String FIELD_NAMES = "fieldNames";
+    private static final int HASH_SEED = 1;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final MethodType BITS = MethodType.methodType(long.class, Object.class);
+    private static final MethodType HASH = MethodType.methodType(int.class, Object.class);
+    private static final MethodType FLOATING = MethodType.methodType(double.class, Object.class);
+    private static final MethodType OBJECT = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<Map<List<String>, BeanComparison<?>>> COMPARISONS = 
+            new ClassValue<Map<List<String>, BeanComparison<?>>>() {
+        
+        @Override
+        protected Map<List<String>, BeanComparison<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
+    private final List<String> fieldNames;
+    private final Equality equality;
+    private final Hash hash;
+    private final Comparator<T> comparator;
+    private final Field unorderedField;
+    
+    private BeanComparison(final Class<T> beanClass, final List<String> fieldNames) {
+        final Map<String, Field> fields = FieldBinding.fieldsByName(beanClass);
+        final List<String> names = fieldNames.isEmpty() ? List.copyOf(fields.keySet()) : fieldNames;
+        Equality currentEquality = (left, right) -> true;
+        Hash currentHash = (bean, result) -> result;
+        Ordering currentOrdering = (left, right) -> 0;
+        Field unordered = null;
+        
+        for (int i = names.size() - 1; i >= 0; i--) {
+            final Field field = fields.get(names.get(i));
+            
+            if (field == null) {
+                throw new ObjectConverterException(Messages.FIELD_NOT_FOUND, names.get(i), beanClass.getName());
+            }
+            
+            final MethodHandle getter = FieldBinding.getterOf(field);
+            
+            currentEquality = equalityOf(field.getType(), getter, currentEquality);
+            currentHash = hashOf(field.getType(), getter, currentHash);
+            
+            if (isOrdered(field.getType())) {
+                currentOrdering = orderingOf(field.getType(), getter, currentOrdering);
+            } else {
+                unordered = field;
+            }
+        }
+        
+        this.fieldNames = Collections.unmodifiableList(names);
+        this.equality = currentEquality;
+        this.hash = currentHash;
+        this.comparator = unordered == null ? comparatorOf(currentOrdering) : null;
+        this.unorderedField = unordered;
+    }
+    
+    /**
+     * @param <T> the bean type
+     * @param beanClass the class of the beans
+     * @param fieldNames the compared fields in order, or none to compare every instance field of the class and 
+     * its superclasses
+     * @return the cached comparison of the class by the given fields
+     * @throws ObjectConverterException if a field is not found
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanComparison<T> of(final Class<T> beanClass, final String... fieldNames) {
+        Objects.requireNonNull(beanClass, CommonMessages.REQUIRED_PARAMETER.format(BEAN_CLASS));
+        Objects.requireNonNull(fieldNames, CommonMessages.REQUIRED_PARAMETER.format(FIELD_NAMES));
+        
+        return (BeanComparison<T>) COMPARISONS
+                .get(beanClass)
+                .computeIfAbsent(List.of(fieldNames), names -> new BeanComparison<>(beanClass, names));
+    }
+    
+    /**
+     * @return the compared fields in order
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+    
+    /**
+     * @param left any bean or null
+     * @param right any bean or null
+     * @return true if both beans are the same or null, or if their compared fields are equal
+     */
+    public boolean equals(final T left, final T right) {
+        if (left == right) {
+            return true;
+        } else if (left == null || right == null) {
+            return false;
+        }
+        
+        try {
+            return equality.test(left, right);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * @param bean any bean or null
+     * @return the hash code of the compared fields, or 0 for null
+     */
+    public int hashCode(final T bean) {
+        if (bean == null) {
+            return 0;
+        }
+        
+        try {
+            return hash.hash(bean, HASH_SEED);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * @return the comparator of the beans by the compared fields in order
+     * @throws ObjectConverterException if an object field is not comparable
+     */
+    public Comparator<T> comparator() {
+        if (comparator == null) {
+            throw new ObjectConverterException(
+                    Messages.FIELD_NOT_COMPARABLE, unorderedField.getName(), unorderedField.getType().getName());
+        }
+        
+        return comparator;
+    }
+    
+    /**
+     * @param bean any bean
+     * @return a key holding the bean, whose equality and hash code are those of this comparison, for hashed 
+     * collections such as the keys of distinct or grouped beans
+     */
+    public Object keyOf(final T bean) {
+        return new Key<>(this, bean);
+    }
+    
+    private Comparator<T> comparatorOf(final Ordering ordering) {
+        return (left, right) -> {
+            if (left == right) {
+                return 0;
+            } else if (left == null || right == null) {
+                return left == null ? -1 : 1;
+            }
+            
+            try {
+                return ordering.compare(left, right);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new ObjectConverterException(e);
+            }
+        };
+    }
+    
+    private static boolean isOrdered(final Class<?> type) {
+        return type.isPrimitive() || Comparable.class.isAssignableFrom(type);
+    }
+    
+    /*
+     * Primitive values are compared by their bits widened to long, which is the equality of their boxes.
+     */
+    private static Equality equalityOf(final Class<?> type, final MethodHandle getter, final Equality next) {
+        if (type.isPrimitive()) {
+            final MethodHandle handle = normalized(getter, type, "bitsOf", long.class, BITS);
+            
+            return (left, right) -> (long) handle.invokeExact(left) == (long) handle.invokeExact(right) 
+                    && next.test(left, right);
+        }
+        
+        final MethodHandle handle = getter.asType(OBJECT);
+        
+        return (left, right) -> Objects.equals((Object) handle.invokeExact(left), (Object) handle.invokeExact(right)) 
+                && next.test(left, right);
+    }
+    
+    private static Hash hashOf(final Class<?> type, final MethodHandle getter, final Hash next) {
+        if (type.isPrimitive()) {
+            final MethodHandle handle = normalized(getter, type, "hashOf", int.class, HASH);
+            
+            return (bean, result) -> next.hash(bean, HASH_MULTIPLIER * result + (int) handle.invokeExact(bean));
+        }
+        
+        final MethodHandle handle = getter.asType(OBJECT);
+        
+        return (bean, result) -> next.hash(
+                bean, HASH_MULTIPLIER * result + Objects.hashCode((Object) handle.invokeExact(bean)));
+    }
+    
+    /*
+     * Floating-point values are compared as doubles, which keeps the order of floats, and the other primitive 
+     * values as longs, with false before true.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Ordering orderingOf(final Class<?> type, final MethodHandle getter, final Ordering next) {
+        if (type == float.class || type == double.class) {
+            final MethodHandle handle = getter.asType(FLOATING);
+            
+            return (left, right) -> {
+                final int result = Double.compare(
+                        (double) handle.invokeExact(left), (double) handle.invokeExact(right));
+                
+                return result != 0 ? result : next.compare(left, right);
+            };
+        } else if (type.isPrimitive()) {
+            final MethodHandle handle = normalized(getter, type, "bitsOf", long.class, BITS);
+            
+            return (left, right) -> {
+                final int result = Long.compare((long) handle.invokeExact(left), (long) handle.invokeExact(right));
+                
+                return result != 0 ? result : next.compare(left, right);
+            };
+        }
+        
+        final MethodHandle handle = getter.asType(OBJECT);
+        
+        return (left, right) -> {
+            final Comparable leftValue = (Comparable) (Object) handle.invokeExact(left);
+            final Comparable rightValue = (Comparable) (Object) handle.invokeExact(right);
+            final int result;
+            
+            if (leftValue == null || rightValue == null) {
+                result = leftValue == rightValue ? 0 : leftValue == null ? -1 : 1;
+            } else {
+                result = leftValue.compareTo(rightValue);
+            }
+            
+            return result != 0 ? result : next.compare(left, right);
+        };
+    }
+    
+    /*
+     * The getter filtered by the static method of this class with the given name accepting the field type, or 
+     * only widened to the given type when there is no such method.
+     */
+    private static MethodHandle normalized(
+            final MethodHandle getter, 
+            final Class<?> fieldType, 
+            final String filterName, 
+            final Class<?> normalType, 
+            final MethodType type) {
+        try {
+            final MethodHandle filter = MethodHandles
+                    .lookup()
+                    .findStatic(BeanComparison.class, filterName, MethodType.methodType(normalType, fieldType));
+            
+            return MethodHandles.filterReturnValue(getter, filter).asType(type);
+        } catch (final NoSuchMethodException e) {
+            return getter.asType(type);
+        } catch (final IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static long bitsOf(final boolean value) {
+        return value ? 1 : 0;
+    }
+    
+    private static long bitsOf(final float value) {
+        return Float.floatToIntBits(value);
+    }
+    
+    private static long bitsOf(final double value) {
+        return Double.doubleToLongBits(value);
+    }
+    
+    private static int hashOf(final boolean value) {
+        return Boolean.hashCode(value);
+    }
+    
+    private static int hashOf(final long value) {
+        return Long.hashCode(value);
+    }
+    
+    private static int hashOf(final float value) {
+        return Float.hashCode(value);
+    }
+    
+    private static int hashOf(final double value) {
+        return Double.hashCode(value);
+    }
+    
+    @FunctionalInterface
+    private interface Equality {
+        boolean test(Object left, Object right) throws Throwable;
+    }
+    
+    @FunctionalInterface
+    private interface Hash {
+        int hash(Object bean, int result) throws Throwable;
+    }
+    
+    @FunctionalInterface
+    private interface Ordering {
+        int compare(Object left, Object right) throws Throwable;
+    }
+    
+    private static final class Key<T> {
+        private final BeanComparison<T> comparison;
+        private final T bean;
+        private final int hash;
+        
+        private Key(final BeanComparison<T> comparison, final T bean) {
+            this.comparison = comparison;
+            this.bean = bean;
+            this.hash = comparison.hashCode(bean);
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean equals(final Object other) {
+            return other instanceof Key 
+                    && ((Key<?>) other).comparison == comparison 
+                    && comparison.equals(bean, ((Key<T>) other).bean);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -16,25 +16,32 @@
 package br.com.armange.commons.object.impl.typeconverter.bean;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import br.com.armange.commons.message.CommonMessages;
 import br.com.armange.commons.object.api.typeconverter.BeanConverter;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.annotation.ConvertibleBean;
+import br.com.armange.commons.object.api.typeconverter.bean.BeanConverterMode;
 import br.com.armange.commons.object.api.typeconverter.bean.BeanConverterStrategy;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionError;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionErrorPolicy;
 import br.com.armange.commons.object.impl.exception.ObjectConverterException;
 import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMetrics;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
 import br.com.armange.commons.reflection.stream.ConstructorStream;
-import br.com.armange.commons.reflection.stream.FieldStream;
 import br.com.armange.commons.reflection.support.ConstructorSupport;
 
 public class BeanConverterImpl<S, T> implements BeanConverter<S, T> {
@@ -43,8 +50,17 @@ public class BeanConverterImpl<S, T> implements BeanConverter<S, T> {
     private static final String TARGET = "target";
     
     private S sourceObject;
-    private List<Field> sourceFields;
     private BeanConverterStrategy strategy;
+    private BeanConverterMode mode;
+    private Projection projection;
+    private String[] projectionFieldNames;
+    private ConversionErrorPolicy errorPolicy = ConversionErrorPolicy.FAIL;
+    private final List<ConversionError> conversionErrors = new ArrayList<>();
+    
+    /*
+     * The incremental conversions by source instance, which live until they are untracked.
+     */
+    private final Map<Object, IncrementalConversion<T>> incrementalConversions = new IdentityHashMap<>();
     
     @Override
     public TypeConverter<S, T> from(final S sourceObject) {
@@ -52,13 +68,6 @@ public class BeanConverterImpl<S, T> implements BeanConverter<S, T> {
         
         this.sourceObject = sourceObject;
         
-        sourceFields = FieldStream
-                .of(sourceObject.getClass())
-                .nested()
-                .declared()
-                .build()
-                .collect(Collectors.toList());
-        
         return this;
     }
 
@@ -66,25 +75,40 @@ public class BeanConverterImpl<S, T> implements BeanConverter<S, T> {
     public T to(final Class<T> targetClass) {
         Objects.requireNonNull(targetClass, CommonMessages.REQUIRED_PARAMETER.format(TARGET));
         
-        final T targetObject = ConstructorStream
-                .of(targetClass)
-                .build()
-                .parallel()
-                .filter(noParams())
-                .findFirst()
-                .map(newInstanceByConstructor())
-                .orElseThrow(newObjectConverterException(targetClass));
-
-        final List<Field> targetFields = FieldStream
-                .of(targetClass)
-                .nested()
-                .declared()
-                .build()
-                .collect(Collectors.toList());
+        conversionErrors.clear();
+        
+        if (!ConversionMetrics.isEnabled()) {
+            return convert(targetClass);
+        }
         
-        doConversionByStrategy(targetObject, targetFields);
+        final long start = System.nanoTime();
+        boolean failed = true;
+        
+        try {
+            final T result = convert(targetClass);
+            
+            failed = false;
+            
+            return result;
+        } finally {
+            ConversionMetrics.record(sourceObject.getClass(), targetClass, System.nanoTime() - start, failed);
+        }
+    }
+    
+    private T convert(final Class<T> targetClass) {
+        if (mode == BeanConverterMode.CONSTRUCTOR_INJECTION) {
+            return ConstructorInjectionPlan
+                    .of(sourceObject.getClass(), targetClass)
+                    .newInstance(sourceObject);
+        } else if (mode == BeanConverterMode.LAZY) {
+            return LazyViewPlan
+                    .of(sourceObject.getClass(), targetClass)
+                    .newView(sourceObject);
+        } else if (mode == BeanConverterMode.INCREMENTAL) {
+            return doIncrementalConversion(targetClass);
+        }
         
-        return targetObject;
+        return doConversionByStrategy(targetClass);
     }
 
     private Predicate<? super Constructor<T>> noParams() {
@@ -99,19 +123,55 @@ public class BeanConverterImpl<S, T> implements BeanConverter<S, T> {
         return () -> new ObjectConverterException(Messages.DEFAULT_CONSTRUCTOR_NOT_FOUND, targetClass.getName());
     }
     
-    private void doConversionByStrategy(final T targetObject, final List<Field> targetFields) {
+    private T doConversionByStrategy(final Class<T> targetClass) {
         switch (Optional.ofNullable(strategy).orElse(BeanConverterStrategy.SAME_NAME)) {
         case ANNOTATED:
-            break;
         case HYBRID:
-            break;
+            return ConstructorStream
+                    .of(targetClass)
+                    .build()
+                    .parallel()
+                    .filter(noParams())
+                    .findFirst()
+                    .map(newInstanceByConstructor())
+                    .orElseThrow(newObjectConverterException(targetClass));
         default:
-            new SameFieldNameStrategyConverter<>()
-                .readSource(sourceObject, sourceFields)
-                .writeInto(targetObject, targetFields);
-            break;
+            final FieldInjectionPlan<T> plan = FieldInjectionPlan.of(sourceObject.getClass(), targetClass);
+            final Projection currentProjection = projectionOf(targetClass);
+            final BitSet mask = currentProjection == null ? null : currentProjection.mask();
+            
+            if (errorPolicy != ConversionErrorPolicy.FAIL) {
+                return plan.convert(sourceObject, mask, errorPolicy, conversionErrors);
+            }
+            
+            return mask == null ? plan.convert(sourceObject) : plan.convert(sourceObject, mask);
         }
     }
+    
+    private T doIncrementalConversion(final Class<T> targetClass) {
+        IncrementalConversion<T> conversion = incrementalConversions.get(sourceObject);
+        
+        if (conversion == null || !conversion.tracks(targetClass)) {
+            conversion = IncrementalConversion.track(sourceObject, targetClass);
+            incrementalConversions.put(sourceObject, conversion);
+        }
+        
+        conversion.refresh(errorPolicy, conversionErrors);
+        
+        return conversion.getTarget();
+    }
+    
+    private Projection projectionOf(final Class<T> targetClass) {
+        final TypePair pair = TypePair.of(sourceObject.getClass(), targetClass);
+        
+        if (projectionFieldNames != null && (projection == null || !projection.getTypePair().equals(pair))) {
+            projection = Projection.of(pair.getSourceClass(), targetClass, projectionFieldNames);
+        } else if (projection != null && !projection.getTypePair().equals(pair)) {
+            throw new ObjectConverterException(Messages.PROJECTION_MISMATCH, projection.getTypePair(), pair);
+        }
+        
+        return projection;
+    }
 
     @Override
     public boolean matches(final Object source, final Class<?> targetClass) {
@@ -130,4 +190,65 @@ public class BeanConverterImpl<S, T> implements BeanConverter<S, T> {
     public void setStrategy(final BeanConverterStrategy strategy) {
         this.strategy = strategy;
     }
+    
+    /**
+     * Sets how the converter creates the target objects. In {@link BeanConverterMode#INCREMENTAL} mode, the 
+     * converter keeps every source it converts, along with its target and the snapshot of its fields, until the 
+     * source is given to {@link #untrack(Object)} or {@link #untrackAll()} is called.
+     * @param mode the mode or null for {@link BeanConverterMode#FIELD_INJECTION}
+     */
+    @Override
+    public void setMode(final BeanConverterMode mode) {
+        this.mode = mode;
+    }
+    
+    /**
+     * Releases the incremental conversion of a source, so that its next conversion creates a new target object.
+     * @param sourceObject the tracked source
+     * @return true if the source was tracked
+     */
+    public boolean untrack(final S sourceObject) {
+        return incrementalConversions.remove(sourceObject) != null;
+    }
+    
+    /**
+     * Releases the incremental conversions of every source tracked by this converter.
+     */
+    public void untrackAll() {
+        incrementalConversions.clear();
+    }
+    
+    @Override
+    public void setProjection(final String... targetFieldNames) {
+        this.projectionFieldNames = targetFieldNames;
+        this.projection = null;
+    }
+    
+    /**
+     * Restricts the field-injection conversion to the fields selected by a precompiled projection.
+     * @param projection the projection compiled for the (source, target) pair of this converter or null to 
+     * convert every field
+     */
+    public void setProjection(final Projection projection) {
+        this.projection = projection;
+        this.projectionFieldNames = null;
+    }
+    
+    /**
+     * Sets how the field-injection and incremental conversions handle a field whose value cannot be converted. 
+     * The other modes always fail with an exception.
+     * @param policy the policy or null for {@link ConversionErrorPolicy#FAIL}
+     */
+    @Override
+    public void setErrorPolicy(final ConversionErrorPolicy policy) {
+        this.errorPolicy = Optional.ofNullable(policy).orElse(ConversionErrorPolicy.FAIL);
+    }
+    
+    /**
+     * @return the fields rejected by the last conversion under the {@link ConversionErrorPolicy#COLLECT} policy
+     */
+    @Override
+    public List<ConversionError> getConversionErrors() {
+        return Collections.unmodifiableList(conversionErrors);
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A fixed-shape map of the field values of a bean, backed by an array. Keys can neither be added nor removed.
+ */
+final class BeanMap extends AbstractMap<String, Object> {
+    private final String[] keys;
+    private final KeyIndex index;
+    private final Object[] values;
+    private Set<Map.Entry<String, Object>> entries;
+    
+    BeanMap(final String[] keys, final KeyIndex index, final Object[] values) {
+        this.keys = keys;
+        this.index = index;
+        this.values = values;
+    }
+    
+    /**
+     * @param otherKeys the keys of a plan
+     * @return true if this map has exactly the given keys array, so its values are in the same positions
+     */
+    boolean hasKeys(final String[] otherKeys) {
+        return keys == otherKeys;
+    }
+    
+    Object valueAt(final int position) {
+        return values[position];
+    }
+    
+    @Override
+    public int size() {
+        return keys.length;
+    }
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return index.indexOf(key) >= 0;
+    }
+    
+    @Override
+    public Object get(final Object key) {
+        final int position = index.indexOf(key);
+        
+        return position >= 0 ? values[position] : null;
+    }
+    
+    @Override
+    public Object put(final String key, final Object value) {
+        final int position = index.indexOf(key);
+        
+        if (position < 0) {
+            throw new UnsupportedOperationException("Keys cannot be added to a bean map: " + key);
+        }
+        
+        final Object previous = values[position];
+        
+        values[position] = value;
+        
+        return previous;
+    }
+    
+    @Override
+    public Object remove(final Object key) {
+        throw new UnsupportedOperationException("Keys cannot be removed from a bean map: " + key);
+    }
+    
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Keys cannot be removed from a bean map");
+    }
+    
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entries == null) {
+            entries = new EntrySet();
+        }
+        
+        return entries;
+    }
+    
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+                private int next;
+                
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (next >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    
+                    return new Slot(next++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
+    
+    /*
+     * An entry writing through to the array.
+     */
+    private final class Slot implements Map.Entry<String, Object> {
+        private final int position;
+        
+        private Slot(final int position) {
+            this.position = position;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[position];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[position];
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            final Object previous = values[position];
+            
+            values[position] = value;
+            
+            return previous;
+        }
+        
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Map.Entry)) {
+                return false;
+            }
+            
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+            
+            return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+        
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+        
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+
+/**
+ * The compiled binding between the fields of a bean class and the keys of a {@code Map}, built once per class.
+ */
+final class BeanMapPlan<T> {
+    private static final String BEAN_CLASS = "beanClass";
+    private static final ClassValue<BeanMapPlan<?>> PLANS = new ClassValue<BeanMapPlan<?>>() {
+        
+        @Override
+        protected BeanMapPlan<?> computeValue(final Class<?> type) {
+            return new BeanMapPlan<>(type);
+        }
+    };
+    
+    private final Class<T> beanClass;
+    private final MethodHandle constructor;
+    private final String[] keys;
+    private final KeyIndex index;
+    private final Class<?>[] types;
+    private final Type[] genericTypes;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+    private final CachedConversion[] conversions;
+    
+    private BeanMapPlan(final Class<T> beanClass) {
+        final Field[] fields = FieldBinding.fieldsByName(beanClass).values().toArray(new Field[0]);
+        
+        this.beanClass = beanClass;
+        this.constructor = FieldInjectionPlan.constructorOf(beanClass);
+        this.keys = new String[fields.length];
+        this.types = new Class<?>[fields.length];
+        this.genericTypes = new Type[fields.length];
+        this.getters = new MethodHandle[fields.length];
+        this.setters = new MethodHandle[fields.length];
+        this.conversions = new CachedConversion[fields.length];
+        
+        for (int i = 0; i < fields.length; i++) {
+            keys[i] = fields[i].getName();
+            types[i] = fields[i].getType();
+            genericTypes[i] = fields[i].getGenericType();
+            getters[i] = FieldBinding.getterOf(fields[i])
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            setters[i] = FieldBinding.setterOf(fields[i])
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+        
+        this.index = new KeyIndex(keys);
+    }
+    
+    /**
+     * @param beanClass any bean class
+     * @return the cached plan of the class
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BeanMapPlan<T> of(final Class<T> beanClass) {
+        Objects.requireNonNull(beanClass, CommonMessages.REQUIRED_PARAMETER.format(BEAN_CLASS));
+        
+        return (BeanMapPlan<T>) PLANS.get(beanClass);
+    }
+    
+    /**
+     * Creates a bean from the entries of a map whose keys are field names. Other keys are ignored, and null 
+     * values leave their fields with the initial value.
+     * @param source the map
+     * @return the bean
+     * @throws ObjectConverterException if the class has no no-arg constructor or if a value cannot be converted 
+     * to its field
+     */
+    T toBean(final Map<?, ?> source) {
+        final T targetObject = newInstance();
+        
+        if (source instanceof BeanMap && ((BeanMap) source).hasKeys(keys)) {
+            for (int i = 0; i < keys.length; i++) {
+                set(targetObject, i, ((BeanMap) source).valueAt(i));
+            }
+        } else {
+            for (final Map.Entry<?, ?> entry : source.entrySet()) {
+                set(targetObject, index.indexOf(entry.getKey()), entry.getValue());
+            }
+        }
+        
+        return targetObject;
+    }
+    
+    /**
+     * Reads every field of a bean into a map with the keys of this plan.
+     * @param sourceObject the bean
+     * @return the map, which is not backed by the bean
+     */
+    BeanMap toMap(final Object sourceObject) {
+        final Object[] values = new Object[keys.length];
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(sourceObject, i);
+        }
+        
+        return new BeanMap(keys, index, values);
+    }
+    
+    private void set(final T targetObject, final int slot, final Object value) {
+        if (slot < 0 || value == null) {
+            return;
+        }
+        
+        try {
+            setters[slot].invokeExact((Object) targetObject, convert(slot, value));
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private Object get(final Object sourceObject, final int slot) {
+        try {
+            return (Object) getters[slot].invokeExact(sourceObject);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /*
+     * A field keeps the conversion of the last value class, which is the only one for the usual sources whose 
+     * values of a key always share a class. Values of generic fields are always converted, since their class 
+     * does not tell the class of their elements.
+     */
+    private Object convert(final int slot, final Object value) {
+        if (!(genericTypes[slot] instanceof ParameterizedType) && TypeConverters.wrap(types[slot]).isInstance(value)) {
+            return value;
+        }
+        
+        CachedConversion cached = conversions[slot];
+        
+        if (cached == null || cached.sourceClass != value.getClass()) {
+            cached = new CachedConversion(value.getClass(), conversionOf(value.getClass(), slot));
+            conversions[slot] = cached;
+        }
+        
+        return cached.function.apply(value);
+    }
+    
+    /*
+     * Containers are converted element by element and nested maps are only converted into bean classes.
+     */
+    private Function<Object, Object> conversionOf(final Class<?> sourceClass, final int slot) {
+        final Class<?> targetClass = types[slot];
+        
+        return ContainerConversion
+                .of(sourceClass, genericTypes[slot])
+                .or(() -> TypeConverters.wrap(targetClass).isAssignableFrom(sourceClass) 
+                        ? Optional.of(Function.identity()) 
+                        : TypeConverters.find(sourceClass, targetClass))
+                .orElseGet(() -> {
+                    if (!Map.class.isAssignableFrom(sourceClass) || !FieldBinding.isBeanClass(targetClass)) {
+                        throw new ObjectConverterException(
+                                Messages.CONVERTER_NOT_FOUND, sourceClass.getName(), targetClass.getName());
+                    }
+                    
+                    final BeanMapPlan<?> nested = of(targetClass);
+                    
+                    return value -> nested.toBean((Map<?, ?>) value);
+                });
+    }
+    
+    private T newInstance() {
+        if (constructor == null) {
+            throw new ObjectConverterException(Messages.DEFAULT_CONSTRUCTOR_NOT_FOUND, beanClass.getName());
+        }
+        
+        try {
+            return beanClass.cast(constructor.invoke());
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /*
+     * Immutable, so a plan shared by several threads never sees a function paired with another class.
+     */
+    private static final class CachedConversion {
+        private final Class<?> sourceClass;
+        private final Function<Object, Object> function;
+        
+        private CachedConversion(final Class<?> sourceClass, final Function<Object, Object> function) {
+            this.sourceClass = sourceClass;
+            this.function = function;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.util.Map;
+
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+import br.com.armange.commons.object.api.typeconverter.bean.BeanToMapConverter;
+
+/**
+ * Converts a bean into a fixed-shape map of its field values, keyed by field name in declaration order.
+ */
+public class BeanToMapConverterImpl<S> implements BeanToMapConverter<S> {
+    
+    private S source;
+    
+    @Override
+    public TypeConverter<S, Map<String, Object>> from(final S sourceObject) {
+        source = sourceObject;
+        
+        return this;
+    }
+
+    @Override
+    public Map<String, Object> to(final Class<Map<String, Object>> targetClass) {
+        return source == null ? null : BeanMapPlan.of(source.getClass()).toMap(source);
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return sourceObject != null 
+                && !(sourceObject instanceof Map) 
+                && FieldBinding.isBeanClass(sourceObject.getClass()) 
+                && targetClass != null 
+                && Map.class.isAssignableFrom(targetClass) 
+                && targetClass.isAssignableFrom(BeanMap.class);
+    }
+}
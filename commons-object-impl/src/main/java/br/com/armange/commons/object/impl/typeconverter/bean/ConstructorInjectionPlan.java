@@ -0,0 +1,144 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+import br.com.armange.commons.reflection.stream.ConstructorStream;
+
+/**
+ * The cached constructor-injection plan of a (source, target) pair.
+ */
+final class ConstructorInjectionPlan<T> {
+    private static final Map<TypePair, ConstructorInjectionPlan<?>> PLANS = new ConcurrentHashMap<>();
+    
+    private final MethodHandle constructor;
+    private final FieldBinding[] bindings;
+    
+    private ConstructorInjectionPlan(final MethodHandle constructor, final FieldBinding[] bindings) {
+        this.constructor = constructor;
+        this.bindings = bindings;
+    }
+    
+    @SuppressWarnings("unchecked")
+    static <T> ConstructorInjectionPlan<T> of(final Class<?> sourceClass, final Class<T> targetClass) {
+        return (ConstructorInjectionPlan<T>) PLANS.computeIfAbsent(
+                TypePair.of(sourceClass, targetClass), 
+                pair -> newPlan(sourceClass, targetClass));
+    }
+    
+    @SuppressWarnings("unchecked")
+    T newInstance(final Object sourceObject) {
+        final Object[] arguments = new Object[bindings.length];
+        
+        for (int i = 0; i < bindings.length; i++) {
+            arguments[i] = bindings[i].read(sourceObject);
+        }
+        
+        try {
+            final Object targetObject = constructor.invokeExact(arguments);
+            
+            return (T) targetObject;
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static <T> ConstructorInjectionPlan<T> newPlan(final Class<?> sourceClass, final Class<T> targetClass) {
+        final List<Field> targetFields = instanceFields(targetClass);
+        final Map<String, Field> sourceFields = FieldBinding.fieldsByName(sourceClass);
+        
+        final Constructor<T> targetConstructor = ConstructorStream
+                .of(targetClass)
+                .declared()
+                .build()
+                .filter(c -> parameterNames(c, targetFields).isPresent())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow(() -> new ObjectConverterException(
+                        Messages.INJECTABLE_CONSTRUCTOR_NOT_FOUND, targetClass.getName()));
+        
+        final String[] names = parameterNames(targetConstructor, targetFields).get();
+        final Class<?>[] types = targetConstructor.getParameterTypes();
+        final Type[] genericTypes = targetConstructor.getGenericParameterTypes().length == types.length 
+                ? targetConstructor.getGenericParameterTypes() 
+                : types;
+        final FieldBinding[] bindings = new FieldBinding[names.length];
+        
+        for (int i = 0; i < names.length; i++) {
+            bindings[i] = FieldBinding.of(sourceFields.get(names[i]), types[i], genericTypes[i]);
+        }
+        
+        try {
+            targetConstructor.setAccessible(true);
+            
+            final MethodHandle constructor = MethodHandles
+                    .lookup()
+                    .unreflectConstructor(targetConstructor)
+                    .asSpreader(Object[].class, names.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            
+            return new ConstructorInjectionPlan<>(constructor, bindings);
+        } catch (final IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static List<Field> instanceFields(final Class<?> targetClass) {
+        return Arrays
+                .stream(targetClass.getDeclaredFields())
+                .filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic())
+                .collect(Collectors.toList());
+    }
+    
+    private static Optional<String[]> parameterNames(final Constructor<?> constructor, final List<Field> targetFields) {
+        final Parameter[] parameters = constructor.getParameters();
+        
+        if (parameters.length == 0 || constructor.isSynthetic()) {
+            return Optional.empty();
+        } else if (parameters[0].isNamePresent()) {
+            return Optional.of(Arrays.stream(parameters).map(Parameter::getName).toArray(String[]::new));
+        } else if (parameters.length != targetFields.size()) {
+            return Optional.empty();
+        }
+        
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].getType().equals(targetFields.get(i).getType())) {
+                return Optional.empty();
+            }
+        }
+        
+        return Optional.of(targetFields.stream().map(Field::getName).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+
+/**
+ * Conversion of collection and map fields whose element types differ, such as {@code List<A>} into
+ * {@code List<B>}.
+ */
+final class ContainerConversion {
+    private ContainerConversion() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * @param sourceType the generic type of the source field
+     * @param targetType the generic type of the target field
+     * @return the conversion function if both types are collections or both are maps and they cannot be copied 
+     * by reference, otherwise an empty optional. Elements without a converter are only converted field by 
+     * field if both element classes are bean classes, or from a map into a bean class, otherwise the 
+     * conversion fails. Null elements are kept, so an {@link ArrayDeque} target throws a 
+     * {@link NullPointerException} for them.
+     */
+    static Optional<Function<Object, Object>> of(final Type sourceType, final Type targetType) {
+        final Class<?> sourceClass = rawClass(sourceType);
+        final Class<?> targetClass = rawClass(targetType);
+        
+        if (Collection.class.isAssignableFrom(sourceClass) && Collection.class.isAssignableFrom(targetClass)) {
+            final Type sourceElement = typeArgument(sourceType, 0);
+            final Type targetElement = typeArgument(targetType, 0);
+            
+            if (targetClass.isAssignableFrom(sourceClass) && isCopiable(sourceElement, targetElement)) {
+                return Optional.empty();
+            }
+            
+            return Optional.of(collectionConversion(
+                    collectionFactory(targetClass), 
+                    elementConverter(sourceElement, targetElement)));
+        } else if (Map.class.isAssignableFrom(sourceClass) && Map.class.isAssignableFrom(targetClass)) {
+            final Type sourceKey = typeArgument(sourceType, 0);
+            final Type targetKey = typeArgument(targetType, 0);
+            final Type sourceValue = typeArgument(sourceType, 1);
+            final Type targetValue = typeArgument(targetType, 1);
+            
+            if (targetClass.isAssignableFrom(sourceClass) 
+                    && isCopiable(sourceKey, targetKey) 
+                    && isCopiable(sourceValue, targetValue)) {
+                return Optional.empty();
+            }
+            
+            return Optional.of(mapConversion(
+                    mapFactory(targetClass), 
+                    elementConverter(sourceKey, targetKey), 
+                    elementConverter(sourceValue, targetValue)));
+        }
+        
+        return Optional.empty();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> collectionConversion(
+            final IntFunction<Collection<Object>> factory, final Function<Object, Object> elementConverter) {
+        return value -> {
+            final Collection<Object> source = (Collection<Object>) value;
+            final Collection<Object> target = factory.apply(source.size());
+            
+            if (source instanceof List && source instanceof RandomAccess) {
+                final List<Object> list = (List<Object>) source;
+                
+                for (int i = 0, size = list.size(); i < size; i++) {
+                    target.add(convertElement(elementConverter, list.get(i)));
+                }
+            } else {
+                for (final Object element : source) {
+                    target.add(convertElement(elementConverter, element));
+                }
+            }
+            
+            return target;
+        };
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> mapConversion(
+            final IntFunction<Map<Object, Object>> factory, 
+            final Function<Object, Object> keyConverter,
+            final Function<Object, Object> valueConverter) {
+        return value -> {
+            final Map<Object, Object> source = (Map<Object, Object>) value;
+            final Map<Object, Object> target = factory.apply(source.size());
+            
+            for (final Map.Entry<Object, Object> entry : source.entrySet()) {
+                target.put(
+                        convertElement(keyConverter, entry.getKey()), 
+                        convertElement(valueConverter, entry.getValue()));
+            }
+            
+            return target;
+        };
+    }
+    
+    private static Object convertElement(final Function<Object, Object> converter, final Object element) {
+        return element == null ? null : converter.apply(element);
+    }
+    
+    private static Function<Object, Object> elementConverter(final Type sourceType, final Type targetType) {
+        final Class<?> sourceClass = rawClass(sourceType);
+        final Class<?> targetClass = rawClass(targetType);
+        
+        if (sourceClass.equals(Object.class) && !targetClass.equals(Object.class)) {
+            return runtimeConverter(targetType);
+        }
+        
+        return of(sourceType, targetType)
+                .or(() -> TypeConverters.find(sourceClass, targetClass))
+                .orElseGet(() -> fallbackConverter(sourceClass, targetClass));
+    }
+    
+    /*
+     * Elements declared as Object are converted by their own class, whose converters are looked up once per 
+     * class.
+     */
+    private static Function<Object, Object> runtimeConverter(final Type targetType) {
+        final Class<?> targetClass = TypeConverters.wrap(rawClass(targetType));
+        final Map<Class<?>, Function<Object, Object>> converters = new ConcurrentHashMap<>();
+        
+        return element -> targetClass.isInstance(element) && !(targetType instanceof ParameterizedType)
+                ? element 
+                : converters
+                        .computeIfAbsent(element.getClass(), elementClass -> elementConverter(elementClass, targetType))
+                        .apply(element);
+    }
+    
+    /*
+     * Maps are converted into beans by the plan of the bean class.
+     */
+    private static Function<Object, Object> fallbackConverter(final Class<?> sourceClass, final Class<?> targetClass) {
+        if (TypeConverters.wrap(targetClass).isAssignableFrom(TypeConverters.wrap(sourceClass))) {
+            return Function.identity();
+        } else if (Map.class.isAssignableFrom(sourceClass) && FieldBinding.isBeanClass(targetClass)) {
+            final BeanMapPlan<?> plan = BeanMapPlan.of(targetClass);
+            
+            return element -> plan.toBean((Map<?, ?>) element);
+        } else if (FieldBinding.isBeanClass(sourceClass) && FieldBinding.isBeanClass(targetClass)) {
+            return new BeanElementConverter(targetClass);
+        }
+        
+        return FieldBinding.missingConverter(sourceClass, targetClass);
+    }
+    
+    private static boolean isCopiable(final Type sourceElement, final Type targetElement) {
+        return sourceElement.equals(targetElement) || targetElement.equals(Object.class);
+    }
+    
+    private static Type typeArgument(final Type type, final int index) {
+        if (type instanceof ParameterizedType) {
+            final Type argument = ((ParameterizedType) type).getActualTypeArguments()[index];
+            
+            return argument instanceof Class || argument instanceof ParameterizedType ? argument : Object.class;
+        }
+        
+        return Object.class;
+    }
+    
+    private static Class<?> rawClass(final Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            return Object[].class;
+        } else {
+            return Object.class;
+        }
+    }
+    
+    private static int hashCapacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+    
+    private static IntFunction<Collection<Object>> collectionFactory(final Class<?> targetClass) {
+        if (targetClass.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (targetClass.isAssignableFrom(HashSet.class)) {
+            return size -> new HashSet<>(hashCapacity(size));
+        } else if (targetClass.isAssignableFrom(LinkedHashSet.class)) {
+            return size -> new LinkedHashSet<>(hashCapacity(size));
+        } else if (targetClass.isAssignableFrom(TreeSet.class)) {
+            return size -> new TreeSet<>();
+        } else if (targetClass.isAssignableFrom(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        } else if (targetClass.isAssignableFrom(LinkedList.class)) {
+            return size -> new LinkedList<>();
+        }
+        
+        final Supplier<Object> constructor = noArgConstructor(targetClass);
+        
+        return size -> cast(constructor.get());
+    }
+    
+    private static IntFunction<Map<Object, Object>> mapFactory(final Class<?> targetClass) {
+        if (targetClass.isAssignableFrom(HashMap.class)) {
+            return size -> new HashMap<>(hashCapacity(size));
+        } else if (targetClass.isAssignableFrom(LinkedHashMap.class)) {
+            return size -> new LinkedHashMap<>(hashCapacity(size));
+        } else if (targetClass.isAssignableFrom(TreeMap.class)) {
+            return size -> new TreeMap<>();
+        } else if (targetClass.isAssignableFrom(ConcurrentHashMap.class)) {
+            return size -> new ConcurrentHashMap<>(hashCapacity(size));
+        }
+        
+        final Supplier<Object> constructor = noArgConstructor(targetClass);
+        
+        return size -> cast(constructor.get());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <C> C cast(final Object container) {
+        return (C) container;
+    }
+    
+    private static Supplier<Object> noArgConstructor(final Class<?> targetClass) {
+        final Constructor<?> constructor;
+        
+        try {
+            constructor = targetClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (final NoSuchMethodException e) {
+            throw new ObjectConverterException(Messages.DEFAULT_CONSTRUCTOR_NOT_FOUND, targetClass.getName());
+        }
+        
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (final ReflectiveOperationException e) {
+                throw new ObjectConverterException(e);
+            }
+        };
+    }
+    
+    /**
+     * Converts bean elements through the field-injection plan of their class, which is resolved on the first 
+     * element and then reused while the element class does not change.
+     */
+    private static final class BeanElementConverter implements Function<Object, Object> {
+        private final Class<?> targetClass;
+        private volatile ResolvedPlan resolved;
+        
+        private BeanElementConverter(final Class<?> targetClass) {
+            this.targetClass = targetClass;
+        }
+        
+        @Override
+        public Object apply(final Object element) {
+            ResolvedPlan current = resolved;
+            
+            if (current == null || !element.getClass().equals(current.sourceClass)) {
+                if (!FieldBinding.isBeanClass(element.getClass())) {
+                    throw new ObjectConverterException(
+                            Messages.CONVERTER_NOT_FOUND, element.getClass().getName(), targetClass.getName());
+                }
+                
+                current = new ResolvedPlan(element.getClass(), FieldInjectionPlan.of(element.getClass(), targetClass));
+                resolved = current;
+            }
+            
+            return current.plan.convert(element);
+        }
+    }
+    
+    private static final class ResolvedPlan {
+        private final Class<?> sourceClass;
+        private final FieldInjectionPlan<?> plan;
+        
+        private ResolvedPlan(final Class<?> sourceClass, final FieldInjectionPlan<?> plan) {
+            this.sourceClass = sourceClass;
+            this.plan = plan;
+        }
+    }
+}
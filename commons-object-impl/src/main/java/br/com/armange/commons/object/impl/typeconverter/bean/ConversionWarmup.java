@@ -0,0 +1,351 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.api.typeconverter.annotation.ConvertibleBean;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionErrorPolicy;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+
+/**
+ * Resolves the conversions of known (source, target) pairs ahead of their first use.
+ */
+public final class ConversionWarmup {
+    private static final String SOURCE_CLASS = "sourceClass";
+    private static final String TARGET_CLASS = "targetClass";
+    private static final String PACKAGE_NAME = "packageName";
+    private static final String EXECUTOR = "executor";
+    private static final String CLASS_SUFFIX = ".class";
+    private static final Map<Class<?>, Object> SAMPLES = samples();
+    
+    private final Set<TypePair> pairs;
+    private final int iterations;
+    
+    private ConversionWarmup(final Set<TypePair> pairs, final int iterations) {
+        this.pairs = pairs;
+        this.iterations = iterations;
+    }
+    
+    /**
+     * @return an empty warmup without synthetic conversions
+     */
+    public static ConversionWarmup create() {
+        return new ConversionWarmup(Collections.emptySet(), 0);
+    }
+    
+    /**
+     * @param sourceClass the class of the converted beans
+     * @param targetClass the class of the created beans
+     * @return a copy of this warmup that also warms the given pair
+     */
+    public ConversionWarmup withPair(final Class<?> sourceClass, final Class<?> targetClass) {
+        Objects.requireNonNull(sourceClass, CommonMessages.REQUIRED_PARAMETER.format(SOURCE_CLASS));
+        Objects.requireNonNull(targetClass, CommonMessages.REQUIRED_PARAMETER.format(TARGET_CLASS));
+        
+        return withPairs(Collections.singletonList(TypePair.of(sourceClass, targetClass)));
+    }
+    
+    /**
+     * Scans the classes of a package and its subpackages for {@link ConvertibleBean} annotations, whose 
+     * classes are the sources of the pairs and whose values are the targets.
+     * @param packageName the name of the package
+     * @return a copy of this warmup that also warms the pairs found in the package
+     * @throws ObjectConverterException if the package cannot be scanned
+     */
+    public ConversionWarmup withPackage(final String packageName) {
+        Objects.requireNonNull(packageName, CommonMessages.REQUIRED_PARAMETER.format(PACKAGE_NAME));
+        
+        final List<TypePair> found = new ArrayList<>();
+        
+        for (final Class<?> type : classesOf(packageName)) {
+            final ConvertibleBean annotation = type.getAnnotation(ConvertibleBean.class);
+            
+            if (annotation != null) {
+                Stream.of(annotation.value()).forEach(target -> found.add(TypePair.of(type, target)));
+            }
+        }
+        
+        return withPairs(found);
+    }
+    
+    /**
+     * @param conversions the number of synthetic conversions of each pair, 0 to only build the plans
+     * @return a copy of this warmup running the given number of synthetic conversions
+     */
+    public ConversionWarmup withIterations(final int conversions) {
+        if (conversions < 0) {
+            throw new IllegalArgumentException("The iterations must not be negative: " + conversions);
+        }
+        
+        return new ConversionWarmup(pairs, conversions);
+    }
+    
+    /**
+     * @return the pairs of this warmup in the order they were added
+     */
+    public Set<TypePair> getPairs() {
+        return Collections.unmodifiableSet(pairs);
+    }
+    
+    /**
+     * Warms every pair on the calling thread.
+     * @return the failures by pair, which is empty when every pair was warmed
+     */
+    public Map<TypePair, RuntimeException> run() {
+        TypeConverters.registeredPairs();
+        
+        final Map<TypePair, RuntimeException> failures = new LinkedHashMap<>();
+        
+        for (final TypePair pair : pairs) {
+            warm(pair).ifPresent(failure -> failures.put(pair, failure));
+        }
+        
+        return Collections.unmodifiableMap(failures);
+    }
+    
+    /**
+     * Warms every pair as a separate task of the given executor, so that a service can report readiness when 
+     * the returned future completes.
+     * @param executor the executor of the tasks, such as a pool of background threads
+     * @return the future of the failures by pair, which is empty when every pair was warmed
+     */
+    public CompletableFuture<Map<TypePair, RuntimeException>> runAsync(final Executor executor) {
+        Objects.requireNonNull(executor, CommonMessages.REQUIRED_PARAMETER.format(EXECUTOR));
+        
+        return CompletableFuture
+                .runAsync(TypeConverters::registeredPairs, executor)
+                .thenCompose(registered -> warmAll(executor));
+    }
+    
+    private CompletableFuture<Map<TypePair, RuntimeException>> warmAll(final Executor executor) {
+        final Map<TypePair, CompletableFuture<Optional<RuntimeException>>> tasks = new LinkedHashMap<>();
+        
+        for (final TypePair pair : pairs) {
+            tasks.put(pair, CompletableFuture.supplyAsync(() -> warm(pair), executor));
+        }
+        
+        return CompletableFuture
+                .allOf(tasks.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    final Map<TypePair, RuntimeException> failures = new LinkedHashMap<>();
+                    
+                    tasks.forEach((pair, task) -> task.join().ifPresent(failure -> failures.put(pair, failure)));
+                    
+                    return Collections.unmodifiableMap(failures);
+                });
+    }
+    
+    private ConversionWarmup withPairs(final List<TypePair> added) {
+        final Set<TypePair> result = new LinkedHashSet<>(pairs);
+        
+        result.addAll(added);
+        
+        return new ConversionWarmup(result, iterations);
+    }
+    
+    /*
+     * A synthetic conversion failing on the sample values retries the plan without exceptions, which still runs 
+     * the converters of the other fields.
+     */
+    private Optional<RuntimeException> warm(final TypePair pair) {
+        try {
+            final FieldInjectionPlan<?> plan = FieldInjectionPlan.of(pair.getSourceClass(), pair.getTargetClass());
+            final Object sourceObject = iterations > 0 ? sampleOf(pair.getSourceClass()) : null;
+            
+            for (int i = 0; i < iterations && sourceObject != null; i++) {
+                try {
+                    plan.convert(sourceObject);
+                } catch (final RuntimeException e) {
+                    plan.convert(sourceObject, null, ConversionErrorPolicy.DEFAULT_VALUE, new ArrayList<>());
+                }
+            }
+            
+            return Optional.empty();
+        } catch (final RuntimeException e) {
+            return Optional.of(e);
+        }
+    }
+    
+    /*
+     * A source with sample values in the fields of the usual value types, or null if it has no no-arg 
+     * constructor.
+     */
+    private static Object sampleOf(final Class<?> sourceClass) {
+        final MethodHandle constructor = FieldInjectionPlan.constructorOf(sourceClass);
+        
+        if (constructor == null) {
+            return null;
+        }
+        
+        try {
+            final Object result = constructor.invoke();
+            
+            for (final Field field : FieldBinding.fieldsByName(sourceClass).values()) {
+                final Object sample = sampleValueOf(field.getType());
+                
+                if (sample != null && !Modifier.isFinal(field.getModifiers())) {
+                    FieldBinding.setterOf(field).invoke(result, sample);
+                }
+            }
+            
+            return result;
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /*
+     * The first constant of an enum, which has none if the enum is empty.
+     */
+    private static Object sampleValueOf(final Class<?> type) {
+        final Object[] constants = type.getEnumConstants();
+        
+        if (constants == null) {
+            return SAMPLES.get(TypeConverters.wrap(type));
+        }
+        
+        return constants.length > 0 ? constants[0] : null;
+    }
+    
+    private static List<Class<?>> classesOf(final String packageName) {
+        final ClassLoader loader = Optional
+                .ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(ConversionWarmup.class.getClassLoader());
+        final String path = packageName.replace('.', '/');
+        final Set<String> names = new LinkedHashSet<>();
+        
+        try {
+            final Enumeration<URL> roots = loader.getResources(path);
+            
+            while (roots.hasMoreElements()) {
+                final URL root = roots.nextElement();
+                
+                if ("jar".equals(root.getProtocol())) {
+                    names.addAll(jarClassNames((JarURLConnection) root.openConnection(), path));
+                } else if ("file".equals(root.getProtocol())) {
+                    names.addAll(directoryClassNames(Paths.get(root.toURI()), packageName));
+                }
+            }
+        } catch (final IOException | URISyntaxException e) {
+            throw new ObjectConverterException(e);
+        }
+        
+        final List<Class<?>> result = new ArrayList<>();
+        
+        for (final String name : names) {
+            try {
+                result.add(Class.forName(name, false, loader));
+            } catch (final ClassNotFoundException | LinkageError e) {
+                // classes that cannot be loaded declare no loadable pair
+            }
+        }
+        
+        return result;
+    }
+    
+    private static List<String> jarClassNames(final JarURLConnection connection, final String path) 
+            throws IOException {
+        connection.setUseCaches(false);
+        
+        try (JarFile jar = connection.getJarFile()) {
+            return jar
+                    .stream()
+                    .map(JarEntry::getName)
+                    .filter(name -> name.startsWith(path + "/") && isClassName(name))
+                    .map(name -> name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'))
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    private static List<String> directoryClassNames(final Path directory, final String packageName) 
+            throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .map(file -> directory.relativize(file).toString())
+                    .map(name -> name.replace(directory.getFileSystem().getSeparator(), "."))
+                    .filter(ConversionWarmup::isClassName)
+                    .map(name -> packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()))
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    private static boolean isClassName(final String name) {
+        return name.endsWith(CLASS_SUFFIX) 
+                && !name.endsWith("module-info.class") 
+                && !name.endsWith("package-info.class");
+    }
+    
+    private static Map<Class<?>, Object> samples() {
+        final Map<Class<?>, Object> result = new HashMap<>();
+        
+        result.put(Boolean.class, Boolean.TRUE);
+        result.put(Byte.class, (byte) 1);
+        result.put(Character.class, '1');
+        result.put(Short.class, (short) 1);
+        result.put(Integer.class, 1);
+        result.put(Long.class, 1L);
+        result.put(Float.class, 1F);
+        result.put(Double.class, 1D);
+        result.put(BigDecimal.class, BigDecimal.ONE);
+        result.put(BigInteger.class, BigInteger.ONE);
+        result.put(String.class, "1");
+        result.put(LocalDate.class, LocalDate.of(1970, 1, 1));
+        result.put(LocalDateTime.class, LocalDateTime.of(1970, 1, 1, 0, 0));
+        result.put(OffsetDateTime.class, OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        result.put(Instant.class, Instant.EPOCH);
+        
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+
+/**
+ * The layout of a delimited text file: one record per line and one column per delimited field, unquoted.
+ */
+public final class DelimitedFormat {
+    private static final String COLUMNS = "columns";
+    private static final char MAX_ASCII = 127;
+    
+    private final char delimiter;
+    private final boolean header;
+    private final String[] columns;
+    
+    private DelimitedFormat(final char delimiter, final boolean header, final String[] columns) {
+        this.delimiter = delimiter;
+        this.header = header;
+        this.columns = columns;
+    }
+    
+    /**
+     * @param delimiter the field delimiter
+     * @return a format without header whose columns are the bean fields in declaration order
+     * @throws ObjectConverterException if the delimiter is not ASCII or is a line break
+     */
+    public static DelimitedFormat of(final char delimiter) {
+        if (delimiter > MAX_ASCII || delimiter == '\n' || delimiter == '\r') {
+            throw new ObjectConverterException(Messages.INVALID_DELIMITER, delimiter);
+        }
+        
+        return new DelimitedFormat(delimiter, false, null);
+    }
+    
+    /**
+     * @return a copy of this format whose first line names the columns
+     */
+    public DelimitedFormat withHeader() {
+        return new DelimitedFormat(delimiter, true, columns);
+    }
+    
+    /**
+     * @param columns the names of the bean fields bound to the columns, in column order, where a null name 
+     * skips its column
+     * @return a copy of this format with the given columns, which win over the header of a file when reading
+     */
+    public DelimitedFormat withColumns(final String... columns) {
+        Objects.requireNonNull(columns, CommonMessages.REQUIRED_PARAMETER.format(COLUMNS));
+        
+        return new DelimitedFormat(delimiter, header, columns.clone());
+    }
+    
+    public char getDelimiter() {
+        return delimiter;
+    }
+    
+    public boolean hasHeader() {
+        return header;
+    }
+    
+    /**
+     * @return the explicit column names or null if the columns are named by the header or the bean fields
+     */
+    public String[] getColumns() {
+        return columns != null ? columns.clone() : null;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+/**
+ * Reads the records of a delimited text file into beans, memory-mapping the file chunk by chunk.
+ */
+public final class DelimitedReader<T> {
+    /**
+     * The default size in bytes of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+    
+    private static final String FILE = "file";
+    private static final String TARGET_CLASS = "targetClass";
+    private static final String FORMAT = "format";
+    private static final int SCAN_SIZE = 8 * 1024;
+    
+    private final Path file;
+    private final RecordPlan<T> plan;
+    private final long dataStart;
+    private final int chunkSize;
+    
+    private DelimitedReader(final Path file, final RecordPlan<T> plan, final long dataStart, final int chunkSize) {
+        this.file = file;
+        this.plan = plan;
+        this.dataStart = dataStart;
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * Compiles a reader, reading the header line of the file if the format has one.
+     * @param file the delimited file
+     * @param targetClass the bean class of the records, which needs a no-arg constructor
+     * @param format the layout of the file
+     * @return the reader
+     * @throws ObjectConverterException if the file cannot be read, if the bean class has no no-arg constructor or 
+     * if there is no converter from {@code String} to the type of a bound field
+     */
+    public static <T> DelimitedReader<T> of(final Path file, final Class<T> targetClass, final DelimitedFormat format) {
+        Objects.requireNonNull(file, CommonMessages.REQUIRED_PARAMETER.format(FILE));
+        Objects.requireNonNull(targetClass, CommonMessages.REQUIRED_PARAMETER.format(TARGET_CLASS));
+        Objects.requireNonNull(format, CommonMessages.REQUIRED_PARAMETER.format(FORMAT));
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long dataStart = format.hasHeader() ? nextLine(channel, 0) : 0;
+            final String[] columns;
+            
+            if (format.getColumns() != null) {
+                columns = format.getColumns();
+            } else if (format.hasHeader()) {
+                columns = header(channel, dataStart, format.getDelimiter());
+            } else {
+                columns = RecordPlan.fieldColumns(targetClass);
+            }
+            
+            return new DelimitedReader<>(
+                    file, RecordPlan.of(targetClass, format.getDelimiter(), columns), dataStart, DEFAULT_CHUNK_SIZE);
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * @param chunkSize the approximate size in bytes of the chunks, up to {@link Integer#MAX_VALUE}
+     * @return a copy of this reader splitting the file into chunks of the given size
+     */
+    public DelimitedReader<T> withChunkSize(final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        
+        return new DelimitedReader<>(file, plan, dataStart, chunkSize);
+    }
+    
+    /**
+     * @return a lazy stream of the beans in file order, which reads whole chunks in parallel when it is parallel
+     * @throws ObjectConverterException if the file cannot be read, or when a value cannot be converted to its 
+     * field as the stream is consumed
+     */
+    public Stream<T> stream() {
+        final List<long[]> chunks = chunks();
+        
+        return StreamSupport.stream(new ChunkSpliterator(chunks, 0, chunks.size()), false);
+    }
+    
+    /**
+     * Reads every bean in file order on the calling thread.
+     * @param consumer the consumer of the beans, which must not keep them if memory use is to stay bounded
+     * @throws ObjectConverterException if the file cannot be read or if a value cannot be converted to its field
+     */
+    public void forEach(final Consumer<? super T> consumer) {
+        final List<long[]> chunks = chunks();
+        
+        new ChunkSpliterator(chunks, 0, chunks.size()).forEachRemaining(consumer);
+    }
+    
+    /*
+     * The [start, end) offsets of the chunks, where every chunk but the last ends right after a line break.
+     */
+    private List<long[]> chunks() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final List<long[]> result = new ArrayList<>();
+            
+            for (long start = dataStart; start < size;) {
+                final long end = start + chunkSize >= size ? size : nextLine(channel, start + chunkSize - 1);
+                
+                result.add(new long[] { start, end });
+                start = end;
+            }
+            
+            return result;
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /*
+     * The offset after the first line break at or after the given offset, or the file size if there is none.
+     */
+    private static long nextLine(final FileChannel channel, final long offset) throws IOException {
+        final ByteBuffer window = ByteBuffer.allocate(SCAN_SIZE);
+        
+        for (long position = offset; position < channel.size(); position += window.position()) {
+            window.clear();
+            
+            if (channel.read(window, position) < 0) {
+                break;
+            }
+            
+            for (int i = 0; i < window.position(); i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+        }
+        
+        return channel.size();
+    }
+    
+    private static String[] header(final FileChannel channel, final long end, final char delimiter) 
+            throws IOException {
+        final ByteBuffer line = ByteBuffer.allocate((int) end);
+        
+        for (int read = 0; line.hasRemaining() && read >= 0;) {
+            read = channel.read(line, line.position());
+        }
+        
+        int length = line.position();
+        
+        while (length > 0 && (line.get(length - 1) == '\n' || line.get(length - 1) == '\r')) {
+            length--;
+        }
+        
+        return new String(line.array(), 0, length, StandardCharsets.UTF_8)
+                .split(Pattern.quote(String.valueOf(delimiter)), -1);
+    }
+    
+    /*
+     * Iterates the records of the chunks [next, end) of the list, after the rest of the chunk in progress. A split 
+     * hands over the chunk in progress and the first half of the chunks not started yet.
+     */
+    private final class ChunkSpliterator implements Spliterator<T> {
+        private final List<long[]> chunks;
+        private int next;
+        private int end;
+        private ByteBuffer buffer;
+        private long bufferStart;
+        private int cursor;
+        private int recordStart;
+        private int recordEnd;
+        
+        private ChunkSpliterator(final List<long[]> chunks, final int next, final int end) {
+            this.chunks = chunks;
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (!nextRecord()) {
+                return false;
+            }
+            
+            action.accept(plan.read(buffer, recordStart, recordEnd, bufferStart));
+            
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int remaining = end - next;
+            
+            if (remaining < 2) {
+                return null;
+            }
+            
+            final ChunkSpliterator prefix = new ChunkSpliterator(chunks, next, next + remaining / 2);
+            
+            next = prefix.end;
+            
+            if (buffer != null) {
+                prefix.buffer = buffer;
+                prefix.bufferStart = bufferStart;
+                prefix.cursor = cursor;
+                buffer = null;
+            }
+            
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+        
+        /*
+         * Moves to the next non-blank line, mapping the next chunk when the current one is over.
+         */
+        private boolean nextRecord() {
+            do {
+                while (buffer == null || cursor >= buffer.limit()) {
+                    if (next >= end) {
+                        return false;
+                    }
+                    
+                    map(chunks.get(next++));
+                }
+                
+                int lineEnd = cursor;
+                
+                while (lineEnd < buffer.limit() && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                
+                recordStart = cursor;
+                recordEnd = lineEnd > cursor && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                cursor = lineEnd + 1;
+            } while (recordEnd == recordStart);
+            
+            return true;
+        }
+        
+        private void map(final long[] chunk) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+                bufferStart = chunk[0];
+                cursor = 0;
+            } catch (final IOException e) {
+                throw new ObjectConverterException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+/**
+ * Writes beans as the records of a delimited text file in UTF-8. Floats and doubles are written as their
+ * shortest round-trip text.
+ */
+public final class DelimitedWriter<T> {
+    /**
+     * The default size in bytes of the buffer flushed into the file.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    
+    /**
+     * The default number of records rendered by a task of the parallel mode.
+     */
+    public static final int DEFAULT_CHUNK_RECORDS = 8 * 1024;
+    
+    private static final String SOURCE_CLASS = "sourceClass";
+    private static final String FORMAT = "format";
+    private static final String FILE = "file";
+    private static final String BEANS = "beans";
+    private static final int CHUNKS_PER_THREAD = 2;
+    
+    private final RecordRenderPlan<T> plan;
+    private final boolean header;
+    private final int bufferSize;
+    private final int chunkRecords;
+    
+    private DelimitedWriter(
+            final RecordRenderPlan<T> plan, final boolean header, final int bufferSize, final int chunkRecords) {
+        this.plan = plan;
+        this.header = header;
+        this.bufferSize = bufferSize;
+        this.chunkRecords = chunkRecords;
+    }
+    
+    /**
+     * Compiles a writer.
+     * @param sourceClass the bean class of the records
+     * @param format the layout of the file, whose explicit columns name the written fields and otherwise every 
+     * field is written in declaration order
+     * @return the writer
+     * @throws ObjectConverterException if a column names no field of the bean class or if there is no converter 
+     * from the type of a written field to {@code String}
+     */
+    public static <T> DelimitedWriter<T> of(final Class<T> sourceClass, final DelimitedFormat format) {
+        Objects.requireNonNull(sourceClass, CommonMessages.REQUIRED_PARAMETER.format(SOURCE_CLASS));
+        Objects.requireNonNull(format, CommonMessages.REQUIRED_PARAMETER.format(FORMAT));
+        
+        final String[] columns = format.getColumns() != null 
+                ? format.getColumns() 
+                : RecordPlan.fieldColumns(sourceClass);
+        
+        return new DelimitedWriter<>(
+                RecordRenderPlan.of(sourceClass, format.getDelimiter(), columns), 
+                format.hasHeader(), 
+                DEFAULT_BUFFER_SIZE, 
+                DEFAULT_CHUNK_RECORDS);
+    }
+    
+    /**
+     * @param bufferSize the size in bytes of the buffer flushed into the file
+     * @return a copy of this writer using buffers of the given size
+     */
+    public DelimitedWriter<T> withBufferSize(final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive: " + bufferSize);
+        }
+        
+        return new DelimitedWriter<>(plan, header, bufferSize, chunkRecords);
+    }
+    
+    /**
+     * @param chunkRecords the number of records rendered by a task of the parallel mode
+     * @return a copy of this writer splitting the parallel work into chunks of the given number of records
+     */
+    public DelimitedWriter<T> withChunkRecords(final int chunkRecords) {
+        if (chunkRecords <= 0) {
+            throw new IllegalArgumentException("The chunk records must be positive: " + chunkRecords);
+        }
+        
+        return new DelimitedWriter<>(plan, header, bufferSize, chunkRecords);
+    }
+    
+    /**
+     * Writes the beans in encounter order on the calling thread, replacing the content of the file.
+     * @param file the destination file
+     * @param beans the beans, which are consumed in encounter order even when the stream is parallel
+     * @return the number of written records
+     * @throws ObjectConverterException if the file cannot be written or if a value holds the delimiter or a 
+     * line break
+     */
+    public long write(final Path file, final Stream<? extends T> beans) {
+        Objects.requireNonNull(beans, CommonMessages.REQUIRED_PARAMETER.format(BEANS));
+        
+        try (FileChannel channel = open(file)) {
+            final RecordBuffer buffer = new RecordBuffer(bufferSize, channel);
+            final long[] count = new long[1];
+            
+            if (header) {
+                plan.writeHeader(buffer);
+            }
+            
+            beans.forEachOrdered(bean -> {
+                plan.write(bean, buffer);
+                count[0]++;
+            });
+            
+            buffer.flush(channel);
+            
+            return count[0];
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * Renders chunks of beans in parallel and writes them in list order, replacing the content of the file.
+     * @param file the destination file
+     * @param beans the beans, which must not change while they are written
+     * @return the number of written records
+     * @throws ObjectConverterException if the file cannot be written or if a value holds the delimiter or a 
+     * line break
+     */
+    public long writeParallel(final Path file, final List<? extends T> beans) {
+        Objects.requireNonNull(beans, CommonMessages.REQUIRED_PARAMETER.format(BEANS));
+        
+        final int chunks = (int) ((beans.size() + (long) chunkRecords - 1) / chunkRecords);
+        final int window = Math.max(1, Math.min(chunks, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD));
+        final RecordBuffer[] buffers = new RecordBuffer[window];
+        
+        for (int i = 0; i < window; i++) {
+            buffers[i] = new RecordBuffer(bufferSize, null);
+        }
+        
+        try (FileChannel channel = open(file)) {
+            if (header) {
+                plan.writeHeader(buffers[0]);
+                buffers[0].flush(channel);
+            }
+            
+            for (int first = 0; first < chunks; first += window) {
+                final int base = first;
+                final int count = Math.min(window, chunks - first);
+                
+                IntStream.range(0, count).parallel().forEach(i -> render(beans, base + i, buffers[i]));
+                
+                for (int i = 0; i < count; i++) {
+                    buffers[i].flush(channel);
+                }
+            }
+            
+            return beans.size();
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private void render(final List<? extends T> beans, final int chunk, final RecordBuffer buffer) {
+        final int end = (int) Math.min(beans.size(), (long) (chunk + 1) * chunkRecords);
+        
+        for (int i = (int) ((long) chunk * chunkRecords); i < end; i++) {
+            plan.write(beans.get(i), buffer);
+        }
+    }
+    
+    private static FileChannel open(final Path file) throws IOException {
+        Objects.requireNonNull(file, CommonMessages.REQUIRED_PARAMETER.format(FILE));
+        
+        return FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+}
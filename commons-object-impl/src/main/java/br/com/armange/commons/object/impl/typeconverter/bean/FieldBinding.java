@@ -0,0 +1,324 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.ConversionAttempt;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+import br.com.armange.commons.reflection.stream.FieldStream;
+
+/**
+ * A source field bound to a target type, with its getter and converter resolved once.
+ */
+final class FieldBinding {
+    
+    /**
+     * The kind of converter chosen for a source field.
+     */
+    enum Kind {
+        /** The source has no such field. */
+        ABSENT,
+        /** Collection or map values converted element by element. */
+        CONTAINER,
+        /** The converter between the field type and the target type. */
+        CONVERTER,
+        /** The converters between the class of each value and the target type. */
+        RUNTIME
+    }
+    
+    private final MethodHandle getter;
+    private final Function<Object, Object> converter;
+    private final ConversionAttempt attempt;
+    private final Object defaultValue;
+    private final Kind kind;
+    
+    private FieldBinding(
+            final MethodHandle getter, 
+            final Function<Object, Object> converter, 
+            final ConversionAttempt attempt, 
+            final Object defaultValue, 
+            final Kind kind) {
+        this.getter = getter;
+        this.converter = converter;
+        this.attempt = attempt;
+        this.defaultValue = defaultValue;
+        this.kind = kind;
+    }
+    
+    /**
+     * @param sourceField the source field or null if the source has no such field
+     * @param targetType the type expected by the target
+     * @return the binding of the source field to the target type. If there is no converter between the field 
+     * type or the class of the value and the target type, reading the value throws an 
+     * {@link ObjectConverterException}.
+     */
+    static FieldBinding of(final Field sourceField, final Class<?> targetType) {
+        return of(sourceField, targetType, targetType);
+    }
+    
+    /**
+     * @param sourceField the source field or null if the source has no such field
+     * @param targetType the type expected by the target
+     * @param targetGenericType the generic type expected by the target, which allows collection and map values 
+     * to be converted element by element
+     * @return the binding of the source field to the target type. If there is no converter between the field 
+     * type or the class of the value and the target type, reading the value throws an 
+     * {@link ObjectConverterException}.
+     */
+    static FieldBinding of(final Field sourceField, final Class<?> targetType, final Type targetGenericType) {
+        if (sourceField == null) {
+            return new FieldBinding(null, null, null, defaultValue(targetType), Kind.ABSENT);
+        }
+        
+        final FieldBinding container = of(sourceField, targetType, targetGenericType, Kind.CONTAINER);
+        
+        if (container != null) {
+            return container;
+        }
+        
+        return Optional
+                .ofNullable(of(sourceField, targetType, targetGenericType, Kind.CONVERTER))
+                .orElseGet(() -> of(sourceField, targetType, targetGenericType, Kind.RUNTIME));
+    }
+    
+    /**
+     * Binds a source field to the kind of converter chosen by an earlier run, without looking for the others.
+     * @param sourceField the source field or null if the source has no such field
+     * @param targetType the type expected by the target
+     * @param targetGenericType the generic type expected by the target
+     * @param kind the kind of converter as returned by {@link #kind()}
+     * @return the binding or null if the field no longer has a converter of this kind
+     */
+    static FieldBinding of(
+            final Field sourceField, final Class<?> targetType, final Type targetGenericType, final Kind kind) {
+        final Object defaultValue = defaultValue(targetType);
+        
+        if ((sourceField == null) != (kind == Kind.ABSENT)) {
+            return null;
+        }
+        
+        switch (kind) {
+        case ABSENT:
+            return new FieldBinding(null, null, null, defaultValue, kind);
+        case CONTAINER:
+            return ContainerConversion
+                    .of(sourceField.getGenericType(), targetGenericType)
+                    .map(container -> new FieldBinding(
+                            getterOf(sourceField), container, attemptOf(container), defaultValue, kind))
+                    .orElse(null);
+        case CONVERTER:
+            final Optional<Function<Object, Object>> converter = TypeConverters
+                    .find(sourceField.getType(), targetType);
+            final Optional<ConversionAttempt> attempt = TypeConverters.findAttempt(sourceField.getType(), targetType);
+            
+            return converter.isPresent() && attempt.isPresent() 
+                    ? new FieldBinding(getterOf(sourceField), converter.get(), attempt.get(), defaultValue, kind) 
+                    : null;
+        default:
+            return new FieldBinding(
+                    getterOf(sourceField), 
+                    runtimeConverter(targetType), 
+                    runtimeAttempt(targetType), 
+                    defaultValue, 
+                    kind);
+        }
+    }
+    
+    /**
+     * @param beanClass any bean class
+     * @return the instance fields of the class and its superclasses by name, where a field hides any 
+     * same-named field of its superclasses
+     */
+    static Map<String, Field> fieldsByName(final Class<?> beanClass) {
+        return FieldStream
+                .of(beanClass)
+                .nested()
+                .declared()
+                .build()
+                .filter(f -> !Modifier.isStatic(f.getModifiers()))
+                .collect(Collectors.toMap(
+                        Field::getName, Function.identity(), (child, parent) -> child, LinkedHashMap::new));
+    }
+    
+    /**
+     * @param type any class
+     * @return true if the class can be converted field by field, which excludes primitives, arrays, enums, 
+     * interfaces and the classes of the JDK, such as the primitive wrappers
+     */
+    static boolean isBeanClass(final Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        
+        return !type.isPrimitive() 
+                && !type.isArray() 
+                && !type.isEnum() 
+                && !type.isInterface() 
+                && loader != null 
+                && loader != ClassLoader.getPlatformClassLoader();
+    }
+    
+    /*
+     * Fields declared as Object, Number or an interface are converted by the class of their values, whose 
+     * converters are looked up once per class.
+     */
+    private static Function<Object, Object> runtimeConverter(final Class<?> targetType) {
+        final Map<Class<?>, Function<Object, Object>> converters = new ConcurrentHashMap<>();
+        
+        return value -> converters
+                .computeIfAbsent(value.getClass(), valueClass -> TypeConverters
+                        .find(valueClass, targetType)
+                        .orElseGet(() -> missingConverter(valueClass, targetType)))
+                .apply(value);
+    }
+    
+    private static ConversionAttempt runtimeAttempt(final Class<?> targetType) {
+        final Map<Class<?>, ConversionAttempt> attempts = new ConcurrentHashMap<>();
+        
+        return (value, result) -> attempts
+                .computeIfAbsent(value.getClass(), valueClass -> TypeConverters
+                        .findAttempt(valueClass, targetType)
+                        .orElse((rejected, rejection) -> rejection.fail(rejected)))
+                .attempt(value, result);
+    }
+    
+    static Function<Object, Object> missingConverter(final Class<?> sourceType, final Class<?> targetType) {
+        return value -> {
+            throw new ObjectConverterException(
+                    Messages.CONVERTER_NOT_FOUND, sourceType.getName(), targetType.getName());
+        };
+    }
+    
+    /*
+     * Container conversions run several element converters, so their failures are only known by exception.
+     */
+    private static ConversionAttempt attemptOf(final Function<Object, Object> converter) {
+        return (value, result) -> {
+            try {
+                return result.succeed(converter.apply(value));
+            } catch (final RuntimeException e) {
+                return result.fail(value);
+            }
+        };
+    }
+    
+    static MethodHandle getterOf(final Field field) {
+        try {
+            field.setAccessible(true);
+            
+            return MethodHandles.lookup().unreflectGetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    static MethodHandle setterOf(final Field field) {
+        try {
+            field.setAccessible(true);
+            
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    static Object defaultValue(final Class<?> type) {
+        return type.isPrimitive() && !type.equals(void.class) ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+    
+    /**
+     * Reads the source field and converts its value.
+     * @param sourceObject the object declaring the source field
+     * @return the converted value or the default value of the target type when the source value is absent
+     */
+    Object read(final Object sourceObject) {
+        return convert(get(sourceObject));
+    }
+    
+    /**
+     * @param sourceObject the object declaring the source field
+     * @return the raw value of the source field or null if the source has no such field
+     */
+    Object get(final Object sourceObject) {
+        if (getter == null) {
+            return null;
+        }
+        
+        try {
+            return getter.invoke(sourceObject);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * @param value a raw value of the source field
+     * @return the converted value or the default value of the target type when the value is null
+     */
+    Object convert(final Object value) {
+        return value == null ? defaultValue : converter.apply(value);
+    }
+    
+    /**
+     * Reads the source field and converts its value without throwing for invalid values.
+     * @param sourceObject the object declaring the source field
+     * @param result receives the converted value, the default value of the target type when the source value 
+     * is absent, or the rejected source value
+     * @return true if the conversion succeeded
+     */
+    boolean tryRead(final Object sourceObject, final ConversionResult<Object> result) {
+        return tryConvert(get(sourceObject), result);
+    }
+    
+    /**
+     * @param value a raw value of the source field
+     * @param result receives the converted value, the default value of the target type when the value is null, 
+     * or the rejected value
+     * @return true if the conversion succeeded
+     */
+    boolean tryConvert(final Object value, final ConversionResult<Object> result) {
+        return value == null ? result.succeed(defaultValue) : attempt.attempt(value, result);
+    }
+    
+    /**
+     * @return the value of the target type for an absent source value
+     */
+    Object defaultValue() {
+        return defaultValue;
+    }
+    
+    /**
+     * @return the kind of converter chosen for the source field
+     */
+    Kind kind() {
+        return kind;
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionError;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionErrorPolicy;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+
+/**
+ * The cached field-injection plan of a (source, target) pair.
+ */
+final class FieldInjectionPlan<T> {
+    private static final Map<TypePair, FieldInjectionPlan<?>> PLANS = new ConcurrentHashMap<>();
+    
+    private final Class<T> targetClass;
+    private final MethodHandle constructor;
+    private final String[] names;
+    private final Map<String, Field> targetFields;
+    private final FieldBinding[] bindings;
+    private final MethodHandle[] setters;
+    
+    private FieldInjectionPlan(
+            final Class<T> targetClass,
+            final MethodHandle constructor, 
+            final Map<String, Field> targetFields,
+            final List<Field> steps,
+            final FieldBinding[] bindings) {
+        this.targetClass = targetClass;
+        this.constructor = constructor;
+        this.targetFields = targetFields;
+        this.names = new String[steps.size()];
+        this.bindings = bindings;
+        this.setters = new MethodHandle[steps.size()];
+        
+        for (int i = 0; i < steps.size(); i++) {
+            names[i] = steps.get(i).getName();
+            setters[i] = FieldBinding.setterOf(steps.get(i));
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    static <T> FieldInjectionPlan<T> of(final Class<?> sourceClass, final Class<T> targetClass) {
+        return (FieldInjectionPlan<T>) PLANS.computeIfAbsent(
+                TypePair.of(sourceClass, targetClass), 
+                pair -> newPlan(sourceClass, targetClass));
+    }
+    
+    /**
+     * @return the plans built so far by pair
+     */
+    static Map<TypePair, FieldInjectionPlan<?>> plans() {
+        return new HashMap<>(PLANS);
+    }
+    
+    /**
+     * Caches the plan of a pair from its steps as found by an earlier run, without matching the fields of both 
+     * classes or looking for the kinds of converter that were not chosen.
+     * @param sourceFields the instance fields of the source class by name, as returned by 
+     * {@link FieldBinding#fieldsByName(Class)}
+     * @param targetFields the instance fields of the target class by name
+     * @param stepNames the target field names of the steps in order
+     * @param stepKinds the kinds of converter of the steps in order
+     * @return true if the plan was cached, which fails if the pair already has a plan, if a name is not a field 
+     * of both classes or if a field no longer has a converter of its kind
+     */
+    static boolean restore(
+            final Class<?> sourceClass, 
+            final Map<String, Field> sourceFields, 
+            final Class<?> targetClass, 
+            final Map<String, Field> targetFields, 
+            final String[] stepNames, 
+            final FieldBinding.Kind[] stepKinds) {
+        final List<Field> steps = new ArrayList<>();
+        final FieldBinding[] bindings = new FieldBinding[stepNames.length];
+        
+        for (int i = 0; i < stepNames.length; i++) {
+            final Field sourceField = sourceFields.get(stepNames[i]);
+            final Field targetField = targetFields.get(stepNames[i]);
+            
+            if (sourceField == null || targetField == null) {
+                return false;
+            }
+            
+            bindings[i] = FieldBinding.of(
+                    sourceField, targetField.getType(), targetField.getGenericType(), stepKinds[i]);
+            
+            if (bindings[i] == null) {
+                return false;
+            }
+            
+            steps.add(targetField);
+        }
+        
+        final FieldInjectionPlan<?> plan = new FieldInjectionPlan<>(
+                targetClass, constructorOf(targetClass), targetFields, steps, bindings);
+        
+        return PLANS.putIfAbsent(TypePair.of(sourceClass, targetClass), plan) == null;
+    }
+    
+    /**
+     * @return the target field names of the steps in order
+     */
+    String[] stepNames() {
+        return names.clone();
+    }
+    
+    /**
+     * @return the kinds of converter of the steps in order
+     */
+    FieldBinding.Kind[] stepKinds() {
+        final FieldBinding.Kind[] result = new FieldBinding.Kind[bindings.length];
+        
+        for (int i = 0; i < bindings.length; i++) {
+            result[i] = bindings[i].kind();
+        }
+        
+        return result;
+    }
+    
+    /**
+     * @return the number of steps of this plan
+     */
+    int size() {
+        return names.length;
+    }
+    
+    /**
+     * @param targetFieldName the name of a target field
+     * @return the step index of the target field or -1 if the source has no field with the same name
+     * @throws ObjectConverterException if the target class has no such field
+     */
+    int indexOf(final String targetFieldName) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(targetFieldName)) {
+                return i;
+            }
+        }
+        
+        if (!targetFields.containsKey(targetFieldName)) {
+            throw new ObjectConverterException(Messages.FIELD_NOT_FOUND, targetFieldName, targetClass.getName());
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Creates the target object and runs every step.
+     * @param sourceObject the object to be converted
+     * @return the target object
+     */
+    T convert(final Object sourceObject) {
+        final T targetObject = newInstance();
+        
+        for (int i = 0; i < setters.length; i++) {
+            write(sourceObject, targetObject, i);
+        }
+        
+        return targetObject;
+    }
+    
+    /**
+     * Runs the steps selected by the mask on an existing target object.
+     * @param sourceObject the object to be converted
+     * @param targetObject the object receiving the converted values
+     * @param mask the indexes of the selected steps
+     */
+    void writeInto(final Object sourceObject, final T targetObject, final BitSet mask) {
+        for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+            write(sourceObject, targetObject, i);
+        }
+    }
+    
+    /**
+     * Creates the target object and runs the steps selected by the mask.
+     * @param sourceObject the object to be converted
+     * @param mask the indexes of the selected steps
+     * @return the target object
+     */
+    T convert(final Object sourceObject, final BitSet mask) {
+        final T targetObject = newInstance();
+        
+        for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+            write(sourceObject, targetObject, i);
+        }
+        
+        return targetObject;
+    }
+    
+    /**
+     * Creates the target object and runs the selected steps without throwing for values that cannot be 
+     * converted, which are handled by the given policy instead.
+     * @param sourceObject the object to be converted
+     * @param mask the indexes of the selected steps or null to run every step
+     * @param policy what to do with a field whose value cannot be converted
+     * @param errors receives the rejected fields under the {@link ConversionErrorPolicy#COLLECT} policy
+     * @return the target object
+     */
+    T convert(
+            final Object sourceObject, 
+            final BitSet mask, 
+            final ConversionErrorPolicy policy, 
+            final List<ConversionError> errors) {
+        final T targetObject = newInstance();
+        final ConversionResult<Object> result = new ConversionResult<>();
+        
+        for (int i = firstStep(mask); i >= 0; i = nextStep(mask, i)) {
+            if (bindings[i].tryRead(sourceObject, result)) {
+                set(targetObject, i, result.getValue());
+            } else if (policy == ConversionErrorPolicy.DEFAULT_VALUE) {
+                set(targetObject, i, bindings[i].defaultValue());
+            } else if (policy == ConversionErrorPolicy.COLLECT) {
+                errors.add(new ConversionError(names[i], result.getRejectedValue()));
+            }
+        }
+        
+        return targetObject;
+    }
+    
+    private int firstStep(final BitSet mask) {
+        return mask == null ? (setters.length > 0 ? 0 : -1) : mask.nextSetBit(0);
+    }
+    
+    private int nextStep(final BitSet mask, final int step) {
+        return mask == null ? (step + 1 < setters.length ? step + 1 : -1) : mask.nextSetBit(step + 1);
+    }
+    
+    /**
+     * Runs the steps whose source value changed since the last call. A source value is dirty when its hash code 
+     * changed or when it is not equal to the value of the snapshot. Arrays are compared by their elements, 
+     * while other values are compared by {@link Object#equals(Object)} and {@link Object#hashCode()}, so a 
+     * value mutated in place, such as a nested bean, is only detected if those methods depend on its state.
+     * @param sourceObject the object to be converted
+     * @param targetObject the object previously converted from the source
+     * @param values the source values of the last call, updated by this call
+     * @param hashes the hash codes of the source values of the last call, updated by this call
+     * @param policy what to do with a field whose value cannot be converted, which is run again by the next 
+     * call unless the policy is {@link ConversionErrorPolicy#FAIL}
+     * @param errors receives the rejected fields under the {@link ConversionErrorPolicy#COLLECT} policy
+     * @return the number of steps that were run
+     */
+    int update(
+            final Object sourceObject, 
+            final T targetObject, 
+            final Object[] values, 
+            final int[] hashes, 
+            final ConversionErrorPolicy policy, 
+            final List<ConversionError> errors) {
+        final ConversionResult<Object> result = new ConversionResult<>();
+        int updated = 0;
+        
+        for (int i = 0; i < setters.length; i++) {
+            final Object value = bindings[i].get(sourceObject);
+            final int hash = snapshotHash(value);
+            
+            if (hash == hashes[i] && Objects.deepEquals(value, values[i])) {
+                continue;
+            }
+            
+            updated++;
+            
+            if (policy == ConversionErrorPolicy.FAIL) {
+                set(targetObject, i, bindings[i].convert(value));
+            } else if (bindings[i].tryConvert(value, result)) {
+                set(targetObject, i, result.getValue());
+            } else {
+                if (policy == ConversionErrorPolicy.DEFAULT_VALUE) {
+                    set(targetObject, i, bindings[i].defaultValue());
+                } else if (policy == ConversionErrorPolicy.COLLECT) {
+                    errors.add(new ConversionError(names[i], result.getRejectedValue()));
+                }
+                
+                continue;
+            }
+            
+            values[i] = snapshotOf(value);
+            hashes[i] = hash;
+        }
+        
+        return updated;
+    }
+    
+    private static int snapshotHash(final Object value) {
+        return value != null && value.getClass().isArray() 
+                ? Arrays.deepHashCode(new Object[] { value }) 
+                : Objects.hashCode(value);
+    }
+    
+    /*
+     * Arrays are copied, so that the snapshot keeps their elements when they are changed in place.
+     */
+    private static Object snapshotOf(final Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        
+        final int length = Array.getLength(value);
+        final Object result = Array.newInstance(value.getClass().getComponentType(), length);
+        
+        System.arraycopy(value, 0, result, 0, length);
+        
+        return result;
+    }
+    
+    private void write(final Object sourceObject, final Object targetObject, final int step) {
+        set(targetObject, step, bindings[step].read(sourceObject));
+    }
+    
+    private void set(final Object targetObject, final int step, final Object value) {
+        try {
+            setters[step].invoke(targetObject, value);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * @return a new target object created by the no-arg constructor
+     */
+    T newInstance() {
+        if (constructor == null) {
+            throw new ObjectConverterException(Messages.DEFAULT_CONSTRUCTOR_NOT_FOUND, targetClass.getName());
+        }
+        
+        try {
+            return targetClass.cast(constructor.invoke());
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static <T> FieldInjectionPlan<T> newPlan(final Class<?> sourceClass, final Class<T> targetClass) {
+        final Map<String, Field> sourceFields = FieldBinding.fieldsByName(sourceClass);
+        final Map<String, Field> targetFields = FieldBinding.fieldsByName(targetClass);
+        final List<Field> steps = new ArrayList<>();
+        
+        for (final Field targetField : targetFields.values()) {
+            if (sourceFields.containsKey(targetField.getName())) {
+                steps.add(targetField);
+            }
+        }
+        
+        final FieldBinding[] bindings = new FieldBinding[steps.size()];
+        
+        for (int i = 0; i < bindings.length; i++) {
+            bindings[i] = FieldBinding.of(
+                    sourceFields.get(steps.get(i).getName()), steps.get(i).getType(), steps.get(i).getGenericType());
+        }
+        
+        return new FieldInjectionPlan<>(targetClass, constructorOf(targetClass), targetFields, steps, bindings);
+    }
+    
+    static MethodHandle constructorOf(final Class<?> targetClass) {
+        try {
+            final Constructor<?> constructor = targetClass.getDeclaredConstructor();
+            
+            constructor.setAccessible(true);
+            
+            return MethodHandles
+                    .lookup()
+                    .unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (final NoSuchMethodException e) {
+            return null;
+        } catch (final IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionError;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionErrorPolicy;
+
+/**
+ * A tracked conversion of a long-lived source object that re-converts only the fields changed since the
+ * previous {@link #refresh()}. Instances are not thread-safe.
+ */
+public final class IncrementalConversion<T> {
+    private static final String SOURCE = "source";
+    private static final String TARGET = "target";
+    private static final String POLICY = "policy";
+    private static final Object UNSET = new Object();
+    
+    private final Object sourceObject;
+    private final FieldInjectionPlan<T> plan;
+    private final T targetObject;
+    private final Object[] values;
+    private final int[] hashes;
+    
+    private IncrementalConversion(final Object sourceObject, final FieldInjectionPlan<T> plan) {
+        this.sourceObject = sourceObject;
+        this.plan = plan;
+        this.targetObject = plan.newInstance();
+        this.values = new Object[plan.size()];
+        this.hashes = new int[plan.size()];
+        
+        Arrays.fill(values, UNSET);
+    }
+    
+    /**
+     * Starts tracking a source object, fully converting it into a new target object.
+     * @param <T> the target type
+     * @param sourceObject the object to be tracked
+     * @param targetClass the target class
+     * @return the tracked conversion
+     */
+    public static <T> IncrementalConversion<T> of(final Object sourceObject, final Class<T> targetClass) {
+        Objects.requireNonNull(sourceObject, CommonMessages.REQUIRED_PARAMETER.format(SOURCE));
+        Objects.requireNonNull(targetClass, CommonMessages.REQUIRED_PARAMETER.format(TARGET));
+        
+        final IncrementalConversion<T> result = track(sourceObject, targetClass);
+        
+        result.refresh();
+        
+        return result;
+    }
+    
+    /**
+     * Re-converts the source fields that changed since the last pass.
+     * @return the number of re-converted fields
+     */
+    public int refresh() {
+        return refresh(ConversionErrorPolicy.FAIL, new ArrayList<>());
+    }
+    
+    /**
+     * Re-converts the source fields that changed since the last pass, handling the values that cannot be 
+     * converted by the given policy. Rejected fields keep their previous snapshot, so they are re-converted by 
+     * the next pass.
+     * @param policy what to do with a field whose value cannot be converted
+     * @param errors receives the rejected fields under the {@link ConversionErrorPolicy#COLLECT} policy
+     * @return the number of re-converted fields
+     */
+    public int refresh(final ConversionErrorPolicy policy, final List<ConversionError> errors) {
+        Objects.requireNonNull(policy, CommonMessages.REQUIRED_PARAMETER.format(POLICY));
+        
+        return plan.update(sourceObject, targetObject, values, hashes, policy, errors);
+    }
+    
+    /*
+     * Starts tracking without converting, so that the first pass can run under an error policy.
+     */
+    static <T> IncrementalConversion<T> track(final Object sourceObject, final Class<T> targetClass) {
+        return new IncrementalConversion<>(sourceObject, FieldInjectionPlan.of(sourceObject.getClass(), targetClass));
+    }
+    
+    /**
+     * @return the target object, which is the same instance for every pass
+     */
+    public T getTarget() {
+        return targetObject;
+    }
+    
+    boolean tracks(final Class<?> targetClass) {
+        return targetObject.getClass().equals(targetClass);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import br.com.armange.commons.object.impl.typeconverter.OpenAddressingIndex;
+
+/**
+ * An immutable index of distinct keys to their positions, built once per key set.
+ */
+final class KeyIndex {
+    private final String[] keys;
+    private final OpenAddressingIndex index;
+    
+    /**
+     * @param keys the distinct keys, whose positions are their indexes in the array
+     */
+    KeyIndex(final String[] keys) {
+        final int[] hashes = new int[keys.length];
+        
+        for (int i = 0; i < keys.length; i++) {
+            hashes[i] = keys[i].hashCode();
+        }
+        
+        this.keys = keys.clone();
+        this.index = new OpenAddressingIndex(hashes);
+    }
+    
+    /**
+     * @param key any object
+     * @return the position of the key or -1 if it is not a key of the index
+     */
+    int indexOf(final Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        
+        for (int slot = index.slotOf(key.hashCode()); index.positionAt(slot) >= 0; slot = index.next(slot)) {
+            final int position = index.positionAt(slot);
+            
+            if (keys[position].equals(key)) {
+                return position;
+            }
+        }
+        
+        return -1;
+    }
+}
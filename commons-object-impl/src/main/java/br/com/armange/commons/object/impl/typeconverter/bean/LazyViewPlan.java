@@ -0,0 +1,230 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+
+/**
+ * The cached lazy-conversion plan of a (source, target interface) pair.
+ */
+final class LazyViewPlan<T> {
+    private static final Map<TypePair, LazyViewPlan<?>> PLANS = new ConcurrentHashMap<>();
+    private static final Object UNSET = new Object();
+    
+    private final Class<T> targetClass;
+    private final Map<Method, Integer> getters;
+    private final Map<Method, Integer> setters;
+    private final Map<Method, MethodHandle> defaults;
+    private final FieldBinding[] bindings;
+    
+    private LazyViewPlan(
+            final Class<T> targetClass, 
+            final Map<Method, Integer> getters, 
+            final Map<Method, Integer> setters, 
+            final Map<Method, MethodHandle> defaults, 
+            final FieldBinding[] bindings) {
+        this.targetClass = targetClass;
+        this.getters = getters;
+        this.setters = setters;
+        this.defaults = defaults;
+        this.bindings = bindings;
+    }
+    
+    @SuppressWarnings("unchecked")
+    static <T> LazyViewPlan<T> of(final Class<?> sourceClass, final Class<T> targetClass) {
+        if (!targetClass.isInterface()) {
+            throw new ObjectConverterException(Messages.LAZY_TARGET_NOT_INTERFACE, targetClass.getName());
+        }
+        
+        return (LazyViewPlan<T>) PLANS.computeIfAbsent(
+                TypePair.of(sourceClass, targetClass), 
+                pair -> newPlan(sourceClass, targetClass));
+    }
+    
+    T newView(final Object sourceObject) {
+        return targetClass.cast(Proxy.newProxyInstance(
+                targetClass.getClassLoader(), 
+                new Class<?>[] { targetClass }, 
+                new LazyView(sourceObject)));
+    }
+    
+    private static <T> LazyViewPlan<T> newPlan(final Class<?> sourceClass, final Class<T> targetClass) {
+        final Map<String, Field> sourceFields = FieldBinding.fieldsByName(sourceClass);
+        final Map<String, Integer> slots = new HashMap<>();
+        final Map<Method, Integer> getters = new HashMap<>();
+        final Map<Method, Integer> setters = new HashMap<>();
+        final Method[] methods = targetClass.getMethods();
+        
+        for (final Method method : methods) {
+            final String property = getterProperty(method);
+            
+            if (property != null) {
+                getters.put(method, slots.computeIfAbsent(property, p -> slots.size()));
+            }
+        }
+        
+        final FieldBinding[] bindings = new FieldBinding[slots.size()];
+        
+        for (final Map.Entry<Method, Integer> getter : getters.entrySet()) {
+            final String property = getterProperty(getter.getKey());
+            
+            bindings[getter.getValue()] = FieldBinding.of(
+                    sourceFields.get(property), 
+                    getter.getKey().getReturnType(), 
+                    getter.getKey().getGenericReturnType());
+        }
+        
+        final Map<Method, MethodHandle> defaults = new HashMap<>();
+        
+        for (final Method method : methods) {
+            final Integer slot = setterProperty(method) == null ? null : slots.get(setterProperty(method));
+            
+            if (slot != null) {
+                setters.put(method, slot);
+            } else if (method.isDefault()) {
+                defaults.put(method, defaultMethodOf(method));
+            } else if (!getters.containsKey(method) && !Modifier.isStatic(method.getModifiers()) 
+                    && !isObjectMethod(method)) {
+                throw new ObjectConverterException(
+                        Messages.LAZY_TARGET_METHOD, method.getName(), targetClass.getName());
+            }
+        }
+        
+        return new LazyViewPlan<>(targetClass, getters, setters, defaults, bindings);
+    }
+    
+    private static MethodHandle defaultMethodOf(final Method method) {
+        try {
+            final Class<?> declaringClass = method.getDeclaringClass();
+            
+            return MethodHandles
+                    .privateLookupIn(declaringClass, MethodHandles.lookup())
+                    .unreflectSpecial(method, declaringClass);
+        } catch (final IllegalAccessException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static boolean isObjectMethod(final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+    
+    private static String getterProperty(final Method method) {
+        if (method.getParameterCount() != 0 || method.getReturnType().equals(void.class) || method.isDefault()) {
+            return null;
+        } else if (method.getName().startsWith("get") && method.getName().length() > 3) {
+            return decapitalize(method.getName().substring(3));
+        } else if (method.getName().startsWith("is") && method.getName().length() > 2 
+                && (method.getReturnType().equals(boolean.class) || method.getReturnType().equals(Boolean.class))) {
+            return decapitalize(method.getName().substring(2));
+        } else {
+            return null;
+        }
+    }
+    
+    private static String setterProperty(final Method method) {
+        return method.getParameterCount() == 1 && method.getName().startsWith("set") && method.getName().length() > 3
+                ? decapitalize(method.getName().substring(3)) 
+                : null;
+    }
+    
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+    
+    /*
+     * Plans only admit accessors, default methods and the methods of Object, so every other method is one of 
+     * the latter.
+     */
+    private final class LazyView implements InvocationHandler {
+        private final Object sourceObject;
+        private final Object[] values;
+        
+        private LazyView(final Object sourceObject) {
+            this.sourceObject = sourceObject;
+            this.values = new Object[bindings.length];
+            
+            Arrays.fill(values, UNSET);
+        }
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final Integer getter = getters.get(method);
+            
+            if (getter != null) {
+                Object value = values[getter];
+                
+                if (value == UNSET) {
+                    value = bindings[getter].read(sourceObject);
+                    values[getter] = value;
+                }
+                
+                return value;
+            }
+            
+            final Integer setter = setters.get(method);
+            
+            if (setter != null) {
+                values[setter] = args[0];
+                
+                return null;
+            }
+            
+            final MethodHandle defaultMethod = defaults.get(method);
+            
+            if (defaultMethod != null) {
+                return defaultMethod.bindTo(proxy).invokeWithArguments(args == null ? new Object[0] : args);
+            }
+            
+            return invokeObjectMethod(proxy, method, args);
+        }
+
+        private Object invokeObjectMethod(final Object proxy, final Method method, final Object[] args) {
+            switch (method.getName()) {
+            case "equals":
+                return args != null && args.length == 1 && proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return targetClass.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+        }
+    }
+}
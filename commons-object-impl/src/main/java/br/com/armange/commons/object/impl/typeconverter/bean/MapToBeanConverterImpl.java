@@ -0,0 +1,50 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+import br.com.armange.commons.object.api.typeconverter.bean.MapToBeanConverter;
+
+/**
+ * Converts a map whose keys are field names into a bean of the target class.
+ */
+public class MapToBeanConverterImpl<T> implements MapToBeanConverter<T> {
+    
+    private Map<String, Object> source;
+    
+    @Override
+    public TypeConverter<Map<String, Object>, T> from(final Map<String, Object> sourceObject) {
+        source = sourceObject;
+        
+        return this;
+    }
+
+    @Override
+    public T to(final Class<T> targetClass) {
+        return source == null ? null : BeanMapPlan.of(targetClass).toBean(source);
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return sourceObject instanceof Map 
+                && targetClass != null 
+                && FieldBinding.isBeanClass(targetClass) 
+                && !Modifier.isAbstract(targetClass.getModifiers());
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+
+/**
+ * A binary snapshot of the conversion plans resolved by a run, which lets the next run skip their discovery.
+ */
+public final class PlanSnapshot {
+    private static final String FILE = "file";
+    private static final int MAGIC = 0x434E5650;
+    private static final short VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final long MAX_FILE_SIZE = 64L << 20;
+    private static final int MIN_PAIR_SIZE = 2 * Short.BYTES;
+    private static final int MIN_ROUTE_SIZE = MIN_PAIR_SIZE + Integer.BYTES;
+    private static final int MIN_PLAN_SIZE = MIN_PAIR_SIZE + 2 * Long.BYTES + Integer.BYTES;
+    private static final int MIN_STEP_SIZE = Short.BYTES + Byte.BYTES;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final Map<String, Class<?>> PRIMITIVES = primitives();
+    private static final FieldBinding.Kind[] KINDS = FieldBinding.Kind.values();
+    private static final ClassValue<ClassShape> SHAPES = new ClassValue<>() {
+        @Override
+        protected ClassShape computeValue(final Class<?> type) {
+            return type == Object.class ? ClassShape.EMPTY : new ClassShape(type);
+        }
+    };
+    
+    private PlanSnapshot() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Writes the plans and routes resolved so far, replacing the file.
+     * @param file the snapshot file
+     * @return the number of written plans
+     * @throws ObjectConverterException if the file cannot be written
+     */
+    public static int save(final Path file) {
+        Objects.requireNonNull(file, CommonMessages.REQUIRED_PARAMETER.format(FILE));
+        
+        final Map<TypePair, FieldInjectionPlan<?>> plans = FieldInjectionPlan.plans();
+        final Map<TypePair, Optional<List<TypePair>>> routes = TypeConverters.routes();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        
+        Path temporary = null;
+        
+        try {
+            writeBody(new DataOutputStream(body), plans, routes);
+            
+            final CRC32 checksum = new CRC32();
+            
+            checksum.update(body.toByteArray());
+            temporary = Files.createTempFile(file.toAbsolutePath().getParent(), "plans", ".tmp");
+            
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeShort(VERSION);
+                output.writeInt(body.size());
+                body.writeTo(output);
+                output.writeLong(checksum.getValue());
+            }
+            
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            
+            return plans.size();
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        } finally {
+            deleteIfExists(temporary);
+        }
+    }
+    
+    /**
+     * Restores the plans and routes of a snapshot whose classes and registered converters did not change. A 
+     * restored plan skips matching the fields of both classes and the search for the converter of each step, 
+     * while the fields of each class are still read once to check that they did not change. The whole file is 
+     * read and validated before anything is restored, so a missing, outdated, truncated or malformed snapshot 
+     * restores nothing, leaving every plan to the normal discovery.
+     * @param file the snapshot file
+     * @return the number of restored plans
+     * @throws ObjectConverterException if the file exists but cannot be read
+     */
+    public static int load(final Path file) {
+        Objects.requireNonNull(file, CommonMessages.REQUIRED_PARAMETER.format(FILE));
+        
+        final byte[] bytes;
+        
+        try {
+            if (Files.size(file) > MAX_FILE_SIZE) {
+                return 0;
+            }
+            
+            bytes = Files.readAllBytes(file);
+        } catch (final NoSuchFileException e) {
+            return 0;
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+        
+        final Contents contents = parse(bytes);
+        
+        if (contents == null) {
+            return 0;
+        }
+        
+        contents.routes.forEach(TypeConverters::preload);
+        
+        int restored = 0;
+        
+        for (final RestoredPlan plan : contents.plans) {
+            restored += plan.restore() ? 1 : 0;
+        }
+        
+        return restored;
+    }
+    
+    /**
+     * @param type any class
+     * @return a hash of the names, generic types and modifiers of the fields of the class and its superclasses, 
+     * in declaration order, computed once per class
+     */
+    static long shapeOf(final Class<?> type) {
+        return SHAPES.get(type).hash;
+    }
+    
+    private static void deleteIfExists(final Path temporary) {
+        try {
+            if (temporary != null) {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static long registryHash() {
+        long result = FNV_OFFSET;
+        
+        for (final TypePair pair : TypeConverters.registeredPairs()) {
+            result = hash(result, pair.toString());
+        }
+        
+        return result;
+    }
+    
+    private static long hash(final long seed, final String text) {
+        long result = seed;
+        
+        for (int i = 0; i < text.length(); i++) {
+            result = (result ^ text.charAt(i)) * FNV_PRIME;
+        }
+        
+        return (result ^ text.length()) * FNV_PRIME;
+    }
+    
+    private static void writeBody(
+            final DataOutputStream output, 
+            final Map<TypePair, FieldInjectionPlan<?>> plans, 
+            final Map<TypePair, Optional<List<TypePair>>> routes) throws IOException {
+        output.writeLong(registryHash());
+        output.writeInt(routes.size());
+        
+        for (final Map.Entry<TypePair, Optional<List<TypePair>>> route : routes.entrySet()) {
+            writePair(output, route.getKey());
+            output.writeInt(route.getValue().map(List::size).orElse(-1));
+            
+            for (final TypePair hop : route.getValue().orElse(Collections.emptyList())) {
+                writePair(output, hop);
+            }
+        }
+        
+        output.writeInt(plans.size());
+        
+        for (final Map.Entry<TypePair, FieldInjectionPlan<?>> plan : plans.entrySet()) {
+            final String[] stepNames = plan.getValue().stepNames();
+            
+            writePair(output, plan.getKey());
+            output.writeLong(shapeOf(plan.getKey().getSourceClass()));
+            output.writeLong(shapeOf(plan.getKey().getTargetClass()));
+            output.writeInt(stepNames.length);
+            
+            final FieldBinding.Kind[] stepKinds = plan.getValue().stepKinds();
+            
+            for (int i = 0; i < stepNames.length; i++) {
+                output.writeUTF(stepNames[i]);
+                output.writeByte(stepKinds[i].ordinal());
+            }
+        }
+        
+        output.flush();
+    }
+    
+    /*
+     * Null if the file is not a complete snapshot of this version with a matching checksum, or if its body is 
+     * malformed.
+     */
+    private static Contents parse(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        
+        if (bytes.length < HEADER_SIZE + Long.BYTES 
+                || buffer.getInt() != MAGIC 
+                || buffer.getShort() != VERSION 
+                || buffer.getInt() != bytes.length - HEADER_SIZE - Long.BYTES) {
+            return null;
+        }
+        
+        final CRC32 checksum = new CRC32();
+        
+        checksum.update(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE - Long.BYTES);
+        
+        if (buffer.getLong(bytes.length - Long.BYTES) != checksum.getValue()) {
+            return null;
+        }
+        
+        final ByteArrayInputStream body = new ByteArrayInputStream(
+                bytes, HEADER_SIZE, bytes.length - HEADER_SIZE - Long.BYTES);
+        
+        try {
+            final Contents result = readBody(new DataInputStream(body), body);
+            
+            return body.available() == 0 ? result : null;
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+    
+    private static Contents readBody(final DataInputStream input, final ByteArrayInputStream body) 
+            throws IOException {
+        final Contents result = new Contents();
+        final boolean sameRegistry = input.readLong() == registryHash();
+        final int routes = readCount(body, input.readInt(), MIN_ROUTE_SIZE);
+        
+        for (int i = 0; i < routes; i++) {
+            final TypePair pair = readPair(input);
+            final Optional<List<TypePair>> route = readRoute(input, body);
+            
+            if (sameRegistry && pair != null && route != null) {
+                result.routes.put(pair, route);
+            }
+        }
+        
+        final int plans = readCount(body, input.readInt(), MIN_PLAN_SIZE);
+        
+        for (int i = 0; i < plans; i++) {
+            final RestoredPlan plan = readPlan(input, body);
+            
+            if (sameRegistry) {
+                result.plans.add(plan);
+            }
+        }
+        
+        return result;
+    }
+    
+    private static RestoredPlan readPlan(final DataInputStream input, final ByteArrayInputStream body) 
+            throws IOException {
+        final TypePair pair = readPair(input);
+        final long sourceShape = input.readLong();
+        final long targetShape = input.readLong();
+        final String[] stepNames = new String[readCount(body, input.readInt(), MIN_STEP_SIZE)];
+        final FieldBinding.Kind[] stepKinds = new FieldBinding.Kind[stepNames.length];
+        
+        for (int i = 0; i < stepNames.length; i++) {
+            stepNames[i] = input.readUTF();
+            stepKinds[i] = readKind(input);
+        }
+        
+        return new RestoredPlan(pair, sourceShape, targetShape, stepNames, stepKinds);
+    }
+    
+    private static FieldBinding.Kind readKind(final DataInputStream input) throws IOException {
+        final int ordinal = input.readUnsignedByte();
+        
+        if (ordinal >= KINDS.length) {
+            throw new StreamCorruptedException(Integer.toString(ordinal));
+        }
+        
+        return KINDS[ordinal];
+    }
+    
+    /*
+     * Null if a class of the route no longer exists.
+     */
+    private static Optional<List<TypePair>> readRoute(final DataInputStream input, final ByteArrayInputStream body) 
+            throws IOException {
+        final int count = input.readInt();
+        final int hops = count == -1 ? 0 : readCount(body, count, MIN_PAIR_SIZE);
+        final List<TypePair> result = new ArrayList<>(hops);
+        boolean complete = true;
+        
+        for (int i = 0; i < hops; i++) {
+            final TypePair hop = readPair(input);
+            
+            complete &= hop != null;
+            result.add(hop);
+        }
+        
+        if (!complete) {
+            return null;
+        }
+        
+        return count == -1 ? Optional.empty() : Optional.of(result);
+    }
+    
+    /*
+     * A count can never exceed the number of records of the minimum size that fit the unread bytes.
+     */
+    private static int readCount(final ByteArrayInputStream body, final int count, final int minRecordSize) 
+            throws StreamCorruptedException {
+        if (count < 0 || count > body.available() / minRecordSize) {
+            throw new StreamCorruptedException(Integer.toString(count));
+        }
+        
+        return count;
+    }
+    
+    private static void writePair(final DataOutputStream output, final TypePair pair) throws IOException {
+        output.writeUTF(pair.getSourceClass().getName());
+        output.writeUTF(pair.getTargetClass().getName());
+    }
+    
+    /*
+     * Null if one of the classes no longer exists.
+     */
+    private static TypePair readPair(final DataInputStream input) throws IOException {
+        final Class<?> sourceClass = classOf(input.readUTF());
+        final Class<?> targetClass = classOf(input.readUTF());
+        
+        return sourceClass != null && targetClass != null ? TypePair.of(sourceClass, targetClass) : null;
+    }
+    
+    private static Class<?> classOf(final String name) {
+        final ClassLoader loader = Optional
+                .ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(PlanSnapshot.class.getClassLoader());
+        
+        try {
+            return PRIMITIVES.containsKey(name) ? PRIMITIVES.get(name) : Class.forName(name, false, loader);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+    
+    private static Map<String, Class<?>> primitives() {
+        final Map<String, Class<?>> result = new HashMap<>();
+        
+        for (final Class<?> type : new Class<?>[] { 
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, 
+            void.class }) {
+            result.put(type.getName(), type);
+        }
+        
+        return result;
+    }
+    
+    private static final class Contents {
+        private final Map<TypePair, Optional<List<TypePair>>> routes = new LinkedHashMap<>();
+        private final List<RestoredPlan> plans = new ArrayList<>();
+    }
+    
+    /*
+     * The shape of a class and its instance fields by name, as returned by FieldBinding#fieldsByName, both built 
+     * from the shape of the superclass.
+     */
+    private static final class ClassShape {
+        private static final ClassShape EMPTY = new ClassShape();
+        
+        private final long hash;
+        private final Map<String, Field> fields;
+        
+        private ClassShape() {
+            this.hash = FNV_OFFSET;
+            this.fields = Collections.emptyMap();
+        }
+        
+        private ClassShape(final Class<?> type) {
+            final ClassShape parent = type.getSuperclass() == null || type.getSuperclass() == Object.class 
+                    ? EMPTY 
+                    : SHAPES.get(type.getSuperclass());
+            final Map<String, Field> instanceFields = new LinkedHashMap<>(parent.fields);
+            long result = hash(parent.hash, type.getName());
+            
+            for (final Field field : type.getDeclaredFields()) {
+                result = hash(result, field.getName());
+                result = hash(result, field.getGenericType().getTypeName());
+                result = hash(result, Integer.toString(field.getModifiers()));
+                
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    instanceFields.put(field.getName(), field);
+                }
+            }
+            
+            this.hash = result;
+            this.fields = Collections.unmodifiableMap(instanceFields);
+        }
+    }
+    
+    private static final class RestoredPlan {
+        private final TypePair pair;
+        private final long sourceShape;
+        private final long targetShape;
+        private final String[] stepNames;
+        private final FieldBinding.Kind[] stepKinds;
+        
+        private RestoredPlan(
+                final TypePair pair, 
+                final long sourceShape, 
+                final long targetShape, 
+                final String[] stepNames, 
+                final FieldBinding.Kind[] stepKinds) {
+            this.pair = pair;
+            this.sourceShape = sourceShape;
+            this.targetShape = targetShape;
+            this.stepNames = stepNames;
+            this.stepKinds = stepKinds;
+        }
+        
+        private boolean restore() {
+            if (pair == null) {
+                return false;
+            }
+            
+            final ClassShape source = SHAPES.get(pair.getSourceClass());
+            final ClassShape target = SHAPES.get(pair.getTargetClass());
+            
+            return source.hash == sourceShape 
+                    && target.hash == targetShape 
+                    && FieldInjectionPlan.restore(
+                            pair.getSourceClass(), source.fields, pair.getTargetClass(), target.fields, 
+                            stepNames, stepKinds);
+        }
+    }
+}
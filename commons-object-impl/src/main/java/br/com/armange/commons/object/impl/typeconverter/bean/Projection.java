@@ -0,0 +1,82 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+
+/**
+ * A precompiled, immutable selection of target fields of a (source, target) pair.
+ */
+public final class Projection {
+    private static final String FIELD_NAMES = "targetFieldNames";
+    
+    private final TypePair pair;
+    private final BitSet mask;
+    
+    private Projection(final TypePair pair, final BitSet mask) {
+        this.pair = pair;
+        this.mask = mask;
+    }
+    
+    /**
+     * Compiles a projection.
+     * @param sourceClass the source class
+     * @param targetClass the target class
+     * @param targetFieldNames the names of the target fields to be converted
+     * @return the compiled projection
+     * @throws br.com.armange.commons.object.impl.exception.ObjectConverterException if the target class has 
+     * no field with one of the given names
+     */
+    public static Projection of(
+            final Class<?> sourceClass, final Class<?> targetClass, final String... targetFieldNames) {
+        Objects.requireNonNull(targetFieldNames, CommonMessages.REQUIRED_PARAMETER.format(FIELD_NAMES));
+        
+        final FieldInjectionPlan<?> plan = FieldInjectionPlan.of(sourceClass, targetClass);
+        final BitSet mask = new BitSet(plan.size());
+        
+        for (final String targetFieldName : targetFieldNames) {
+            final int index = plan.indexOf(targetFieldName);
+            
+            if (index >= 0) {
+                mask.set(index);
+            }
+        }
+        
+        return new Projection(TypePair.of(sourceClass, targetClass), mask);
+    }
+    
+    /**
+     * @return the (source, target) pair this projection was compiled for
+     */
+    public TypePair getTypePair() {
+        return pair;
+    }
+    
+    /**
+     * @return the number of selected fields that the source can provide
+     */
+    public int size() {
+        return mask.cardinality();
+    }
+    
+    BitSet mask() {
+        return mask;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.typeconverter.string.NumberRenderer;
+import br.com.armange.commons.object.impl.typeconverter.time.TimeRenderer;
+
+/**
+ * A reusable byte buffer receiving rendered records as UTF-8 text.
+ */
+final class RecordBuffer {
+    private static final int MAX_UTF8_PER_CHAR = 3;
+    
+    private final FileChannel channel;
+    private final char[] scratch = new char[Math.max(NumberRenderer.MAX_LENGTH, TimeRenderer.MAX_LENGTH)];
+    private byte[] bytes;
+    private int size;
+    private int valueStart;
+    
+    /**
+     * @param capacity the initial capacity in bytes
+     * @param channel the channel receiving the bytes whenever the buffer is full, or null to grow the buffer
+     */
+    RecordBuffer(final int capacity, final FileChannel channel) {
+        this.bytes = new byte[capacity];
+        this.channel = channel;
+    }
+    
+    /**
+     * Marks the start of a value.
+     */
+    void startValue() {
+        valueStart = size;
+    }
+    
+    /**
+     * @param delimiter the field delimiter
+     * @return true if the bytes of the value in progress hold the delimiter or a line break
+     */
+    boolean valueBreaksRecord(final byte delimiter) {
+        for (int i = valueStart; i < size; i++) {
+            if (bytes[i] == delimiter || bytes[i] == '\n' || bytes[i] == '\r') {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * @return the bytes of the value in progress decoded as UTF-8
+     */
+    String valueText() {
+        return new String(bytes, valueStart, size - valueStart, StandardCharsets.UTF_8);
+    }
+    
+    void writeByte(final byte value) {
+        require(1);
+        bytes[size++] = value;
+    }
+    
+    void write(final long value) {
+        require(NumberRenderer.MAX_LENGTH);
+        size += NumberRenderer.render(value, bytes, size);
+    }
+    
+    void write(final double value) {
+        require(NumberRenderer.MAX_LENGTH);
+        size += NumberRenderer.render(value, bytes, size);
+    }
+    
+    void write(final float value) {
+        require(NumberRenderer.MAX_LENGTH);
+        size += NumberRenderer.render(value, bytes, size);
+    }
+    
+    /**
+     * Writes a value rendered as ASCII characters into a scratch buffer.
+     * @param value the value to be rendered
+     * @param renderer writes the value into the scratch buffer and returns the number of characters
+     */
+    <V> void write(final V value, final ScratchRenderer<V> renderer) {
+        final int length = renderer.render(value, scratch, 0);
+        
+        require(length);
+        
+        for (int i = 0; i < length; i++) {
+            bytes[size++] = (byte) scratch[i];
+        }
+    }
+    
+    /**
+     * Writes a character sequence as UTF-8, replacing unpaired surrogates with {@code '?'} as 
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     * @param value the characters to be written
+     */
+    void write(final CharSequence value) {
+        final int length = value.length();
+        
+        require(length * MAX_UTF8_PER_CHAR);
+        
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                
+                bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                encode(c);
+            }
+        }
+    }
+    
+    /**
+     * Writes a single character as UTF-8, replacing a surrogate with {@code '?'}.
+     * @param value the character to be written
+     */
+    void write(final char value) {
+        require(MAX_UTF8_PER_CHAR);
+        encode(value);
+    }
+    
+    private void encode(final char c) {
+        if (c < 0x80) {
+            bytes[size++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[size++] = (byte) (0xC0 | c >> 6);
+            bytes[size++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isSurrogate(c)) {
+            bytes[size++] = '?';
+        } else {
+            bytes[size++] = (byte) (0xE0 | c >> 12);
+            bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+            bytes[size++] = (byte) (0x80 | c & 0x3F);
+        }
+    }
+    
+    /**
+     * Writes every buffered byte into a channel and empties the buffer.
+     * @param target the channel receiving the bytes
+     */
+    void flush(final FileChannel target) {
+        write(target, size);
+        
+        size = 0;
+        valueStart = 0;
+    }
+    
+    private void write(final FileChannel target, final int length) {
+        final ByteBuffer pending = ByteBuffer.wrap(bytes, 0, length);
+        
+        try {
+            while (pending.hasRemaining()) {
+                target.write(pending);
+            }
+        } catch (final IOException e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /*
+     * Makes room for the given number of bytes, flushing the bytes before the value in progress into the channel 
+     * when there is one. A value larger than the whole buffer grows it even when there is a channel.
+     */
+    private void require(final int length) {
+        if (size + length <= bytes.length) {
+            return;
+        }
+        
+        if (channel != null && valueStart > 0) {
+            write(channel, valueStart);
+            System.arraycopy(bytes, valueStart, bytes, 0, size - valueStart);
+            
+            size -= valueStart;
+            valueStart = 0;
+        }
+        
+        if (size + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+        }
+    }
+    
+    @FunctionalInterface
+    interface ScratchRenderer<V> {
+        int render(V value, char[] scratch, int offset);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Function;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+import br.com.armange.commons.object.impl.typeconverter.string.ByteBufferText;
+
+/**
+ * The compiled binding of delimited columns to the fields of a bean class.
+ */
+final class RecordPlan<T> {
+    private final Class<T> targetClass;
+    private final MethodHandle constructor;
+    private final byte delimiter;
+    private final String[] columns;
+    private final Field[] fields;
+    private final ColumnBinding[] bindings;
+    
+    private RecordPlan(final Class<T> targetClass, final char delimiter, final String[] columns) {
+        final Map<String, Field> targetFields = FieldBinding.fieldsByName(targetClass);
+        
+        this.targetClass = targetClass;
+        this.constructor = FieldInjectionPlan.constructorOf(targetClass);
+        this.delimiter = (byte) delimiter;
+        this.columns = columns;
+        this.fields = new Field[columns.length];
+        this.bindings = new ColumnBinding[columns.length];
+        
+        if (constructor == null) {
+            throw new ObjectConverterException(Messages.DEFAULT_CONSTRUCTOR_NOT_FOUND, targetClass.getName());
+        }
+        
+        for (int i = 0; i < columns.length; i++) {
+            fields[i] = columns[i] != null ? targetFields.get(columns[i]) : null;
+            bindings[i] = fields[i] != null ? bindingOf(fields[i]) : null;
+        }
+    }
+    
+    /**
+     * @param targetClass the bean class
+     * @param delimiter the field delimiter
+     * @param columns the names of the target fields in column order, where unknown and null names skip their 
+     * columns
+     * @return the compiled plan
+     */
+    static <T> RecordPlan<T> of(final Class<T> targetClass, final char delimiter, final String[] columns) {
+        return new RecordPlan<>(targetClass, delimiter, columns);
+    }
+    
+    /**
+     * @param targetClass the bean class
+     * @return the names of the fields of the bean class in declaration order
+     */
+    static String[] fieldColumns(final Class<?> targetClass) {
+        return FieldBinding.fieldsByName(targetClass).keySet().toArray(new String[0]);
+    }
+    
+    /**
+     * Creates a bean from a record.
+     * @param source the buffer holding the record
+     * @param start the index of the first byte of the record
+     * @param end the index after the last byte of the record, excluding the line break
+     * @param position the position of the buffer in its file, which locates invalid values in the exceptions
+     * @return the bean
+     * @throws ObjectConverterException if a value cannot be converted to its field
+     */
+    T read(final ByteBuffer source, final int start, final int end, final long position) {
+        final T targetObject = newInstance();
+        int column = 0;
+        int fieldStart = start;
+        
+        for (int index = start; index <= end && column < bindings.length; index++) {
+            if (index == end || source.get(index) == delimiter) {
+                if (bindings[column] != null && index > fieldStart) {
+                    bind(targetObject, column, source, fieldStart, index - fieldStart, position);
+                }
+                
+                column++;
+                fieldStart = index + 1;
+            }
+        }
+        
+        return targetObject;
+    }
+    
+    private void bind(
+            final T targetObject, final int column, 
+            final ByteBuffer source, final int offset, final int length, final long position) {
+        try {
+            bindings[column].bind(targetObject, source, offset, length);
+        } catch (final RuntimeException e) {
+            throw new ObjectConverterException(
+                    Messages.INVALID_COLUMN_VALUE.format(
+                            ByteBufferText.decodeUtf8(source, offset, length), 
+                            columns[column], 
+                            String.valueOf(position + offset), 
+                            fields[column].getType().getName()), 
+                    e);
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private T newInstance() {
+        try {
+            return targetClass.cast(constructor.invoke());
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private static ColumnBinding bindingOf(final Field field) {
+        final MethodHandle setter = FieldBinding.setterOf(field);
+        final Class<?> type = field.getType();
+        
+        if (type.equals(long.class)) {
+            final MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            
+            return (target, source, offset, length) -> {
+                exact.invokeExact(target, ByteBufferText.parseLong(source, offset, length));
+            };
+        } else if (type.equals(int.class)) {
+            final MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            
+            return (target, source, offset, length) -> {
+                exact.invokeExact(target, ByteBufferText.parseInt(source, offset, length));
+            };
+        } else if (type.equals(short.class)) {
+            final MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, short.class));
+            
+            return (target, source, offset, length) -> {
+                exact.invokeExact(target, ByteBufferText.parseShort(source, offset, length));
+            };
+        } else if (type.equals(byte.class)) {
+            final MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, byte.class));
+            
+            return (target, source, offset, length) -> {
+                exact.invokeExact(target, ByteBufferText.parseByte(source, offset, length));
+            };
+        } else if (type.equals(double.class)) {
+            final MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            
+            return (target, source, offset, length) -> {
+                exact.invokeExact(target, ByteBufferText.parseDouble(source, offset, length));
+            };
+        } else if (type.equals(float.class)) {
+            final MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, float.class));
+            
+            return (target, source, offset, length) -> {
+                exact.invokeExact(target, ByteBufferText.parseFloat(source, offset, length));
+            };
+        }
+        
+        final MethodHandle generic = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        final ColumnReader reader = readerOf(type);
+        
+        return (target, source, offset, length) -> {
+            generic.invokeExact(target, reader.read(source, offset, length));
+        };
+    }
+    
+    private static ColumnReader readerOf(final Class<?> type) {
+        final Class<?> wrapped = TypeConverters.wrap(type);
+        
+        if (wrapped.equals(String.class)) {
+            return ByteBufferText::decodeUtf8;
+        } else if (wrapped.equals(Long.class)) {
+            return ByteBufferText::parseLong;
+        } else if (wrapped.equals(Integer.class)) {
+            return ByteBufferText::parseInt;
+        } else if (wrapped.equals(Short.class)) {
+            return ByteBufferText::parseShort;
+        } else if (wrapped.equals(Byte.class)) {
+            return ByteBufferText::parseByte;
+        } else if (wrapped.equals(Double.class)) {
+            return ByteBufferText::parseDouble;
+        } else if (wrapped.equals(Float.class)) {
+            return ByteBufferText::parseFloat;
+        } else if (wrapped.equals(BigDecimal.class)) {
+            return ByteBufferText::parseBigDecimal;
+        }
+        
+        final Function<Object, Object> converter = TypeConverters
+                .find(String.class, type)
+                .orElseThrow(() -> new ObjectConverterException(
+                        Messages.CONVERTER_NOT_FOUND, String.class.getName(), type.getName()));
+        
+        return (source, offset, length) -> converter.apply(ByteBufferText.decodeUtf8(source, offset, length));
+    }
+    
+    @FunctionalInterface
+    private interface ColumnBinding {
+        void bind(Object target, ByteBuffer source, int offset, int length) throws Throwable;
+    }
+    
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ByteBuffer source, int offset, int length);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+import br.com.armange.commons.object.impl.typeconverter.time.TimeRenderer;
+
+/**
+ * The compiled rendering of the fields of a bean class as delimited columns. Floats and doubles are
+ * written as their shortest round-trip text.
+ */
+final class RecordRenderPlan<T> {
+    private final byte delimiter;
+    private final String[] columns;
+    private final ColumnWriter[] writers;
+    
+    private RecordRenderPlan(final Class<T> sourceClass, final char delimiter, final String[] columns) {
+        final Map<String, Field> sourceFields = FieldBinding.fieldsByName(sourceClass);
+        
+        this.delimiter = (byte) delimiter;
+        this.columns = columns;
+        this.writers = new ColumnWriter[columns.length];
+        
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == null) {
+                continue;
+            }
+            
+            final Field field = sourceFields.get(columns[i]);
+            
+            if (field == null) {
+                throw new ObjectConverterException(Messages.FIELD_NOT_FOUND, columns[i], sourceClass.getName());
+            }
+            
+            writers[i] = writerOf(field);
+        }
+    }
+    
+    /**
+     * @param sourceClass the bean class
+     * @param delimiter the field delimiter
+     * @param columns the names of the source fields in column order, where null names write empty columns
+     * @return the compiled plan
+     * @throws ObjectConverterException if a column names no field of the class or if there is no converter 
+     * from the type of a field to {@code String}
+     */
+    static <T> RecordRenderPlan<T> of(final Class<T> sourceClass, final char delimiter, final String[] columns) {
+        return new RecordRenderPlan<>(sourceClass, delimiter, columns);
+    }
+    
+    /**
+     * Writes the column names as a line.
+     * @param buffer the destination
+     * @throws ObjectConverterException if a column name holds the delimiter or a line break
+     */
+    void writeHeader(final RecordBuffer buffer) {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                buffer.writeByte(delimiter);
+            }
+            
+            buffer.startValue();
+            
+            if (columns[i] != null) {
+                buffer.write(columns[i]);
+            }
+            
+            checkValue(buffer, i);
+        }
+        
+        buffer.writeByte((byte) '\n');
+    }
+    
+    /**
+     * Writes a bean as a line.
+     * @param sourceObject the bean
+     * @param buffer the destination
+     * @throws ObjectConverterException if a rendered value holds the delimiter or a line break
+     */
+    void write(final T sourceObject, final RecordBuffer buffer) {
+        for (int i = 0; i < writers.length; i++) {
+            if (i > 0) {
+                buffer.writeByte(delimiter);
+            }
+            
+            if (writers[i] != null) {
+                buffer.startValue();
+                write(sourceObject, buffer, i);
+                checkValue(buffer, i);
+            }
+        }
+        
+        buffer.writeByte((byte) '\n');
+    }
+    
+    private void write(final T sourceObject, final RecordBuffer buffer, final int column) {
+        try {
+            writers[column].write(sourceObject, buffer);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    private void checkValue(final RecordBuffer buffer, final int column) {
+        if (buffer.valueBreaksRecord(delimiter)) {
+            throw new ObjectConverterException(Messages.UNDELIMITED_VALUE, buffer.valueText(), columns[column]);
+        }
+    }
+    
+    private static ColumnWriter writerOf(final Field field) {
+        final MethodHandle getter = FieldBinding.getterOf(field);
+        final Class<?> type = field.getType();
+        
+        if (type.equals(long.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(long.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((long) exact.invokeExact(source));
+        } else if (type.equals(int.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(int.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((int) exact.invokeExact(source));
+        } else if (type.equals(short.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(short.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((short) exact.invokeExact(source));
+        } else if (type.equals(byte.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(byte.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((byte) exact.invokeExact(source));
+        } else if (type.equals(double.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(double.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((double) exact.invokeExact(source));
+        } else if (type.equals(float.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(float.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((float) exact.invokeExact(source));
+        } else if (type.equals(char.class)) {
+            final MethodHandle exact = getter.asType(MethodType.methodType(char.class, Object.class));
+            
+            return (source, buffer) -> buffer.write((char) exact.invokeExact(source));
+        }
+        
+        final MethodHandle generic = getter.asType(MethodType.methodType(Object.class, Object.class));
+        final ValueWriter writer = valueWriterOf(type);
+        
+        return (source, buffer) -> {
+            final Object value = (Object) generic.invokeExact(source);
+            
+            if (value != null) {
+                writer.write(value, buffer);
+            }
+        };
+    }
+    
+    private static ValueWriter valueWriterOf(final Class<?> type) {
+        final Class<?> wrapped = TypeConverters.wrap(type);
+        
+        if (wrapped.equals(Long.class) || wrapped.equals(Integer.class) 
+                || wrapped.equals(Short.class) || wrapped.equals(Byte.class)) {
+            return (value, buffer) -> buffer.write(((Number) value).longValue());
+        } else if (wrapped.equals(Double.class)) {
+            return (value, buffer) -> buffer.write(((Double) value).doubleValue());
+        } else if (wrapped.equals(Float.class)) {
+            return (value, buffer) -> buffer.write(((Float) value).floatValue());
+        } else if (wrapped.equals(Character.class)) {
+            return (value, buffer) -> buffer.write(((Character) value).charValue());
+        } else if (wrapped.equals(Boolean.class) || CharSequence.class.isAssignableFrom(type)) {
+            return (value, buffer) -> buffer.write(value.toString());
+        } else if (type.isEnum()) {
+            return (value, buffer) -> buffer.write(((Enum<?>) value).name());
+        } else if (type.equals(LocalDate.class)) {
+            return (value, buffer) -> buffer.write((LocalDate) value, TimeRenderer::render);
+        } else if (type.equals(LocalDateTime.class)) {
+            return (value, buffer) -> buffer.write((LocalDateTime) value, TimeRenderer::render);
+        } else if (type.equals(OffsetDateTime.class)) {
+            return (value, buffer) -> buffer.write((OffsetDateTime) value, TimeRenderer::render);
+        } else if (type.equals(Instant.class)) {
+            return (value, buffer) -> buffer.write((Instant) value, TimeRenderer::render);
+        }
+        
+        final Function<Object, Object> converter = TypeConverters
+                .find(type, String.class)
+                .orElseThrow(() -> new ObjectConverterException(
+                        Messages.CONVERTER_NOT_FOUND, type.getName(), String.class.getName()));
+        
+        return (value, buffer) -> buffer.write((String) converter.apply(value));
+    }
+    
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(Object source, RecordBuffer buffer) throws Throwable;
+    }
+    
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(Object value, RecordBuffer buffer);
+    }
+}
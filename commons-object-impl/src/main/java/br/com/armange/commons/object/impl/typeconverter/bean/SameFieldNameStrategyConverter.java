@@ -16,15 +16,18 @@
 package br.com.armange.commons.object.impl.typeconverter.bean;
 
 import java.lang.reflect.Field;
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bean.StrategicBeanConverter;
 import br.com.armange.commons.object.api.typeconverter.bean.StrategicBeanConverterWriter;
-import br.com.armange.commons.reflection.support.FieldSupport;
-import br.com.armange.commons.spi.Loader;
 
+/**
+ * @deprecated Consider to use {@link BeanConverterImpl}, whose field-injection plans this converter delegates to.
+ */
+@Deprecated(forRemoval = true)
 public class SameFieldNameStrategyConverter<S, T> implements StrategicBeanConverter<S, T> {
 
     private S sourceObject;
@@ -41,49 +44,23 @@ public class SameFieldNameStrategyConverter<S, T> implements StrategicBeanConver
     }
     
     @Override
+    @SuppressWarnings("unchecked")
     public void writeInto(final T targetObject, final List<Field> targetFields) {
-        targetFields
-            .parallelStream()
-            .forEach(forEachSourceFieldDoSameFieldConsumer(targetObject));
-    }
-
-    private Consumer<? super Field> forEachSourceFieldDoSameFieldConsumer(final T targetObject) {
-        return targetField -> {
-            sourceFields.parallelStream().forEach(sameFieldConsumer(targetObject, targetField));
-        };
-    }
-    
-    private Consumer<? super Field> sameFieldConsumer(final Object targetObject, final Field targetField) {
-        return sourceField -> { 
-            if (sourceField.getName().equals(targetField.getName())) {
-                copyFieldValue(targetObject, targetField, sourceField);
-            }
-        };
-    }
-    
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    private void copyFieldValue(final Object targetObject, final Field targetField, final Field sourceField) {
-        final Object sourceValue = FieldSupport.from(sourceField).getValue(sourceObject);
-        final Class sourceClass = sourceField.getType();
-        final Class targetClass = targetField.getType();
+        final FieldInjectionPlan<T> plan = FieldInjectionPlan
+                .of(sourceObject.getClass(), (Class<T>) targetObject.getClass());
+        final Set<String> sourceNames = sourceFields.stream().map(Field::getName).collect(Collectors.toSet());
+        final BitSet mask = new BitSet(plan.size());
         
-        if (sourceClass.equals(targetClass)) {
-            FieldSupport
-                .from(targetField)
-                .setValue(targetObject, sourceValue);
-        } else {
-            final TypeConverter<Object, Object> typeConverter = Loader
-                    .loadServices(TypeConverter.class, true)
-                    .filter(t -> t.matches(sourceValue, targetField.getType()))
-                    .findFirst()
-                    .orElseThrow(RuntimeException::new);
-            
-            FieldSupport
-                .from(targetField)
-                .setValue(targetObject, typeConverter
-                    .from(sourceValue)
-                    .to(targetClass));
+        for (final Field targetField : targetFields) {
+            if (sourceNames.contains(targetField.getName())) {
+                final int step = plan.indexOf(targetField.getName());
+                
+                if (step >= 0) {
+                    mask.set(step);
+                }
+            }
         }
         
+        plan.writeInto(sourceObject, targetObject, mask);
     }
 }
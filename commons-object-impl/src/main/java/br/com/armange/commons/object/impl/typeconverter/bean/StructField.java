@@ -0,0 +1,439 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+import br.com.armange.commons.object.impl.typeconverter.enumvalue.EnumTable;
+
+/**
+ * A field of a {@link StructLayout} and a flyweight reader of its value in packed structs.
+ */
+public final class StructField {
+    private final String name;
+    private final Class<?> type;
+    private final Kind kind;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final EnumTable<?> enumTable;
+    private int offset;
+    private int nullByte;
+    private byte nullMask;
+    private int structSize;
+    
+    private StructField(final Field field, final Kind kind) {
+        final Class<?> carrier = field.getType().isPrimitive() ? field.getType() : Object.class;
+        
+        this.name = field.getName();
+        this.type = field.getType();
+        this.kind = kind;
+        this.getter = FieldBinding.getterOf(field).asType(MethodType.methodType(carrier, Object.class));
+        this.setter = FieldBinding.setterOf(field).asType(MethodType.methodType(void.class, Object.class, carrier));
+        this.enumTable = kind == Kind.ENUM ? enumTableOf(field.getType()) : null;
+    }
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static EnumTable<?> enumTableOf(final Class<?> enumClass) {
+        return EnumTable.of((Class) enumClass);
+    }
+    
+    /**
+     * @param field any field
+     * @return the struct field of a field of fixed width or null if the field type has no fixed width
+     */
+    static StructField of(final Field field) {
+        final Kind kind = Kind.of(field.getType());
+        
+        return kind != null ? new StructField(field, kind) : null;
+    }
+    
+    /**
+     * Places the field in the struct.
+     * @param fieldOffset the offset of the field in the struct
+     * @param nullBit the offset in bits of the null flag of the field in the struct, ignored for primitive fields
+     * @param size the size of the struct
+     */
+    void place(final int fieldOffset, final int nullBit, final int size) {
+        this.offset = fieldOffset;
+        this.nullByte = nullBit >>> 3;
+        this.nullMask = (byte) (1 << (nullBit & 7));
+        this.structSize = size;
+    }
+    
+    int width() {
+        return kind.width;
+    }
+    
+    int alignment() {
+        return kind.alignment;
+    }
+    
+    boolean isNullable() {
+        return !type.isPrimitive();
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Class<?> getType() {
+        return type;
+    }
+    
+    /**
+     * @return the offset of the field from the start of its struct
+     */
+    public int getOffset() {
+        return offset;
+    }
+    
+    /**
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return true if the value of the field is null in the struct
+     */
+    public boolean isNull(final ByteBuffer buffer, final int index) {
+        return isNullAt(buffer, index * structSize);
+    }
+    
+    /**
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return the value of an integral or character field, or 0 if it is null
+     * @throws ObjectConverterException if the field is not integral
+     */
+    public long getLong(final ByteBuffer buffer, final int index) {
+        final int position = index * structSize + offset;
+        
+        switch (kind) {
+        case LONG:
+            return buffer.getLong(position);
+        case INT:
+            return buffer.getInt(position);
+        case SHORT:
+            return buffer.getShort(position);
+        case CHAR:
+            return buffer.getChar(position);
+        case BYTE:
+            return buffer.get(position);
+        default:
+            throw new ObjectConverterException(Messages.STRUCT_FIELD_TYPE, name, type.getName(), long.class.getName());
+        }
+    }
+    
+    /**
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return the value of an integral field of up to 32 bits or of a character field, or 0 if it is null
+     * @throws ObjectConverterException if the field is not integral or is wider than 32 bits
+     */
+    public int getInt(final ByteBuffer buffer, final int index) {
+        if (kind == Kind.LONG) {
+            throw new ObjectConverterException(Messages.STRUCT_FIELD_TYPE, name, type.getName(), int.class.getName());
+        }
+        
+        return (int) getLong(buffer, index);
+    }
+    
+    /**
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return the value of a floating-point field, or 0 if it is null
+     * @throws ObjectConverterException if the field is not floating-point
+     */
+    public double getDouble(final ByteBuffer buffer, final int index) {
+        final int position = index * structSize + offset;
+        
+        switch (kind) {
+        case DOUBLE:
+            return buffer.getDouble(position);
+        case FLOAT:
+            return buffer.getFloat(position);
+        default:
+            throw new ObjectConverterException(
+                    Messages.STRUCT_FIELD_TYPE, name, type.getName(), double.class.getName());
+        }
+    }
+    
+    /**
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return the value of a boolean field, or false if it is null
+     * @throws ObjectConverterException if the field is not boolean
+     */
+    public boolean getBoolean(final ByteBuffer buffer, final int index) {
+        if (kind != Kind.BOOLEAN) {
+            throw new ObjectConverterException(
+                    Messages.STRUCT_FIELD_TYPE, name, type.getName(), boolean.class.getName());
+        }
+        
+        return buffer.get(index * structSize + offset) != 0;
+    }
+    
+    /**
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return the value of the field, boxed for primitive fields
+     */
+    public Object get(final ByteBuffer buffer, final int index) {
+        final int base = index * structSize;
+        
+        return isNullAt(buffer, base) ? null : valueAt(buffer, base + offset);
+    }
+    
+    private boolean isNullAt(final ByteBuffer buffer, final int base) {
+        return !type.isPrimitive() && (buffer.get(base + nullByte) & nullMask) != 0;
+    }
+    
+    private Object valueAt(final ByteBuffer buffer, final int position) {        
+        switch (kind) {
+        case BOOLEAN:
+            return buffer.get(position) != 0;
+        case BYTE:
+            return buffer.get(position);
+        case SHORT:
+            return buffer.getShort(position);
+        case CHAR:
+            return buffer.getChar(position);
+        case INT:
+            return buffer.getInt(position);
+        case LONG:
+            return buffer.getLong(position);
+        case FLOAT:
+            return buffer.getFloat(position);
+        case DOUBLE:
+            return buffer.getDouble(position);
+        case ENUM:
+            return enumTable.byOrdinal(buffer.getInt(position));
+        case LOCAL_DATE:
+            return LocalDate.ofEpochDay(buffer.getLong(position));
+        case LOCAL_DATE_TIME:
+            return LocalDateTime.ofEpochSecond(
+                    buffer.getLong(position), buffer.getInt(position + Long.BYTES), ZoneOffset.UTC);
+        default:
+            return Instant.ofEpochSecond(buffer.getLong(position), buffer.getInt(position + Long.BYTES));
+        }
+    }
+    
+    /**
+     * Writes the field of a bean into a struct, setting its null flag and zeroing it when the value is null.
+     * @param sourceObject the bean
+     * @param buffer the packed structs
+     * @param base the offset of the struct in the buffer
+     */
+    void write(final Object sourceObject, final ByteBuffer buffer, final int base) throws Throwable {
+        final int position = base + offset;
+        
+        if (!type.isPrimitive()) {
+            final Object value = (Object) getter.invokeExact(sourceObject);
+            final byte flags = buffer.get(base + nullByte);
+            
+            buffer.put(base + nullByte, value == null ? (byte) (flags | nullMask) : (byte) (flags & ~nullMask));
+            
+            if (value != null) {
+                writeValue(value, buffer, position);
+            } else {
+                for (int i = 0; i < kind.width; i++) {
+                    buffer.put(position + i, (byte) 0);
+                }
+            }
+            
+            return;
+        }
+        
+        switch (kind) {
+        case BOOLEAN:
+            buffer.put(position, (boolean) getter.invokeExact(sourceObject) ? (byte) 1 : (byte) 0);
+            break;
+        case BYTE:
+            buffer.put(position, (byte) getter.invokeExact(sourceObject));
+            break;
+        case SHORT:
+            buffer.putShort(position, (short) getter.invokeExact(sourceObject));
+            break;
+        case CHAR:
+            buffer.putChar(position, (char) getter.invokeExact(sourceObject));
+            break;
+        case INT:
+            buffer.putInt(position, (int) getter.invokeExact(sourceObject));
+            break;
+        case LONG:
+            buffer.putLong(position, (long) getter.invokeExact(sourceObject));
+            break;
+        case FLOAT:
+            buffer.putFloat(position, (float) getter.invokeExact(sourceObject));
+            break;
+        default:
+            buffer.putDouble(position, (double) getter.invokeExact(sourceObject));
+            break;
+        }
+    }
+    
+    /**
+     * Reads the field of a struct into a bean, setting it to null when its null flag is set.
+     * @param buffer the packed structs
+     * @param base the offset of the struct in the buffer
+     * @param targetObject the bean
+     */
+    void read(final ByteBuffer buffer, final int base, final Object targetObject) throws Throwable {
+        final int position = base + offset;
+        
+        if (type.isPrimitive()) {
+            switch (kind) {
+            case BOOLEAN:
+                setter.invokeExact(targetObject, buffer.get(position) != 0);
+                return;
+            case BYTE:
+                setter.invokeExact(targetObject, buffer.get(position));
+                return;
+            case SHORT:
+                setter.invokeExact(targetObject, buffer.getShort(position));
+                return;
+            case CHAR:
+                setter.invokeExact(targetObject, buffer.getChar(position));
+                return;
+            case INT:
+                setter.invokeExact(targetObject, buffer.getInt(position));
+                return;
+            case LONG:
+                setter.invokeExact(targetObject, buffer.getLong(position));
+                return;
+            case FLOAT:
+                setter.invokeExact(targetObject, buffer.getFloat(position));
+                return;
+            default:
+                setter.invokeExact(targetObject, buffer.getDouble(position));
+                return;
+            }
+        }
+        
+        setter.invokeExact(targetObject, isNullAt(buffer, base) ? null : valueAt(buffer, position));
+    }
+    
+    private void writeValue(final Object value, final ByteBuffer buffer, final int position) {
+        switch (kind) {
+        case BOOLEAN:
+            buffer.put(position, (Boolean) value ? (byte) 1 : (byte) 0);
+            break;
+        case BYTE:
+            buffer.put(position, (Byte) value);
+            break;
+        case SHORT:
+            buffer.putShort(position, (Short) value);
+            break;
+        case CHAR:
+            buffer.putChar(position, (Character) value);
+            break;
+        case INT:
+            buffer.putInt(position, (Integer) value);
+            break;
+        case LONG:
+            buffer.putLong(position, (Long) value);
+            break;
+        case FLOAT:
+            buffer.putFloat(position, (Float) value);
+            break;
+        case DOUBLE:
+            buffer.putDouble(position, (Double) value);
+            break;
+        case ENUM:
+            buffer.putInt(position, ((Enum<?>) value).ordinal());
+            break;
+        case LOCAL_DATE:
+            buffer.putLong(position, ((LocalDate) value).toEpochDay());
+            break;
+        case LOCAL_DATE_TIME:
+            buffer.putLong(position, ((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(position + Long.BYTES, ((LocalDateTime) value).getNano());
+            break;
+        default:
+            buffer.putLong(position, ((Instant) value).getEpochSecond());
+            buffer.putInt(position + Long.BYTES, ((Instant) value).getNano());
+            break;
+        }
+    }
+    
+    /*
+     * The encodings of the fixed-width types. Date-times are written as epoch seconds followed by nanoseconds.
+     */
+    private enum Kind {
+        BOOLEAN(1, 1),
+        BYTE(1, 1),
+        SHORT(2, 2),
+        CHAR(2, 2),
+        INT(4, 4),
+        FLOAT(4, 4),
+        ENUM(4, 4),
+        LONG(8, 8),
+        DOUBLE(8, 8),
+        LOCAL_DATE(8, 8),
+        LOCAL_DATE_TIME(12, 4),
+        INSTANT(12, 4);
+        
+        private final int width;
+        private final int alignment;
+        
+        Kind(final int width, final int alignment) {
+            this.width = width;
+            this.alignment = alignment;
+        }
+        
+        private static Kind of(final Class<?> type) {
+            final Class<?> wrapped = TypeConverters.wrap(type);
+            final Kind result;
+            
+            if (wrapped.equals(Boolean.class)) {
+                result = BOOLEAN;
+            } else if (wrapped.equals(Byte.class)) {
+                result = BYTE;
+            } else if (wrapped.equals(Short.class)) {
+                result = SHORT;
+            } else if (wrapped.equals(Character.class)) {
+                result = CHAR;
+            } else if (wrapped.equals(Integer.class)) {
+                result = INT;
+            } else if (wrapped.equals(Float.class)) {
+                result = FLOAT;
+            } else if (wrapped.equals(Long.class)) {
+                result = LONG;
+            } else if (wrapped.equals(Double.class)) {
+                result = DOUBLE;
+            } else if (type.isEnum()) {
+                result = ENUM;
+            } else if (type.equals(LocalDate.class)) {
+                result = LOCAL_DATE;
+            } else if (type.equals(LocalDateTime.class)) {
+                result = LOCAL_DATE_TIME;
+            } else if (type.equals(Instant.class)) {
+                result = INSTANT;
+            } else {
+                result = null;
+            }
+            
+            return result;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+
+/**
+ * The layout of the fixed-width fields of a bean class as a struct packed into a {@link ByteBuffer}, built
+ * once per class.
+ */
+public final class StructLayout<T> {
+    private static final String BEAN_CLASS = "beanClass";
+    private static final String FIELD_NAME = "fieldName";
+    private static final String BUFFER = "buffer";
+    private static final ClassValue<StructLayout<?>> LAYOUTS = new ClassValue<StructLayout<?>>() {
+        
+        @Override
+        protected StructLayout<?> computeValue(final Class<?> type) {
+            return new StructLayout<>(type);
+        }
+    };
+    
+    private final Class<T> beanClass;
+    private final MethodHandle constructor;
+    private final List<StructField> fields;
+    private final int size;
+    
+    private StructLayout(final Class<T> beanClass) {
+        final List<StructField> layout = new ArrayList<>();
+        
+        for (final Field field : FieldBinding.fieldsByName(beanClass).values()) {
+            final StructField structField = StructField.of(field);
+            
+            if (structField != null) {
+                layout.add(structField);
+            }
+        }
+        
+        layout.sort(Comparator
+                .comparingInt(StructField::alignment)
+                .thenComparingInt(StructField::width)
+                .reversed());
+        
+        int offset = 0;
+        int nullable = 0;
+        int alignment = 1;
+        
+        for (final StructField field : layout) {
+            offset += field.width();
+            nullable += field.isNullable() ? 1 : 0;
+            alignment = Math.max(alignment, field.alignment());
+        }
+        
+        final int bitmapOffset = offset;
+        final int unaligned = bitmapOffset + (nullable + Byte.SIZE - 1) / Byte.SIZE;
+        
+        this.beanClass = beanClass;
+        this.constructor = FieldInjectionPlan.constructorOf(beanClass);
+        this.size = Math.max(1, (unaligned + alignment - 1) / alignment * alignment);
+        this.fields = Collections.unmodifiableList(layout);
+        
+        offset = 0;
+        nullable = 0;
+        
+        for (final StructField field : layout) {
+            field.place(offset, bitmapOffset * Byte.SIZE + (field.isNullable() ? nullable++ : 0), size);
+            offset += field.width();
+        }
+    }
+    
+    /**
+     * @param beanClass any bean class
+     * @return the cached layout of the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> StructLayout<T> of(final Class<T> beanClass) {
+        Objects.requireNonNull(beanClass, CommonMessages.REQUIRED_PARAMETER.format(BEAN_CLASS));
+        
+        return (StructLayout<T>) LAYOUTS.get(beanClass);
+    }
+    
+    /**
+     * @return the size in bytes of a struct
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * @return the fields of the struct in layout order
+     */
+    public List<StructField> fields() {
+        return fields;
+    }
+    
+    /**
+     * @param fieldName the name of a fixed-width field of the bean class
+     * @return the flyweight reader of the field
+     * @throws ObjectConverterException if the class has no such fixed-width field
+     */
+    public StructField field(final String fieldName) {
+        Objects.requireNonNull(fieldName, CommonMessages.REQUIRED_PARAMETER.format(FIELD_NAME));
+        
+        for (final StructField field : fields) {
+            if (field.getName().equals(fieldName)) {
+                return field;
+            }
+        }
+        
+        throw new ObjectConverterException(Messages.FIELD_NOT_FOUND, fieldName, beanClass.getName());
+    }
+    
+    /**
+     * @param count the number of structs
+     * @return a zeroed direct buffer in native byte order with room for the given number of structs
+     * @throws ObjectConverterException if the structs do not fit in a buffer
+     */
+    public ByteBuffer allocate(final int count) {
+        final long bytes = (long) count * size;
+        
+        if (count < 0 || bytes > Integer.MAX_VALUE) {
+            throw new ObjectConverterException(
+                    Messages.STRUCT_OVERFLOW, String.valueOf(count), String.valueOf(size));
+        }
+        
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+    
+    /**
+     * @param buffer packed structs
+     * @return the number of whole structs up to the limit of the buffer
+     */
+    public int count(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, CommonMessages.REQUIRED_PARAMETER.format(BUFFER));
+        
+        return buffer.limit() / size;
+    }
+    
+    /**
+     * Packs a bean into a struct.
+     * @param sourceObject the bean
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     */
+    public void write(final T sourceObject, final ByteBuffer buffer, final int index) {
+        final int base = index * size;
+        
+        try {
+            for (final StructField field : fields) {
+                field.write(sourceObject, buffer, base);
+            }
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+    
+    /**
+     * Unpacks a struct into an existing bean, which can be reused to scan structs without creating beans.
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @param targetObject the bean receiving the fields of the struct
+     * @return the given bean
+     */
+    public T read(final ByteBuffer buffer, final int index, final T targetObject) {
+        final int base = index * size;
+        
+        try {
+            for (final StructField field : fields) {
+                field.read(buffer, base, targetObject);
+            }
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+        
+        return targetObject;
+    }
+    
+    /**
+     * Unpacks a struct into a new bean.
+     * @param buffer the packed structs
+     * @param index the index of the struct
+     * @return the bean
+     * @throws ObjectConverterException if the bean class has no no-arg constructor
+     */
+    public T read(final ByteBuffer buffer, final int index) {
+        return read(buffer, index, newInstance());
+    }
+    
+    /**
+     * Packs beans into a new direct buffer, in iteration order.
+     * @param sourceObjects the beans
+     * @return the buffer, whose limit is the end of the last struct
+     * @throws ObjectConverterException if the structs do not fit in a buffer
+     */
+    public ByteBuffer pack(final Collection<? extends T> sourceObjects) {
+        final ByteBuffer buffer = allocate(sourceObjects.size());
+        int index = 0;
+        
+        for (final T sourceObject : sourceObjects) {
+            write(sourceObject, buffer, index++);
+        }
+        
+        return buffer;
+    }
+    
+    /**
+     * Unpacks every struct of a buffer into new beans.
+     * @param buffer the packed structs
+     * @return the beans in struct order
+     * @throws ObjectConverterException if the bean class has no no-arg constructor
+     */
+    public List<T> unpack(final ByteBuffer buffer) {
+        final int count = count(buffer);
+        final List<T> result = new ArrayList<>(count);
+        
+        for (int i = 0; i < count; i++) {
+            result.add(read(buffer, i));
+        }
+        
+        return result;
+    }
+    
+    private T newInstance() {
+        if (constructor == null) {
+            throw new ObjectConverterException(Messages.DEFAULT_CONSTRUCTOR_NOT_FOUND, beanClass.getName());
+        }
+        
+        try {
+            return beanClass.cast(constructor.invoke());
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ObjectConverterException(e);
+        }
+    }
+}
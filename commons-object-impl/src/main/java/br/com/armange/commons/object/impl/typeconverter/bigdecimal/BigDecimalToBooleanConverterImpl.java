@@ -16,25 +16,26 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToBooleanConverterImpl implements BigDecimalToBooleanConverter {
 
+    private static final Function<BigDecimal, Boolean> CONVERSION = 
+            ConversionMatrix.of(BigDecimal.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<BigDecimal, Boolean> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final BigDecimal sourceObject) {
-        return sourceObject.compareTo(BigDecimal.ZERO) != 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
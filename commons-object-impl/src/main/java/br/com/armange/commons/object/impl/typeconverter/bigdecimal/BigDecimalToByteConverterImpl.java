@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToByteConverterImpl implements BigDecimalToByteConverter {
 
+    private static final Function<BigDecimal, Byte> CONVERSION = ConversionMatrix.of(BigDecimal.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<BigDecimal, Byte> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.byteValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
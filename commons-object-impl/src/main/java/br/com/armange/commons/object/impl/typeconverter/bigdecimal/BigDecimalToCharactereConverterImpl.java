@@ -16,17 +16,22 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToCharactereConverterImpl implements BigDecimalToCharactereConverter {
 
+    private static final Function<BigDecimal, Character> CONVERSION = 
+            ConversionMatrix.of(BigDecimal.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<BigDecimal, Character> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
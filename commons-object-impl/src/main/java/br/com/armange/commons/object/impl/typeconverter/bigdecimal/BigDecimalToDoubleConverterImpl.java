@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToDoubleConverterImpl implements BigDecimalToDoubleConverter {
 
+    private static final Function<BigDecimal, Double> CONVERSION = ConversionMatrix.of(BigDecimal.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<BigDecimal, Double> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.doubleValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
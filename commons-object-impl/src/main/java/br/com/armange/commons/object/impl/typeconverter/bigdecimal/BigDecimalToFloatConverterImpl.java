@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToFloatConverterImpl implements BigDecimalToFloatConverter {
 
+    private static final Function<BigDecimal, Float> CONVERSION = ConversionMatrix.of(BigDecimal.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<BigDecimal, Float> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.floatValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -16,17 +16,22 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToIntegerConverterImpl implements BigDecimalToIntegerConverter {
 
+    private static final Function<BigDecimal, Integer> CONVERSION = 
+            ConversionMatrix.of(BigDecimal.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<BigDecimal, Integer> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.intValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToLongConverterImpl implements BigDecimalToLongConverter {
 
+    private static final Function<BigDecimal, Long> CONVERSION = ConversionMatrix.of(BigDecimal.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<BigDecimal, Long> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.longValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
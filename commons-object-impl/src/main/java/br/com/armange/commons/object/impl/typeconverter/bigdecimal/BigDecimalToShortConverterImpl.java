@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToShortConverterImpl implements BigDecimalToShortConverter {
 
+    private static final Function<BigDecimal, Short> CONVERSION = ConversionMatrix.of(BigDecimal.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<BigDecimal, Short> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.shortValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bigdecimal;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bigdecimal.BigDecimalToStringConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BigDecimalToStringConverterImpl implements BigDecimalToStringConverter {
 
+    private static final Function<BigDecimal, String> CONVERSION = ConversionMatrix.of(BigDecimal.class, String.class);
+
     private String result;
     
     @Override
     public TypeConverter<BigDecimal, String> from(final BigDecimal sourceObject) {
-        result = sourceObject != null ? sourceObject.toString() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
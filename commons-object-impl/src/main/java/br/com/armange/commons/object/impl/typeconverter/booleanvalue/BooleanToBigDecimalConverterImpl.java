@@ -16,25 +16,26 @@
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToBigDecimalConverterImpl implements BooleanToBigDecimalConverter {
 
+    private static final Function<Boolean, BigDecimal> CONVERSION = 
+            ConversionMatrix.of(Boolean.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Boolean, BigDecimal> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toNumber(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private BigDecimal toNumber(final Boolean sourceObject) {
-        return sourceObject ? BigDecimal.ONE : BigDecimal.ZERO;
-    }
-
     @Override
     public BigDecimal to(final Class<BigDecimal> targetClass) {
         return result;
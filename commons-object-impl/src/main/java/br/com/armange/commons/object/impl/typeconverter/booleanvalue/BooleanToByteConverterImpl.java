@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToByteConverterImpl implements BooleanToByteConverter {
 
+    private static final Function<Boolean, Byte> CONVERSION = ConversionMatrix.of(Boolean.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Boolean, Byte> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toByte(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private byte toByte(final Boolean sourceObject) {
-        return sourceObject ? (byte)1 : (byte)0;
-    }
-
     @Override
     public Byte to(final Class<Byte> targetClass) {
         return result;
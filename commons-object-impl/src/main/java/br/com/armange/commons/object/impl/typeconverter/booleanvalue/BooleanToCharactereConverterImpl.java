@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToCharactereConverterImpl implements BooleanToCharactereConverter {
 
+    private static final Function<Boolean, Character> CONVERSION = ConversionMatrix.of(Boolean.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Boolean, Character> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toChar(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private char toChar(final Boolean sourceObject) {
-        return sourceObject ? (char) 1 : (char) 0;
-    }
-
     @Override
     public Character to(final Class<Character> targetClass) {
         return result;
@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToDoubleConverterImpl implements BooleanToDoubleConverter {
 
+    private static final Function<Boolean, Double> CONVERSION = ConversionMatrix.of(Boolean.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Boolean, Double> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toNumber(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
     
-    private double toNumber(final Boolean sourceObject) {
-        return sourceObject ? (double)1 : (double)0;
-    }
-
     @Override
     public Double to(final Class<Double> targetClass) {
         return result;
@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToFloatConverterImpl implements BooleanToFloatConverter {
 
+    private static final Function<Boolean, Float> CONVERSION = ConversionMatrix.of(Boolean.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Boolean, Float> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toNumber(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private float toNumber(final Boolean sourceObject) {
-        return sourceObject ? (float)1 : (float)0;
-    }
-    
     @Override
     public Float to(final Class<Float> targetClass) {
         return result;
@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToIntegerConverterImpl implements BooleanToIntegerConverter {
 
+    private static final Function<Boolean, Integer> CONVERSION = ConversionMatrix.of(Boolean.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Boolean, Integer> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toNumber(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private int toNumber(final Boolean sourceObject) {
-        return sourceObject ? 1 : 0;
-    }
-
     @Override
     public Integer to(final Class<Integer> targetClass) {
         return result;
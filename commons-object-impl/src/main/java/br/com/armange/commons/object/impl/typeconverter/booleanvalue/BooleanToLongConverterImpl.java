@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToLongConverterImpl implements BooleanToLongConverter {
 
+    private static final Function<Boolean, Long> CONVERSION = ConversionMatrix.of(Boolean.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<Boolean, Long> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toNumber(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
     
-    private long toNumber(final Boolean sourceObject) {
-        return sourceObject ? 1L : 0L;
-    }
-
     @Override
     public Long to(final Class<Long> targetClass) {
         return result;
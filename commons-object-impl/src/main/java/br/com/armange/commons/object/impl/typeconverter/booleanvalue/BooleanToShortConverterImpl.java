@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToShortConverterImpl implements BooleanToShortConverter {
 
+    private static final Function<Boolean, Short> CONVERSION = ConversionMatrix.of(Boolean.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<Boolean, Short> from(final Boolean sourceObject) {
-        result = sourceObject != null ? toNumber(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private short toNumber(final Boolean sourceObject) {
-        return sourceObject ? (short)1 : (short)0;
-    }
-
     @Override
     public Short to(final Class<Short> targetClass) {
         return result;
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.booleanvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.booleanvalue.BooleanToStringConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class BooleanToStringConverterImpl implements BooleanToStringConverter {
 
+    private static final Function<Boolean, String> CONVERSION = ConversionMatrix.of(Boolean.class, String.class);
+
     private String result;
     
     @Override
     public TypeConverter<Boolean, String> from(final Boolean sourceObject) {
-        result = sourceObject != null ? sourceObject.toString() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
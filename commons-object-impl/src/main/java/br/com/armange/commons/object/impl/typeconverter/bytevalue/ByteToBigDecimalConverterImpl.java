@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToBigDecimalConverterImpl implements ByteToBigDecimalConverter {
 
+    private static final Function<Byte, BigDecimal> CONVERSION = ConversionMatrix.of(Byte.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Byte, BigDecimal> from(final Byte sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
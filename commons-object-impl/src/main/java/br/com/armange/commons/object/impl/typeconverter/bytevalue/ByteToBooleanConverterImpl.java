@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToBooleanConverterImpl implements ByteToBooleanConverter {
 
+    private static final Function<Byte, Boolean> CONVERSION = ConversionMatrix.of(Byte.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Byte, Boolean> from(final Byte sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Byte sourceObject) {
-        return sourceObject > 0 || sourceObject < 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToCharactereConverterImpl implements ByteToCharactereConverter {
 
+    private static final Function<Byte, Character> CONVERSION = ConversionMatrix.of(Byte.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Byte, Character> from(final Byte sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToDoubleConverterImpl implements ByteToDoubleConverter {
 
+    private static final Function<Byte, Double> CONVERSION = ConversionMatrix.of(Byte.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Byte, Double> from(final Byte sourceObject) {
-        result = sourceObject != null ? sourceObject.doubleValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToFloatConverterImpl implements ByteToFloatConverter {
 
+    private static final Function<Byte, Float> CONVERSION = ConversionMatrix.of(Byte.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Byte, Float> from(final Byte sourceObject) {
-        result = sourceObject != null ? sourceObject.floatValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToIntegerConverterImpl implements ByteToIntegerConverter {
 
+    private static final Function<Byte, Integer> CONVERSION = ConversionMatrix.of(Byte.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Byte, Integer> from(final Byte sourceObject) {
-        result = sourceObject != null ? sourceObject.intValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
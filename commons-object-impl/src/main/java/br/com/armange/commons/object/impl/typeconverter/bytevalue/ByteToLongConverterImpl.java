@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToLongConverterImpl implements ByteToLongConverter {
 
+    private static final Function<Byte, Long> CONVERSION = ConversionMatrix.of(Byte.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<Byte, Long> from(final Byte sourceObject) {
-        result = sourceObject != null ? sourceObject.longValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToShortConverterImpl implements ByteToShortConverter {
 
+    private static final Function<Byte, Short> CONVERSION = ConversionMatrix.of(Byte.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<Byte, Short> from(final Byte sourceObject) {
-        result = sourceObject != null ? sourceObject.shortValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.bytevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.bytevalue.ByteToStringConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ByteToStringConverterImpl implements ByteToStringConverter {
 
+    private static final Function<Byte, String> CONVERSION = ConversionMatrix.of(Byte.class, String.class);
+
     private String result;
     
     @Override
     public TypeConverter<Byte, String> from(final Byte sourceObject) {
-        result = sourceObject != null ? sourceObject.toString() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
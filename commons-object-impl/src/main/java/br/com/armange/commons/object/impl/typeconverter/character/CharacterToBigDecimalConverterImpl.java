@@ -16,17 +16,22 @@
 package br.com.armange.commons.object.impl.typeconverter.character;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToBigDecimalConverterImpl implements CharacterToBigDecimalConverter {
 
+    private static final Function<Character, BigDecimal> CONVERSION = 
+            ConversionMatrix.of(Character.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Character, BigDecimal> from(final Character sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
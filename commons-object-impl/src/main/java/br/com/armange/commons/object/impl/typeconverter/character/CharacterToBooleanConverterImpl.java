@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToBooleanConverterImpl implements CharacterToBooleanConverter {
 
+    private static final Function<Character, Boolean> CONVERSION = ConversionMatrix.of(Character.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Character, Boolean> from(final Character sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Character sourceObject) {
-        return sourceObject.equals('1') || sourceObject.equals('t') || sourceObject.equals('T');
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
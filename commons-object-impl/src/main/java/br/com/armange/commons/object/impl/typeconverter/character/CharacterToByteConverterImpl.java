@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToByteConverterImpl implements CharacterToByteConverter {
 
+    private static final Function<Character, Byte> CONVERSION = ConversionMatrix.of(Character.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Character, Byte> from(final Character sourceObject) {
-        result = sourceObject != null ? (byte)sourceObject.charValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
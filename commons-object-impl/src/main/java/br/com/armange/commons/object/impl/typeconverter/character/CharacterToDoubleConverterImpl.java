@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToDoubleConverterImpl implements CharacterToDoubleConverter {
 
+    private static final Function<Character, Double> CONVERSION = ConversionMatrix.of(Character.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Character, Double> from(final Character sourceObject) {
-        result = sourceObject != null ? (double)sourceObject.charValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToFloatConverterImpl implements CharacterToFloatConverter {
 
+    private static final Function<Character, Float> CONVERSION = ConversionMatrix.of(Character.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Character, Float> from(final Character sourceObject) {
-        result = sourceObject != null ? (float)sourceObject.charValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
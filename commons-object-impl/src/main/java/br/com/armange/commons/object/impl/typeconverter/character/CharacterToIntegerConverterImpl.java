@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToIntegerConverterImpl implements CharacterToIntegerConverter {
 
+    private static final Function<Character, Integer> CONVERSION = ConversionMatrix.of(Character.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Character, Integer> from(final Character sourceObject) {
-        result = sourceObject != null ? (int)sourceObject.charValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
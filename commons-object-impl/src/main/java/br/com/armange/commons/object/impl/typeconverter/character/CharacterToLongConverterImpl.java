@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToLongConverterImpl implements CharacterToLongConverter {
 
+    private static final Function<Character, Long> CONVERSION = ConversionMatrix.of(Character.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<Character, Long> from(final Character sourceObject) {
-        result = sourceObject != null ? (long)sourceObject.charValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
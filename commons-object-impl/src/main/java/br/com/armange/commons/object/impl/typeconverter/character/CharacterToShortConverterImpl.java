@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToShortConverterImpl implements CharacterToShortConverter {
 
+    private static final Function<Character, Short> CONVERSION = ConversionMatrix.of(Character.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<Character, Short> from(final Character sourceObject) {
-        result = sourceObject != null ? (short)sourceObject.charValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.character;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.charactere.CharacterToStringConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class CharacterToStringConverterImpl implements CharacterToStringConverter {
 
+    private static final Function<Character, String> CONVERSION = ConversionMatrix.of(Character.class, String.class);
+
     private String result;
     
     @Override
     public TypeConverter<Character, String> from(final Character sourceObject) {
-        result = sourceObject != null ? sourceObject.toString() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToBigDecimalConverterImpl implements DoubleToBigDecimalConverter {
 
+    private static final Function<Double, BigDecimal> CONVERSION = ConversionMatrix.of(Double.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Double, BigDecimal> from(final Double sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
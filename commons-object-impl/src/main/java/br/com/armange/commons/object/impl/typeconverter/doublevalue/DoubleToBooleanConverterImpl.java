@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToBooleanConverterImpl implements DoubleToBooleanConverter {
 
+    private static final Function<Double, Boolean> CONVERSION = ConversionMatrix.of(Double.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Double, Boolean> from(final Double sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Double sourceObject) {
-        return sourceObject > 0 || sourceObject < 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
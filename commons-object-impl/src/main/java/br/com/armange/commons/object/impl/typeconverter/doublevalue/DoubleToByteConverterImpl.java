@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToByteConverterImpl implements DoubleToByteConverter {
 
+    private static final Function<Double, Byte> CONVERSION = ConversionMatrix.of(Double.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Double, Byte> from(final Double sourceObject) {
-        result = sourceObject != null ? sourceObject.byteValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
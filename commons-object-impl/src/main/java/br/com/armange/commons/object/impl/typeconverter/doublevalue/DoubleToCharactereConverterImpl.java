@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToCharactereConverterImpl implements DoubleToCharactereConverter {
 
+    private static final Function<Double, Character> CONVERSION = ConversionMatrix.of(Double.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Double, Character> from(final Double sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
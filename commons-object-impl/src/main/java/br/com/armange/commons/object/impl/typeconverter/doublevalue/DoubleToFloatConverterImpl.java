@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToFloatConverterImpl implements DoubleToFloatConverter {
 
+    private static final Function<Double, Float> CONVERSION = ConversionMatrix.of(Double.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Double, Float> from(final Double sourceObject) {
-        result = sourceObject != null ? sourceObject.floatValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
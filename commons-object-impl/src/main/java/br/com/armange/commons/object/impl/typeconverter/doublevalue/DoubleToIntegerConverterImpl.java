@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToIntegerConverterImpl implements DoubleToIntegerConverter {
 
+    private static final Function<Double, Integer> CONVERSION = ConversionMatrix.of(Double.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Double, Integer> from(final Double sourceObject) {
-        result = sourceObject != null ? sourceObject.intValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToLongConverterImpl implements DoubleToLongConverter {
 
+    private static final Function<Double, Long> CONVERSION = ConversionMatrix.of(Double.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<Double, Long> from(final Double sourceObject) {
-        result = sourceObject != null ? sourceObject.longValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToShortConverterImpl implements DoubleToShortConverter {
 
+    private static final Function<Double, Short> CONVERSION = ConversionMatrix.of(Double.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<Double, Short> from(final Double sourceObject) {
-        result = sourceObject != null ? sourceObject.shortValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.doublevalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.doublevalue.DoubleToStringConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class DoubleToStringConverterImpl implements DoubleToStringConverter {
 
+    private static final Function<Double, String> CONVERSION = ConversionMatrix.of(Double.class, String.class);
+
     private String result;
     
     @Override
     public TypeConverter<Double, String> from(final Double sourceObject) {
-        result = sourceObject != null ? sourceObject.toString() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.enumvalue;
+
+import java.util.function.Function;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+import br.com.armange.commons.object.impl.typeconverter.ConversionAttempt;
+
+/**
+ * The conversions of enum pairs: from and to names and ordinals, and between enums by name.
+ */
+public final class EnumConversions {
+    
+    private EnumConversions() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * @param sourceClass the class of the values to be converted
+     * @param targetClass the class of the converted values
+     * @return the conversion of the enum pair or null if it is not an enum pair
+     */
+    public static Function<Object, Object> functionOf(final Class<?> sourceClass, final Class<?> targetClass) {
+        final Function<Object, Object> lookup = lookupOf(sourceClass, targetClass);
+        
+        if (lookup == null) {
+            return null;
+        }
+        
+        return value -> {
+            final Object result = value != null ? lookup.apply(value) : null;
+            
+            if (value != null && result == null) {
+                throw new ObjectConverterException(Messages.ENUM_CONSTANT_NOT_FOUND, targetClass.getName(), value);
+            }
+            
+            return result;
+        };
+    }
+    
+    /**
+     * @param sourceClass the class of the values to be converted
+     * @param targetClass the class of the converted values
+     * @return the exception-free conversion of the enum pair or null if it is not an enum pair
+     */
+    public static ConversionAttempt attemptOf(final Class<?> sourceClass, final Class<?> targetClass) {
+        final Function<Object, Object> lookup = lookupOf(sourceClass, targetClass);
+        
+        if (lookup == null) {
+            return null;
+        }
+        
+        return (value, result) -> {
+            final Object converted = value != null ? lookup.apply(value) : null;
+            
+            return value != null && converted == null ? result.fail(value) : result.succeed(converted);
+        };
+    }
+    
+    /*
+     * A lookup of a non-null value, which returns null if there is no matching constant.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<Object, Object> lookupOf(final Class<?> sourceClass, final Class<?> targetClass) {
+        if (targetClass.isEnum()) {
+            final EnumTable<?> table = EnumTable.of((Class) targetClass);
+            
+            if (sourceClass.equals(String.class)) {
+                return value -> table.byName((String) value);
+            } else if (sourceClass.equals(Integer.class)) {
+                return value -> table.byOrdinal((Integer) value);
+            } else if (isEnum(sourceClass)) {
+                return value -> table.byName(((Enum<?>) value).name());
+            }
+        } else if (isEnum(sourceClass)) {
+            if (targetClass.equals(String.class)) {
+                return value -> ((Enum<?>) value).name();
+            } else if (targetClass.equals(Integer.class)) {
+                return value -> ((Enum<?>) value).ordinal();
+            }
+        }
+        
+        return null;
+    }
+    
+    /*
+     * Constants with a body are instances of an anonymous subclass of their enum.
+     */
+    private static boolean isEnum(final Class<?> type) {
+        return type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum());
+    }
+}
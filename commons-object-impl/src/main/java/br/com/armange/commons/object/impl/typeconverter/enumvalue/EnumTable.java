@@ -0,0 +1,174 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.enumvalue;
+
+import java.util.Objects;
+
+import br.com.armange.commons.message.CommonMessages;
+import br.com.armange.commons.object.impl.typeconverter.OpenAddressingIndex;
+
+/**
+ * Allocation-free lookup of the constants of an enum by name, built once per enum class.
+ */
+public final class EnumTable<E extends Enum<E>> {
+    private static final String ENUM_CLASS = "enumClass";
+    private static final ClassValue<EnumTable<?>> TABLES = new ClassValue<EnumTable<?>>() {
+        
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        protected EnumTable<?> computeValue(final Class<?> type) {
+            return new EnumTable(type);
+        }
+    };
+    
+    private final E[] constants;
+    private final OpenAddressingIndex exactIndex;
+    private final OpenAddressingIndex foldedIndex;
+    
+    private EnumTable(final Class<E> enumClass) {
+        final E[] values = enumClass.getEnumConstants();
+        final int[] exactHashes = new int[values.length];
+        final int[] foldedHashes = new int[values.length];
+        
+        for (final E constant : values) {
+            exactHashes[constant.ordinal()] = constant.name().hashCode();
+            foldedHashes[constant.ordinal()] = foldedHash(constant.name());
+        }
+        
+        constants = values;
+        exactIndex = new OpenAddressingIndex(exactHashes);
+        foldedIndex = new OpenAddressingIndex(
+                foldedHashes, 
+                (existing, candidate) -> equals(values[existing].name(), values[candidate].name(), true));
+    }
+    
+    /**
+     * @param enumClass any enum class
+     * @return the cached table of the enum class
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumTable<E> of(final Class<E> enumClass) {
+        Objects.requireNonNull(enumClass, CommonMessages.REQUIRED_PARAMETER.format(ENUM_CLASS));
+        
+        return (EnumTable<E>) TABLES.get(enumClass);
+    }
+    
+    /**
+     * @param name any text
+     * @return the constant with exactly the given name or null if there is none
+     */
+    public E byName(final CharSequence name) {
+        if (name == null) {
+            return null;
+        }
+        
+        final int hash = name instanceof String ? name.hashCode() : exactHash(name);
+        
+        for (int slot = exactIndex.slotOf(hash); exactIndex.positionAt(slot) >= 0; slot = exactIndex.next(slot)) {
+            final E constant = constants[exactIndex.positionAt(slot)];
+            
+            if (equals(constant.name(), name, false)) {
+                return constant;
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * @param name any text
+     * @return the constant whose name matches the given name ignoring case or null if there is none. When 
+     * names differ only in case, the exact name wins and then the first declared constant.
+     */
+    public E byNameIgnoreCase(final CharSequence name) {
+        final E exact = byName(name);
+        
+        if (exact != null || name == null) {
+            return exact;
+        }
+        
+        final int hash = foldedHash(name);
+        
+        for (int slot = foldedIndex.slotOf(hash); foldedIndex.positionAt(slot) >= 0; slot = foldedIndex.next(slot)) {
+            final E constant = constants[foldedIndex.positionAt(slot)];
+            
+            if (equals(constant.name(), name, true)) {
+                return constant;
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * @param ordinal any ordinal
+     * @return the constant with the given ordinal or null if it is out of range
+     */
+    public E byOrdinal(final int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+    
+    /**
+     * @return the number of constants of the enum
+     */
+    public int size() {
+        return constants.length;
+    }
+    
+    private static int exactHash(final CharSequence text) {
+        int result = 0;
+        
+        for (int i = 0; i < text.length(); i++) {
+            result = 31 * result + text.charAt(i);
+        }
+        
+        return result;
+    }
+    
+    private static int foldedHash(final CharSequence text) {
+        int result = 0;
+        
+        for (int i = 0; i < text.length(); i++) {
+            result = 31 * result + fold(text.charAt(i));
+        }
+        
+        return result;
+    }
+    
+    /*
+     * The same folding as String#equalsIgnoreCase, where two characters match if their folds match.
+     */
+    private static char fold(final char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+    
+    private static boolean equals(final String name, final CharSequence text, final boolean ignoreCase) {
+        if (name.length() != text.length()) {
+            return false;
+        }
+        
+        for (int i = 0; i < name.length(); i++) {
+            final char expected = name.charAt(i);
+            final char actual = text.charAt(i);
+            
+            if (expected != actual && (!ignoreCase || fold(expected) != fold(actual))) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+}
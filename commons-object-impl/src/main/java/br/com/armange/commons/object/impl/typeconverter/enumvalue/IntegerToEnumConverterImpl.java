@@ -0,0 +1,61 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.enumvalue;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+import br.com.armange.commons.object.api.typeconverter.enumvalue.IntegerToEnumConverter;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+
+/**
+ * Converts an ordinal into the enum constant given by the target class.
+ */
+public class IntegerToEnumConverterImpl<E extends Enum<E>> implements IntegerToEnumConverter<E> {
+    
+    private Integer source;
+    
+    @Override
+    public TypeConverter<Integer, E> from(final Integer sourceObject) {
+        source = sourceObject;
+        
+        return this; 
+    }
+    
+    @Override
+    public boolean tryConvert(
+            final Integer sourceObject, final Class<E> targetClass, final ConversionResult<E> result) {
+        final E constant = sourceObject != null ? EnumTable.of(targetClass).byOrdinal(sourceObject) : null;
+        
+        return sourceObject != null && constant == null ? result.fail(sourceObject) : result.succeed(constant);
+    }
+
+    @Override
+    public E to(final Class<E> targetClass) {
+        final E result = source != null ? EnumTable.of(targetClass).byOrdinal(source) : null;
+        
+        if (source != null && result == null) {
+            throw new ObjectConverterException(Messages.ENUM_CONSTANT_NOT_FOUND, targetClass.getName(), source);
+        }
+        
+        return result;
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return sourceObject.getClass().equals(Integer.class) && targetClass.isEnum();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.enumvalue;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+import br.com.armange.commons.object.api.typeconverter.enumvalue.StringToEnumConverter;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.message.Messages;
+
+/**
+ * Converts a name into the enum constant given by the target class, either exactly or ignoring case.
+ */
+public class StringToEnumConverterImpl<E extends Enum<E>> implements StringToEnumConverter<E> {
+    
+    private final boolean ignoreCase;
+    private String source;
+    
+    public StringToEnumConverterImpl() {
+        this(false);
+    }
+    
+    /**
+     * @param ignoreCase true to match the names ignoring case
+     */
+    public StringToEnumConverterImpl(final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+    
+    @Override
+    public TypeConverter<String, E> from(final String sourceObject) {
+        source = sourceObject;
+        
+        return this; 
+    }
+    
+    @Override
+    public boolean tryConvert(final String sourceObject, final Class<E> targetClass, final ConversionResult<E> result) {
+        final E constant = lookup(sourceObject, targetClass);
+        
+        return sourceObject != null && constant == null ? result.fail(sourceObject) : result.succeed(constant);
+    }
+
+    @Override
+    public E to(final Class<E> targetClass) {
+        final E result = lookup(source, targetClass);
+        
+        if (source != null && result == null) {
+            throw new ObjectConverterException(Messages.ENUM_CONSTANT_NOT_FOUND, targetClass.getName(), source);
+        }
+        
+        return result;
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return sourceObject.getClass().equals(String.class) && targetClass.isEnum();
+    }
+    
+    private E lookup(final String name, final Class<E> targetClass) {
+        final EnumTable<E> table = EnumTable.of(targetClass);
+        
+        return ignoreCase ? table.byNameIgnoreCase(name) : table.byName(name);
+    }
+}
@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToBigDecimalConverterImpl implements FloatToBigDecimalConverter {
 
+    private static final Function<Float, BigDecimal> CONVERSION = ConversionMatrix.of(Float.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Float, BigDecimal> from(final Float sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToBooleanConverterImpl implements FloatToBooleanConverter {
 
+    private static final Function<Float, Boolean> CONVERSION = ConversionMatrix.of(Float.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Float, Boolean> from(final Float sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Float sourceObject) {
-        return sourceObject > 0 || sourceObject < 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToByteConverterImpl implements FloatToByteConverter {
 
+    private static final Function<Float, Byte> CONVERSION = ConversionMatrix.of(Float.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Float, Byte> from(final Float sourceObject) {
-        result = sourceObject != null ? sourceObject.byteValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
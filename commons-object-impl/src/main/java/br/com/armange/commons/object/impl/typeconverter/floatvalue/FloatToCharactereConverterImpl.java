@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToCharactereConverterImpl implements FloatToCharactereConverter {
 
+    private static final Function<Float, Character> CONVERSION = ConversionMatrix.of(Float.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Float, Character> from(final Float sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToDoubleConverterImpl implements FloatToDoubleConverter {
 
+    private static final Function<Float, Double> CONVERSION = ConversionMatrix.of(Float.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Float, Double> from(final Float sourceObject) {
-        result = sourceObject != null ? sourceObject.doubleValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
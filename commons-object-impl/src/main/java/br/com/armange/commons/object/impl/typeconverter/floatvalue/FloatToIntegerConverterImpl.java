@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToIntegerConverterImpl implements FloatToIntegerConverter {
 
+    private static final Function<Float, Integer> CONVERSION = ConversionMatrix.of(Float.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Float, Integer> from(final Float sourceObject) {
-        result = sourceObject != null ? sourceObject.intValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToLongConverterImpl implements FloatToLongConverter {
 
+    private static final Function<Float, Long> CONVERSION = ConversionMatrix.of(Float.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<Float, Long> from(final Float sourceObject) {
-        result = sourceObject != null ? sourceObject.longValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
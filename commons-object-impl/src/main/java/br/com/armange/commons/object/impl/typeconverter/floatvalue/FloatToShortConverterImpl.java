@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.floatvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.floatvalue.FloatToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class FloatToShortConverterImpl implements FloatToShortConverter {
 
+    private static final Function<Float, Short> CONVERSION = ConversionMatrix.of(Float.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<Float, Short> from(final Float sourceObject) {
-        result = sourceObject != null ? sourceObject.shortValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -16,17 +16,22 @@
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToBigDecimalConverterImpl implements IntegerToBigDecimalConverter {
 
+    private static final Function<Integer, BigDecimal> CONVERSION = 
+            ConversionMatrix.of(Integer.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Integer, BigDecimal> from(final Integer sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToBooleanConverterImpl implements IntegerToBooleanConverter {
 
+    private static final Function<Integer, Boolean> CONVERSION = ConversionMatrix.of(Integer.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Integer, Boolean> from(final Integer sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Integer sourceObject) {
-        return sourceObject > 0 || sourceObject < 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
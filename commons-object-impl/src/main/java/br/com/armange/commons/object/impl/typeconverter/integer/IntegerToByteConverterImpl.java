@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToByteConverterImpl implements IntegerToByteConverter {
 
+    private static final Function<Integer, Byte> CONVERSION = ConversionMatrix.of(Integer.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Integer, Byte> from(final Integer sourceObject) {
-        result = sourceObject != null ? sourceObject.byteValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
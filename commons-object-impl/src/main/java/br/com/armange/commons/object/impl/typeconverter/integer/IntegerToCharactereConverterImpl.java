@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToCharactereConverterImpl implements IntegerToCharactereConverter {
 
+    private static final Function<Integer, Character> CONVERSION = ConversionMatrix.of(Integer.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Integer, Character> from(final Integer sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToDoubleConverterImpl implements IntegerToDoubleConverter {
 
+    private static final Function<Integer, Double> CONVERSION = ConversionMatrix.of(Integer.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Integer, Double> from(final Integer sourceObject) {
-        result = sourceObject != null ? sourceObject.doubleValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
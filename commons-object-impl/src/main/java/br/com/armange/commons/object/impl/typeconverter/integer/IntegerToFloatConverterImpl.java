@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToFloatConverterImpl implements IntegerToFloatConverter {
 
+    private static final Function<Integer, Float> CONVERSION = ConversionMatrix.of(Integer.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Integer, Float> from(final Integer sourceObject) {
-        result = sourceObject != null ? sourceObject.floatValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToLongConverterImpl implements IntegerToLongConverter {
 
+    private static final Function<Integer, Long> CONVERSION = ConversionMatrix.of(Integer.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<Integer, Long> from(final Integer sourceObject) {
-        result = sourceObject != null ? sourceObject.longValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
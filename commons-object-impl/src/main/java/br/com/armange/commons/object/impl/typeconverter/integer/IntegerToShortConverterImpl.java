@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToShortConverterImpl implements IntegerToShortConverter {
 
+    private static final Function<Integer, Short> CONVERSION = ConversionMatrix.of(Integer.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<Integer, Short> from(final Integer sourceObject) {
-        result = sourceObject != null ? sourceObject.shortValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.integer;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.integer.IntegerToStringConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class IntegerToStringConverterImpl implements IntegerToStringConverter {
 
+    private static final Function<Integer, String> CONVERSION = ConversionMatrix.of(Integer.class, String.class);
+
     private String result;
     
     @Override
     public TypeConverter<Integer, String> from(final Integer sourceObject) {
-        result = sourceObject != null ? sourceObject.toString() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToBigDecimalConverterImpl implements LongToBigDecimalConverter {
 
+    private static final Function<Long, BigDecimal> CONVERSION = ConversionMatrix.of(Long.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Long, BigDecimal> from(final Long sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToBooleanConverterImpl implements LongToBooleanConverter {
 
+    private static final Function<Long, Boolean> CONVERSION = ConversionMatrix.of(Long.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Long, Boolean> from(final Long sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Long sourceObject) {
-        return sourceObject > 0 || sourceObject < 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
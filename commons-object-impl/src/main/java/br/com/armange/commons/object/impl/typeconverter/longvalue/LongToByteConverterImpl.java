@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToByteConverterImpl implements LongToByteConverter {
 
+    private static final Function<Long, Byte> CONVERSION = ConversionMatrix.of(Long.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Long, Byte> from(final Long sourceObject) {
-        result = sourceObject != null ? sourceObject.byteValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
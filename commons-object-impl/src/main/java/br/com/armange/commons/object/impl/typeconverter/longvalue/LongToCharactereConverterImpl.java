@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToCharactereConverterImpl implements LongToCharactereConverter {
 
+    private static final Function<Long, Character> CONVERSION = ConversionMatrix.of(Long.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Long, Character> from(final Long sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToDoubleConverterImpl implements LongToDoubleConverter {
 
+    private static final Function<Long, Double> CONVERSION = ConversionMatrix.of(Long.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Long, Double> from(final Long sourceObject) {
-        result = sourceObject != null ? sourceObject.doubleValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
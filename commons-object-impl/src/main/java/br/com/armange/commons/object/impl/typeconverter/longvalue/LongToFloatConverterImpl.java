@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToFloatConverterImpl implements LongToFloatConverter {
 
+    private static final Function<Long, Float> CONVERSION = ConversionMatrix.of(Long.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Long, Float> from(final Long sourceObject) {
-        result = sourceObject != null ? sourceObject.floatValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.longvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.longinteger.LongToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class LongToIntegerConverterImpl implements LongToIntegerConverter {
 
+    private static final Function<Long, Integer> CONVERSION = ConversionMatrix.of(Long.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Long, Integer> from(final Long sourceObject) {
-        result = sourceObject != null ? sourceObject.intValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
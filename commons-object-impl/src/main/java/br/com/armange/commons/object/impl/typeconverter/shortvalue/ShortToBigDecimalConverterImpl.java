@@ -16,17 +16,21 @@
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToBigDecimalConverterImpl implements ShortToBigDecimalConverter {
 
+    private static final Function<Short, BigDecimal> CONVERSION = ConversionMatrix.of(Short.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<Short, BigDecimal> from(final Short sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
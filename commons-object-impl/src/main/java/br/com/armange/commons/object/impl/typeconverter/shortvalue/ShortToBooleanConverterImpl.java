@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToBooleanConverterImpl implements ShortToBooleanConverter {
 
+    private static final Function<Short, Boolean> CONVERSION = ConversionMatrix.of(Short.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<Short, Boolean> from(final Short sourceObject) {
-        result = sourceObject != null ? toBoolean(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
 
-    private Boolean toBoolean(final Short sourceObject) {
-        return sourceObject > 0 || sourceObject < 0;
-    }
-
     @Override
     public Boolean to(final Class<Boolean> targetClass) {
         return result;
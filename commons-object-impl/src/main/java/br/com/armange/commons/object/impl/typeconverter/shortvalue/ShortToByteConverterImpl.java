@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToByteConverterImpl implements ShortToByteConverter {
 
+    private static final Function<Short, Byte> CONVERSION = ConversionMatrix.of(Short.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<Short, Byte> from(final Short sourceObject) {
-        result = sourceObject != null ? sourceObject.byteValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
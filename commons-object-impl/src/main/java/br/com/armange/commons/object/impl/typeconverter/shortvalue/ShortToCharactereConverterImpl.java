@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToCharactereConverterImpl implements ShortToCharactereConverter {
 
+    private static final Function<Short, Character> CONVERSION = ConversionMatrix.of(Short.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<Short, Character> from(final Short sourceObject) {
-        result = sourceObject != null ? ((char)sourceObject.intValue()) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
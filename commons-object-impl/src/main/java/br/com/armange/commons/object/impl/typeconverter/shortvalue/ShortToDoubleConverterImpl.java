@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToDoubleConverterImpl implements ShortToDoubleConverter {
 
+    private static final Function<Short, Double> CONVERSION = ConversionMatrix.of(Short.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<Short, Double> from(final Short sourceObject) {
-        result = sourceObject != null ? sourceObject.doubleValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToFloatConverterImpl implements ShortToFloatConverter {
 
+    private static final Function<Short, Float> CONVERSION = ConversionMatrix.of(Short.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<Short, Float> from(final Short sourceObject) {
-        result = sourceObject != null ? sourceObject.floatValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
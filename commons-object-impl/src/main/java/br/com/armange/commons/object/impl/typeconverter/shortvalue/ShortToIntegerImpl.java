@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.shortvalue;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.shortinteger.ShortToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class ShortToIntegerImpl implements ShortToIntegerConverter {
 
+    private static final Function<Short, Integer> CONVERSION = ConversionMatrix.of(Short.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<Short, Integer> from(final Short sourceObject) {
-        result = sourceObject != null ? sourceObject.intValue() : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
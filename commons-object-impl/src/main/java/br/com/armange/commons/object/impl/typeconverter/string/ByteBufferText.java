@@ -0,0 +1,245 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parsing of numbers and decoding of text straight from a region of a {@link ByteBuffer}, without decoding
+ * it into a {@link String} first.
+ */
+public final class ByteBufferText {
+    private static final int SCRATCH_SIZE = 256;
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+    
+    private ByteBufferText() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a decimal {@code long}
+     * @see NumberParser#parseLong(CharSequence, int, int)
+     */
+    public static long parseLong(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseLong(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseLong(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a decimal {@code int}
+     * @see NumberParser#parseInt(CharSequence, int, int)
+     */
+    public static int parseInt(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseInt(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseInt(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a decimal {@code short}
+     * @see NumberParser#parseShort(CharSequence, int, int)
+     */
+    public static short parseShort(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseShort(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseShort(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a decimal {@code byte}
+     * @see NumberParser#parseByte(CharSequence, int, int)
+     */
+    public static byte parseByte(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseByte(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseByte(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a valid floating-point number
+     * @see NumberParser#parseDouble(CharSequence, int, int)
+     */
+    public static double parseDouble(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseDouble(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseDouble(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a valid floating-point number
+     * @see NumberParser#parseFloat(CharSequence, int, int)
+     */
+    public static float parseFloat(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseFloat(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseFloat(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the region is not a valid decimal number
+     * @see NumberParser#parseBigDecimal(CharSequence, int, int)
+     */
+    public static BigDecimal parseBigDecimal(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return source.hasArray() 
+                ? NumberParser.parseBigDecimal(source.array(), source.arrayOffset() + offset, length) 
+                : NumberParser.parseBigDecimal(new ByteSequence(source, offset, length), 0, length);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the region decoded as UTF-8
+     */
+    public static String decodeUtf8(final ByteBuffer source, final int offset, final int length) {
+        return decode(source, offset, length, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the region decoded as ASCII
+     */
+    public static String decodeAscii(final ByteBuffer source, final int offset, final int length) {
+        return decode(source, offset, length, StandardCharsets.US_ASCII);
+    }
+    
+    /**
+     * A read-only view of a region as characters, in which every byte is the character of the same code from 
+     * 0 to 255. The view reads the buffer on every access, so it must not outlive the contents of the region.
+     * @param source the buffer
+     * @param offset the absolute index of the first byte
+     * @param length the number of bytes
+     * @return the view of the region
+     */
+    public static CharSequence asCharSequence(final ByteBuffer source, final int offset, final int length) {
+        checkRange(source, offset, length);
+        
+        return new ByteSequence(source, offset, length);
+    }
+    
+    private static String decode(final ByteBuffer source, final int offset, final int length, final Charset charset) {
+        checkRange(source, offset, length);
+        
+        if (source.hasArray()) {
+            return new String(source.array(), source.arrayOffset() + offset, length, charset);
+        }
+        
+        final byte[] bytes = length <= SCRATCH_SIZE ? SCRATCH.get() : new byte[length];
+        
+        for (int i = 0; i < length; i++) {
+            bytes[i] = source.get(offset + i);
+        }
+        
+        return new String(bytes, 0, length, charset);
+    }
+    
+    private static void checkRange(final ByteBuffer source, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > source.limit() - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for limit " 
+                    + source.limit());
+        }
+    }
+    
+    private static final class ByteSequence implements CharSequence {
+        private final ByteBuffer source;
+        private final int offset;
+        private final int length;
+        
+        private ByteSequence(final ByteBuffer source, final int offset, final int length) {
+            this.source = source;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+            }
+            
+            return (char) (source.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || start > end || end > length) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + start + ", " + end + ") out of bounds for length " + length);
+            }
+            
+            return new ByteSequence(source, offset + start, end - start);
+        }
+        
+        @Override
+        public String toString() {
+            return decode(source, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
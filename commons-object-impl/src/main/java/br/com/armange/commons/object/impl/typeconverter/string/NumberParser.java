@@ -0,0 +1,672 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free parsing of decimal numbers from ranges of characters or ASCII bytes.
+ */
+public final class NumberParser {
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final int MAX_DOUBLE_EXPONENT = 22;
+    private static final int MAX_FLOAT_DIGITS = 7;
+    private static final int MAX_FLOAT_EXPONENT = 10;
+    private static final int MAX_EXPONENT_LENGTH = 4;
+    private static final int MIN_SCANNED_EXPONENT = -999;
+    private static final int EXPONENT_BIAS = 4096;
+    private static final int MANTISSA_BITS = 50;
+    private static final long MANTISSA_MASK = (1L << MANTISSA_BITS) - 1;
+    
+    /*
+     * A scanned decimal is packed as the mantissa (bits 0-49), the biased exponent (bits 50-62) and the sign 
+     * (bit 63). The mantissa never exceeds 10^15 - 1, so all bits set is not a valid packed decimal.
+     */
+    private static final long NOT_A_SIMPLE_DECIMAL = -1L;
+    
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int BIG_DECIMAL_CACHE_SIZE = 256;
+    
+    /*
+     * A direct-mapped cache of recently parsed decimals. Entries are immutable, so a racing write can only 
+     * replace an entry and never expose a partially built one.
+     */
+    private static final CachedBigDecimal[] BIG_DECIMAL_CACHE = new CachedBigDecimal[BIG_DECIMAL_CACHE_SIZE];
+    
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    
+    private NumberParser() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Parses a decimal {@code long} from a range of characters. Like {@link Long#parseLong(String)}, any Unicode 
+     * decimal digit is accepted.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit a {@code long}
+     */
+    public static long parseLong(final CharSequence source, final int offset, final int length) {
+        checkRange(source.length(), offset, length);
+        
+        final int end = offset + length;
+        int index = offset;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        
+        if (length > 0 && (source.charAt(index) == '-' || source.charAt(index) == '+')) {
+            negative = source.charAt(index) == '-';
+            limit = negative ? Long.MIN_VALUE : limit;
+            index++;
+        }
+        
+        if (index == end) {
+            throw invalidNumber(source, offset, length);
+        }
+        
+        final long lastLimit = limit / 10;
+        long result = 0;
+        
+        while (index < end) {
+            final char character = source.charAt(index++);
+            final int digit = character <= '9' ? character - '0' : Character.digit(character, 10);
+            
+            if (digit < 0 || result < lastLimit) {
+                throw invalidNumber(source, offset, length);
+            }
+            
+            result *= 10;
+            
+            if (result < limit + digit) {
+                throw invalidNumber(source, offset, length);
+            }
+            
+            result -= digit;
+        }
+        
+        return negative ? result : -result;
+    }
+    
+    /**
+     * Parses a decimal {@code int} from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit an {@code int}
+     */
+    public static int parseInt(final CharSequence source, final int offset, final int length) {
+        final long value = parseLong(source, offset, length);
+        
+        return (int) narrow(value, Integer.MIN_VALUE, Integer.MAX_VALUE, source, offset, length);
+    }
+    
+    /**
+     * Parses a decimal {@code short} from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit a {@code short}
+     */
+    public static short parseShort(final CharSequence source, final int offset, final int length) {
+        final long value = parseLong(source, offset, length);
+        
+        return (short) narrow(value, Short.MIN_VALUE, Short.MAX_VALUE, source, offset, length);
+    }
+    
+    /**
+     * Parses a decimal {@code byte} from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit a {@code byte}
+     */
+    public static byte parseByte(final CharSequence source, final int offset, final int length) {
+        final long value = parseLong(source, offset, length);
+        
+        return (byte) narrow(value, Byte.MIN_VALUE, Byte.MAX_VALUE, source, offset, length);
+    }
+    
+    /**
+     * Parses a {@code double} from a range of characters. Decimal and scientific notations with up to 15 
+     * significant digits and a decimal exponent within &plusmn;22 are computed in place with a single correctly 
+     * rounded operation. Any other input is delegated to {@link Double#parseDouble(String)}.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not a valid floating-point number
+     */
+    public static double parseDouble(final CharSequence source, final int offset, final int length) {
+        final long decimal = scanDecimal(source, offset, length, MAX_DOUBLE_DIGITS);
+        
+        if (decimal == NOT_A_SIMPLE_DECIMAL || Math.abs(exponentOf(decimal)) > MAX_DOUBLE_EXPONENT) {
+            return Double.parseDouble(source.subSequence(offset, offset + length).toString());
+        }
+        
+        return toDouble(decimal);
+    }
+    
+    /**
+     * Parses a {@code float} from a range of characters. Decimal and scientific notations with up to 7 
+     * significant digits and a decimal exponent within &plusmn;10 are computed in place with a single correctly 
+     * rounded operation. Any other input is delegated to {@link Float#parseFloat(String)}.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not a valid floating-point number
+     */
+    public static float parseFloat(final CharSequence source, final int offset, final int length) {
+        final long decimal = scanDecimal(source, offset, length, MAX_FLOAT_DIGITS);
+        
+        if (decimal == NOT_A_SIMPLE_DECIMAL || Math.abs(exponentOf(decimal)) > MAX_FLOAT_EXPONENT) {
+            return Float.parseFloat(source.subSequence(offset, offset + length).toString());
+        }
+        
+        return toFloat(decimal);
+    }
+    
+    /**
+     * Parses a {@link BigDecimal} from a range of characters. Plain decimals with up to 18 digits are built 
+     * from a {@code long} unscaled value and served from a small cache of recently parsed values. Any other 
+     * input is delegated to {@link BigDecimal#BigDecimal(String)}.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed value, equal in value and scale to the one created by the {@link BigDecimal} constructor
+     * @throws NumberFormatException if the range is not a valid decimal number
+     */
+    public static BigDecimal parseBigDecimal(final CharSequence source, final int offset, final int length) {
+        checkRange(source.length(), offset, length);
+        
+        final int end = offset + length;
+        int index = offset;
+        boolean negative = false;
+        
+        if (index < end && (source.charAt(index) == '-' || source.charAt(index) == '+')) {
+            negative = source.charAt(index) == '-';
+            index++;
+        }
+        
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        
+        for (; index < end; index++) {
+            final char current = source.charAt(index);
+            
+            if (current >= '0' && current <= '9' && digits < MAX_LONG_DIGITS) {
+                unscaled = unscaled * 10 + (current - '0');
+                scale += point ? 1 : 0;
+                digits++;
+            } else if (current == '.' && !point) {
+                point = true;
+            } else {
+                return new BigDecimal(source.subSequence(offset, end).toString());
+            }
+        }
+        
+        if (digits == 0) {
+            return new BigDecimal(source.subSequence(offset, end).toString());
+        }
+        
+        return cachedBigDecimal(negative ? -unscaled : unscaled, scale);
+    }
+    
+    private static long scanDecimal(
+            final CharSequence source, final int offset, final int length, final int maxDigits) {
+        checkRange(source.length(), offset, length);
+        
+        final int end = offset + length;
+        int index = offset;
+        boolean negative = false;
+        
+        if (index < end && (source.charAt(index) == '-' || source.charAt(index) == '+')) {
+            negative = source.charAt(index) == '-';
+            index++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean point = false;
+        
+        for (; index < end; index++) {
+            final char current = source.charAt(index);
+            
+            if (current >= '0' && current <= '9') {
+                digits++;
+                significantDigits += mantissa != 0 || current != '0' ? 1 : 0;
+                mantissa = mantissa * 10 + (current - '0');
+                exponent -= point ? 1 : 0;
+                
+                if (significantDigits > maxDigits || exponent < MIN_SCANNED_EXPONENT) {
+                    return NOT_A_SIMPLE_DECIMAL;
+                }
+            } else if (current == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        
+        if (digits == 0) {
+            return NOT_A_SIMPLE_DECIMAL;
+        } else if (index < end && (source.charAt(index) == 'e' || source.charAt(index) == 'E')) {
+            final int exponentLength = end - index - 1;
+            
+            if (exponentLength == 0 || exponentLength > MAX_EXPONENT_LENGTH 
+                    || !isSignedDigits(source, index + 1, exponentLength)) {
+                return NOT_A_SIMPLE_DECIMAL;
+            }
+            
+            exponent += parseInt(source, index + 1, exponentLength);
+        } else if (index != end) {
+            return NOT_A_SIMPLE_DECIMAL;
+        }
+        
+        return packDecimal(negative, mantissa, exponent);
+    }
+    
+    private static boolean isSignedDigits(final CharSequence source, final int offset, final int length) {
+        final int start = source.charAt(offset) == '-' || source.charAt(offset) == '+' ? offset + 1 : offset;
+        
+        if (start == offset + length) {
+            return false;
+        }
+        
+        for (int index = start; index < offset + length; index++) {
+            if (source.charAt(index) < '0' || source.charAt(index) > '9') {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Parses a decimal {@code long} from a range of ASCII bytes.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit a {@code long}
+     */
+    public static long parseLong(final byte[] source, final int offset, final int length) {
+        checkRange(source.length, offset, length);
+        
+        final int end = offset + length;
+        int index = offset;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        
+        if (length > 0 && (source[index] == '-' || source[index] == '+')) {
+            negative = source[index] == '-';
+            limit = negative ? Long.MIN_VALUE : limit;
+            index++;
+        }
+        
+        if (index == end) {
+            throw invalidNumber(source, offset, length);
+        }
+        
+        final long lastLimit = limit / 10;
+        long result = 0;
+        
+        while (index < end) {
+            final int digit = source[index++] - '0';
+            
+            if (digit < 0 || digit > 9 || result < lastLimit) {
+                throw invalidNumber(source, offset, length);
+            }
+            
+            result *= 10;
+            
+            if (result < limit + digit) {
+                throw invalidNumber(source, offset, length);
+            }
+            
+            result -= digit;
+        }
+        
+        return negative ? result : -result;
+    }
+    
+    /**
+     * Parses a decimal {@code int} from a range of ASCII bytes.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit an {@code int}
+     */
+    public static int parseInt(final byte[] source, final int offset, final int length) {
+        final long value = parseLong(source, offset, length);
+        
+        return (int) narrow(value, Integer.MIN_VALUE, Integer.MAX_VALUE, source, offset, length);
+    }
+    
+    /**
+     * Parses a decimal {@code short} from a range of ASCII bytes.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit a {@code short}
+     */
+    public static short parseShort(final byte[] source, final int offset, final int length) {
+        final long value = parseLong(source, offset, length);
+        
+        return (short) narrow(value, Short.MIN_VALUE, Short.MAX_VALUE, source, offset, length);
+    }
+    
+    /**
+     * Parses a decimal {@code byte} from a range of ASCII bytes.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not an optionally signed sequence of decimal digits or if 
+     * the value does not fit a {@code byte}
+     */
+    public static byte parseByte(final byte[] source, final int offset, final int length) {
+        final long value = parseLong(source, offset, length);
+        
+        return (byte) narrow(value, Byte.MIN_VALUE, Byte.MAX_VALUE, source, offset, length);
+    }
+    
+    /**
+     * Parses a {@code double} from a range of ASCII bytes. Decimal and scientific notations with up to 15 
+     * significant digits and a decimal exponent within &plusmn;22 are computed in place with a single correctly 
+     * rounded operation. Any other input is delegated to {@link Double#parseDouble(String)}.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not a valid floating-point number
+     */
+    public static double parseDouble(final byte[] source, final int offset, final int length) {
+        final long decimal = scanDecimal(source, offset, length, MAX_DOUBLE_DIGITS);
+        
+        if (decimal == NOT_A_SIMPLE_DECIMAL || Math.abs(exponentOf(decimal)) > MAX_DOUBLE_EXPONENT) {
+            return Double.parseDouble(ascii(source, offset, length));
+        }
+        
+        return toDouble(decimal);
+    }
+    
+    /**
+     * Parses a {@code float} from a range of ASCII bytes. Decimal and scientific notations with up to 7 
+     * significant digits and a decimal exponent within &plusmn;10 are computed in place with a single correctly 
+     * rounded operation. Any other input is delegated to {@link Float#parseFloat(String)}.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value
+     * @throws NumberFormatException if the range is not a valid floating-point number
+     */
+    public static float parseFloat(final byte[] source, final int offset, final int length) {
+        final long decimal = scanDecimal(source, offset, length, MAX_FLOAT_DIGITS);
+        
+        if (decimal == NOT_A_SIMPLE_DECIMAL || Math.abs(exponentOf(decimal)) > MAX_FLOAT_EXPONENT) {
+            return Float.parseFloat(ascii(source, offset, length));
+        }
+        
+        return toFloat(decimal);
+    }
+    
+    /**
+     * Parses a {@link BigDecimal} from a range of ASCII bytes. Plain decimals with up to 18 digits are built 
+     * from a {@code long} unscaled value and served from a small cache of recently parsed values. Any other 
+     * input is delegated to {@link BigDecimal#BigDecimal(String)}.
+     * @param source the ASCII bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed value, equal in value and scale to the one created by the {@link BigDecimal} constructor
+     * @throws NumberFormatException if the range is not a valid decimal number
+     */
+    public static BigDecimal parseBigDecimal(final byte[] source, final int offset, final int length) {
+        checkRange(source.length, offset, length);
+        
+        final int end = offset + length;
+        int index = offset;
+        boolean negative = false;
+        
+        if (index < end && (source[index] == '-' || source[index] == '+')) {
+            negative = source[index] == '-';
+            index++;
+        }
+        
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        
+        for (; index < end; index++) {
+            final byte current = source[index];
+            
+            if (current >= '0' && current <= '9' && digits < MAX_LONG_DIGITS) {
+                unscaled = unscaled * 10 + (current - '0');
+                scale += point ? 1 : 0;
+                digits++;
+            } else if (current == '.' && !point) {
+                point = true;
+            } else {
+                return new BigDecimal(ascii(source, offset, length));
+            }
+        }
+        
+        if (digits == 0) {
+            return new BigDecimal(ascii(source, offset, length));
+        }
+        
+        return cachedBigDecimal(negative ? -unscaled : unscaled, scale);
+    }
+    
+    private static long scanDecimal(
+            final byte[] source, final int offset, final int length, final int maxDigits) {
+        checkRange(source.length, offset, length);
+        
+        final int end = offset + length;
+        int index = offset;
+        boolean negative = false;
+        
+        if (index < end && (source[index] == '-' || source[index] == '+')) {
+            negative = source[index] == '-';
+            index++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean point = false;
+        
+        for (; index < end; index++) {
+            final byte current = source[index];
+            
+            if (current >= '0' && current <= '9') {
+                digits++;
+                significantDigits += mantissa != 0 || current != '0' ? 1 : 0;
+                mantissa = mantissa * 10 + (current - '0');
+                exponent -= point ? 1 : 0;
+                
+                if (significantDigits > maxDigits || exponent < MIN_SCANNED_EXPONENT) {
+                    return NOT_A_SIMPLE_DECIMAL;
+                }
+            } else if (current == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        
+        if (digits == 0) {
+            return NOT_A_SIMPLE_DECIMAL;
+        } else if (index < end && (source[index] == 'e' || source[index] == 'E')) {
+            final int exponentLength = end - index - 1;
+            
+            if (exponentLength == 0 || exponentLength > MAX_EXPONENT_LENGTH 
+                    || !isSignedDigits(source, index + 1, exponentLength)) {
+                return NOT_A_SIMPLE_DECIMAL;
+            }
+            
+            exponent += parseInt(source, index + 1, exponentLength);
+        } else if (index != end) {
+            return NOT_A_SIMPLE_DECIMAL;
+        }
+        
+        return packDecimal(negative, mantissa, exponent);
+    }
+    
+    private static boolean isSignedDigits(final byte[] source, final int offset, final int length) {
+        final int start = source[offset] == '-' || source[offset] == '+' ? offset + 1 : offset;
+        
+        if (start == offset + length) {
+            return false;
+        }
+        
+        for (int index = start; index < offset + length; index++) {
+            if (source[index] < '0' || source[index] > '9') {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static BigDecimal cachedBigDecimal(final long unscaled, final int scale) {
+        final int slot = (Long.hashCode(unscaled) * 31 + scale) & (BIG_DECIMAL_CACHE_SIZE - 1);
+        final CachedBigDecimal cached = BIG_DECIMAL_CACHE[slot];
+        
+        if (cached != null && cached.unscaled == unscaled && cached.scale == scale) {
+            return cached.value;
+        }
+        
+        final BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+        
+        BIG_DECIMAL_CACHE[slot] = new CachedBigDecimal(unscaled, scale, value);
+        
+        return value;
+    }
+    
+    private static long packDecimal(final boolean negative, final long mantissa, final int exponent) {
+        if (exponent <= -EXPONENT_BIAS || exponent >= EXPONENT_BIAS) {
+            return NOT_A_SIMPLE_DECIMAL;
+        }
+        
+        return (negative ? Long.MIN_VALUE : 0L) 
+                | ((long) (exponent + EXPONENT_BIAS) << MANTISSA_BITS) 
+                | mantissa;
+    }
+    
+    private static int exponentOf(final long decimal) {
+        return (int) ((decimal >>> MANTISSA_BITS) & (2 * EXPONENT_BIAS - 1)) - EXPONENT_BIAS;
+    }
+    
+    private static double toDouble(final long decimal) {
+        final double mantissa = decimal & MANTISSA_MASK;
+        final int exponent = exponentOf(decimal);
+        final double value = exponent >= 0 
+                ? mantissa * DOUBLE_POWERS_OF_TEN[exponent] 
+                : mantissa / DOUBLE_POWERS_OF_TEN[-exponent];
+        
+        return decimal < 0 ? -value : value;
+    }
+    
+    private static float toFloat(final long decimal) {
+        final float mantissa = decimal & MANTISSA_MASK;
+        final int exponent = exponentOf(decimal);
+        final float value = exponent >= 0 
+                ? mantissa * FLOAT_POWERS_OF_TEN[exponent] 
+                : mantissa / FLOAT_POWERS_OF_TEN[-exponent];
+        
+        return decimal < 0 ? -value : value;
+    }
+    
+    private static long narrow(
+            final long value, final long min, final long max, 
+            final CharSequence source, final int offset, final int length) {
+        if (value < min || value > max) {
+            throw invalidNumber(source, offset, length);
+        }
+        
+        return value;
+    }
+    
+    private static long narrow(
+            final long value, final long min, final long max, 
+            final byte[] source, final int offset, final int length) {
+        if (value < min || value > max) {
+            throw invalidNumber(source, offset, length);
+        }
+        
+        return value;
+    }
+    
+    private static void checkRange(final int sourceLength, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > sourceLength - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + sourceLength);
+        }
+    }
+    
+    private static String ascii(final byte[] source, final int offset, final int length) {
+        return new String(source, offset, length, StandardCharsets.US_ASCII);
+    }
+    
+    private static NumberFormatException invalidNumber(final CharSequence source, final int offset, final int length) {
+        return new NumberFormatException("For input string: \"" + source.subSequence(offset, offset + length) + "\"");
+    }
+    
+    private static NumberFormatException invalidNumber(final byte[] source, final int offset, final int length) {
+        return new NumberFormatException("For input string: \"" + ascii(source, offset, length) + "\"");
+    }
+    
+    private static final class CachedBigDecimal {
+        private final long unscaled;
+        private final int scale;
+        private final BigDecimal value;
+        
+        private CachedBigDecimal(final long unscaled, final int scale, final BigDecimal value) {
+            this.unscaled = unscaled;
+            this.scale = scale;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Garbage-free rendering of numbers as their shortest round-trip decimal text into a caller-provided sink.
+ */
+public final class NumberRenderer {
+    /**
+     * The maximum number of characters written for a {@code long}, an {@code int}, a {@code double} or a 
+     * {@code float}.
+     */
+    public static final int MAX_LENGTH = 24;
+    
+    private static final int DOUBLE_MANTISSA_BITS = 52;
+    private static final long DOUBLE_MANTISSA_MASK = (1L << DOUBLE_MANTISSA_BITS) - 1;
+    private static final int DOUBLE_EXPONENT_MASK = (1 << 11) - 1;
+    private static final int DOUBLE_EXPONENT_BIAS = 1023;
+    private static final int FLOAT_MANTISSA_BITS = 23;
+    private static final int FLOAT_MANTISSA_MASK = (1 << FLOAT_MANTISSA_BITS) - 1;
+    private static final int FLOAT_EXPONENT_MASK = (1 << 8) - 1;
+    private static final int FLOAT_EXPONENT_BIAS = 127;
+    
+    private static final int POW5_TABLE_SIZE = 326;
+    private static final int POW5_INV_TABLE_SIZE = 291;
+    private static final int POW5_BITCOUNT = 121;
+    private static final int POW5_INV_BITCOUNT = 122;
+    private static final int QUARTER_BITCOUNT = 31;
+    private static final int[][] POW5_SPLIT = new int[POW5_TABLE_SIZE][4];
+    private static final int[][] POW5_INV_SPLIT = new int[POW5_INV_TABLE_SIZE][4];
+    
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+    
+    static {
+        final BigInteger mask = BigInteger.ONE.shiftLeft(QUARTER_BITCOUNT).subtract(BigInteger.ONE);
+        
+        for (int i = 0; i < POW5_TABLE_SIZE; i++) {
+            final BigInteger pow = BigInteger.valueOf(5).pow(i);
+            final int pow5length = pow.bitLength();
+            
+            for (int j = 0; j < 4; j++) {
+                POW5_SPLIT[i][j] = pow
+                        .shiftRight(pow5length - POW5_BITCOUNT + (3 - j) * QUARTER_BITCOUNT)
+                        .and(mask)
+                        .intValue();
+            }
+            
+            if (i < POW5_INV_TABLE_SIZE) {
+                final BigInteger inverse = BigInteger
+                        .ONE
+                        .shiftLeft(pow5length - 1 + POW5_INV_BITCOUNT)
+                        .divide(pow)
+                        .add(BigInteger.ONE);
+                
+                for (int j = 0; j < 4; j++) {
+                    final BigInteger quarter = inverse.shiftRight((3 - j) * QUARTER_BITCOUNT);
+                    
+                    POW5_INV_SPLIT[i][j] = (j == 0 ? quarter : quarter.and(mask)).intValue();
+                }
+            }
+        }
+    }
+    
+    private NumberRenderer() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Writes a {@code long} in decimal notation.
+     * @param value the value to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first written character
+     * @return the number of written characters
+     */
+    public static int render(final long value, final char[] buffer, final int offset) {
+        if (value == Long.MIN_VALUE) {
+            final String minValue = "-9223372036854775808";
+            
+            minValue.getChars(0, minValue.length(), buffer, offset);
+            
+            return minValue.length();
+        }
+        
+        final boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        final int length = decimalLength(remaining) + (negative ? 1 : 0);
+        int index = offset + length;
+        
+        do {
+            buffer[--index] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        
+        if (negative) {
+            buffer[offset] = '-';
+        }
+        
+        return length;
+    }
+    
+    /**
+     * Writes a {@code double} as its shortest round-trip decimal.
+     * @param value the value to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first written character
+     * @return the number of written characters
+     */
+    public static int render(final double value, final char[] buffer, final int offset) {
+        final long bits = Double.doubleToRawLongBits(value);
+        final int ieeeExponent = (int) ((bits >>> DOUBLE_MANTISSA_BITS) & DOUBLE_EXPONENT_MASK);
+        final long ieeeMantissa = bits & DOUBLE_MANTISSA_MASK;
+        
+        if (ieeeExponent == DOUBLE_EXPONENT_MASK || (ieeeExponent == 0 && ieeeMantissa == 0)) {
+            return renderSpecial(value, buffer, offset);
+        } else if (ieeeExponent == 0) {
+            return renderShortest(
+                    bits < 0, ieeeMantissa, 1 - DOUBLE_EXPONENT_BIAS - DOUBLE_MANTISSA_BITS, false, buffer, offset);
+        } else {
+            return renderShortest(
+                    bits < 0, 
+                    ieeeMantissa | (1L << DOUBLE_MANTISSA_BITS), 
+                    ieeeExponent - DOUBLE_EXPONENT_BIAS - DOUBLE_MANTISSA_BITS, 
+                    ieeeMantissa == 0 && ieeeExponent > 1, 
+                    buffer, 
+                    offset);
+        }
+    }
+    
+    /**
+     * Writes a {@code float} as its shortest round-trip decimal.
+     * @param value the value to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first written character
+     * @return the number of written characters
+     */
+    public static int render(final float value, final char[] buffer, final int offset) {
+        final int bits = Float.floatToRawIntBits(value);
+        final int ieeeExponent = (bits >>> FLOAT_MANTISSA_BITS) & FLOAT_EXPONENT_MASK;
+        final int ieeeMantissa = bits & FLOAT_MANTISSA_MASK;
+        
+        if (ieeeExponent == FLOAT_EXPONENT_MASK || (ieeeExponent == 0 && ieeeMantissa == 0)) {
+            return renderSpecial(value, buffer, offset);
+        } else if (ieeeExponent == 0) {
+            return renderShortest(
+                    bits < 0, ieeeMantissa, 1 - FLOAT_EXPONENT_BIAS - FLOAT_MANTISSA_BITS, false, buffer, offset);
+        } else {
+            return renderShortest(
+                    bits < 0, 
+                    ieeeMantissa | (1L << FLOAT_MANTISSA_BITS), 
+                    ieeeExponent - FLOAT_EXPONENT_BIAS - FLOAT_MANTISSA_BITS, 
+                    ieeeMantissa == 0 && ieeeExponent > 1, 
+                    buffer, 
+                    offset);
+        }
+    }
+    
+    /**
+     * Writes a {@code long} in decimal notation as ASCII bytes.
+     * @param value the value to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} bytes
+     * @param offset the index of the first written byte
+     * @return the number of written bytes
+     */
+    public static int render(final long value, final byte[] buffer, final int offset) {
+        final char[] scratch = SCRATCH.get();
+        
+        return copy(scratch, render(value, scratch, 0), buffer, offset);
+    }
+    
+    /**
+     * Writes a {@code double} as its shortest round-trip decimal in ASCII bytes.
+     * @param value the value to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} bytes
+     * @param offset the index of the first written byte
+     * @return the number of written bytes
+     */
+    public static int render(final double value, final byte[] buffer, final int offset) {
+        final char[] scratch = SCRATCH.get();
+        
+        return copy(scratch, render(value, scratch, 0), buffer, offset);
+    }
+    
+    /**
+     * Writes a {@code float} as its shortest round-trip decimal in ASCII bytes.
+     * @param value the value to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} bytes
+     * @param offset the index of the first written byte
+     * @return the number of written bytes
+     */
+    public static int render(final float value, final byte[] buffer, final int offset) {
+        final char[] scratch = SCRATCH.get();
+        
+        return copy(scratch, render(value, scratch, 0), buffer, offset);
+    }
+    
+    /**
+     * Appends a {@code long} in decimal notation.
+     * @param value the value to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final long value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * Appends a {@code double} as its shortest round-trip decimal.
+     * @param value the value to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final double value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * Appends a {@code float} as its shortest round-trip decimal.
+     * @param value the value to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final float value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * Appends a {@code long} in decimal notation.
+     * @param value the value to be rendered
+     * @param sink the destination
+     * @throws IOException if the sink fails
+     */
+    public static void render(final long value, final Appendable sink) throws IOException {
+        final char[] scratch = SCRATCH.get();
+        
+        append(scratch, render(value, scratch, 0), sink);
+    }
+    
+    /**
+     * Appends a {@code double} as its shortest round-trip decimal.
+     * @param value the value to be rendered
+     * @param sink the destination
+     * @throws IOException if the sink fails
+     */
+    public static void render(final double value, final Appendable sink) throws IOException {
+        final char[] scratch = SCRATCH.get();
+        
+        append(scratch, render(value, scratch, 0), sink);
+    }
+    
+    /**
+     * Appends a {@code float} as its shortest round-trip decimal.
+     * @param value the value to be rendered
+     * @param sink the destination
+     * @throws IOException if the sink fails
+     */
+    public static void render(final float value, final Appendable sink) throws IOException {
+        final char[] scratch = SCRATCH.get();
+        
+        append(scratch, render(value, scratch, 0), sink);
+    }
+    
+    private static int copy(final char[] source, final int length, final byte[] buffer, final int offset) {
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = (byte) source[i];
+        }
+        
+        return length;
+    }
+    
+    private static void append(final char[] source, final int length, final Appendable sink) throws IOException {
+        for (int i = 0; i < length; i++) {
+            sink.append(source[i]);
+        }
+    }
+    
+    private static int renderSpecial(final double value, final char[] buffer, final int offset) {
+        final String text = Double.isNaN(value) ? "NaN" : Double.toString(value);
+        
+        text.getChars(0, text.length(), buffer, offset);
+        
+        return text.length();
+    }
+    
+    /*
+     * Ryu: finds the shortest decimal in the rounding interval of m2 * 2^e2 and writes it. The interval is 
+     * scaled by 4 so that its bounds are integers, and the lower bound is closer when the value is a power of 
+     * two (lowerBoundaryIsCloser). Rounding is half-even and the bounds are inclusive for even mantissas, as 
+     * in the IEEE 754 round-to-nearest-even parsing.
+     */
+    private static int renderShortest(
+            final boolean negative, 
+            final long m2, 
+            final int exponent, 
+            final boolean lowerBoundaryIsCloser, 
+            final char[] buffer, 
+            final int offset) {
+        final boolean even = (m2 & 1) == 0;
+        final long mv = 4 * m2;
+        final int mmShift = lowerBoundaryIsCloser ? 0 : 1;
+        final int e2 = exponent - 2;
+        long vr;
+        long vp;
+        long vm;
+        final int e10;
+        boolean vmIsTrailingZeros = false;
+        boolean vrIsTrailingZeros = false;
+        
+        if (e2 >= 0) {
+            final int q = Math.max(0, ((e2 * 78913) >>> 18) - 1);
+            final int i = -e2 + q + POW5_INV_BITCOUNT + pow5bits(q) - 1;
+            
+            vr = mulPow5InvDivPow2(mv, q, i);
+            vp = mulPow5InvDivPow2(mv + 2, q, i);
+            vm = mulPow5InvDivPow2(mv - 1 - mmShift, q, i);
+            e10 = q;
+            
+            if (q <= 21) {
+                if (mv % 5 == 0) {
+                    vrIsTrailingZeros = pow5Factor(mv) >= q;
+                } else if (even) {
+                    vmIsTrailingZeros = pow5Factor(mv - 1 - mmShift) >= q;
+                } else {
+                    vp -= pow5Factor(mv + 2) >= q ? 1 : 0;
+                }
+            }
+        } else {
+            final int q = Math.max(0, ((-e2 * 732923) >>> 20) - 1);
+            final int i = -e2 - q;
+            final int j = q - (pow5bits(i) - POW5_BITCOUNT);
+            
+            vr = mulPow5DivPow2(mv, i, j);
+            vp = mulPow5DivPow2(mv + 2, i, j);
+            vm = mulPow5DivPow2(mv - 1 - mmShift, i, j);
+            e10 = q + e2;
+            
+            if (q <= 1) {
+                vrIsTrailingZeros = true;
+                
+                if (even) {
+                    vmIsTrailingZeros = mmShift == 1;
+                } else {
+                    --vp;
+                }
+            } else if (q < 63) {
+                vrIsTrailingZeros = (mv & ((1L << q) - 1)) == 0;
+            }
+        }
+        
+        int removed = 0;
+        int lastRemovedDigit = 0;
+        final long output;
+        
+        if (vmIsTrailingZeros || vrIsTrailingZeros) {
+            while (vp / 10 > vm / 10) {
+                vmIsTrailingZeros &= vm % 10 == 0;
+                vrIsTrailingZeros &= lastRemovedDigit == 0;
+                lastRemovedDigit = (int) (vr % 10);
+                vr /= 10;
+                vp /= 10;
+                vm /= 10;
+                removed++;
+            }
+            
+            if (vmIsTrailingZeros) {
+                while (vm % 10 == 0) {
+                    vrIsTrailingZeros &= lastRemovedDigit == 0;
+                    lastRemovedDigit = (int) (vr % 10);
+                    vr /= 10;
+                    vp /= 10;
+                    vm /= 10;
+                    removed++;
+                }
+            }
+            
+            if (vrIsTrailingZeros && lastRemovedDigit == 5 && vr % 2 == 0) {
+                lastRemovedDigit = 4;
+            }
+            
+            output = vr + ((vr == vm && !vmIsTrailingZeros) || lastRemovedDigit >= 5 ? 1 : 0);
+        } else {
+            while (vp / 10 > vm / 10) {
+                lastRemovedDigit = (int) (vr % 10);
+                vr /= 10;
+                vp /= 10;
+                vm /= 10;
+                removed++;
+            }
+            
+            output = vr + (vr == vm || lastRemovedDigit >= 5 ? 1 : 0);
+        }
+        
+        return layout(negative, output, e10 + removed, buffer, offset);
+    }
+    
+    /*
+     * Writes digits * 10^exponent with the layout of Double.toString.
+     */
+    private static int layout(
+            final boolean negative, final long digits, final int exponent, final char[] buffer, final int offset) {
+        final int length = decimalLength(digits);
+        final int scientificExponent = exponent + length - 1;
+        int index = offset;
+        
+        if (negative) {
+            buffer[index++] = '-';
+        }
+        
+        if (scientificExponent >= 0 && scientificExponent < 7) {
+            index = writeDigits(digits, length, buffer, index, scientificExponent + 1);
+            
+            for (int i = length; i <= scientificExponent; i++) {
+                buffer[index++] = '0';
+            }
+            
+            if (length <= scientificExponent + 1) {
+                buffer[index++] = '.';
+                buffer[index++] = '0';
+            }
+        } else if (scientificExponent < 0 && scientificExponent >= -3) {
+            buffer[index++] = '0';
+            buffer[index++] = '.';
+            
+            for (int i = -1; i > scientificExponent; i--) {
+                buffer[index++] = '0';
+            }
+            
+            index = writeDigits(digits, length, buffer, index, length);
+        } else {
+            index = writeDigits(digits, length, buffer, index, 1);
+            
+            if (length == 1) {
+                buffer[index++] = '.';
+                buffer[index++] = '0';
+            }
+            
+            buffer[index++] = 'E';
+            index += render(scientificExponent, buffer, index);
+        }
+        
+        return index - offset;
+    }
+    
+    /*
+     * Writes the digits, inserting the decimal point after the given number of integer digits when it falls 
+     * inside them.
+     */
+    private static int writeDigits(
+            final long digits, final int length, final char[] buffer, final int offset, final int integerDigits) {
+        final int pointIndex = integerDigits < length ? offset + integerDigits : -1;
+        final int end = offset + length + (pointIndex < 0 ? 0 : 1);
+        long remaining = digits;
+        
+        for (int index = end - 1; index >= offset; index--) {
+            if (index == pointIndex) {
+                buffer[index] = '.';
+            } else {
+                buffer[index] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+        }
+        
+        return end;
+    }
+    
+    private static int pow5bits(final int e) {
+        return ((e * 1217359) >>> 19) + 1;
+    }
+    
+    private static int decimalLength(final long value) {
+        long bound = 10;
+        
+        for (int length = 1; length < 19; length++) {
+            if (value < bound) {
+                return length;
+            }
+            
+            bound *= 10;
+        }
+        
+        return 19;
+    }
+    
+    private static int pow5Factor(final long value) {
+        long remaining = value;
+        int count = 0;
+        
+        while (remaining > 0 && remaining % 5 == 0) {
+            remaining /= 5;
+            count++;
+        }
+        
+        return count;
+    }
+    
+    /*
+     * The high bits of m * 5^i / 2^j, with 5^i taken from its 121-bit approximation split into 31-bit quarters.
+     */
+    private static long mulPow5DivPow2(final long m, final int i, final int j) {
+        return mulShift(m, POW5_SPLIT[i], j);
+    }
+    
+    /*
+     * The high bits of m / 5^i / 2^j, with 1 / 5^i taken from its 122-bit approximation split into 31-bit 
+     * quarters.
+     */
+    private static long mulPow5InvDivPow2(final long m, final int i, final int j) {
+        return mulShift(m, POW5_INV_SPLIT[i], j);
+    }
+    
+    private static long mulShift(final long m, final int[] quarters, final int j) {
+        final long high = m >>> 31;
+        final long low = m & 0x7fffffff;
+        final long bits13 = high * quarters[0];
+        final long bits03 = low * quarters[0];
+        final long bits12 = high * quarters[1];
+        final long bits02 = low * quarters[1];
+        final long bits11 = high * quarters[2];
+        final long bits01 = low * quarters[2];
+        final long bits10 = high * quarters[3];
+        final long bits00 = low * quarters[3];
+        
+        return ((((((((bits00 >>> 31) + bits01 + bits10) >>> 31) 
+                + bits02 + bits11) >>> 31) 
+                + bits03 + bits12) >>> 21) 
+                + (bits13 << 10)) >>> (j - 3 * 31 - 21);
+    }
+}
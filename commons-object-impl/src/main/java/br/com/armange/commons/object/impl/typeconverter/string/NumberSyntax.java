@@ -0,0 +1,244 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+/**
+ * Exception-free checks of the grammars accepted by the JDK number parsers.
+ */
+public final class NumberSyntax {
+    private static final int MAX_EXPONENT_DIGITS = 10;
+    
+    private NumberSyntax() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * @param text any text
+     * @param min the minimum accepted value
+     * @param max the maximum accepted value
+     * @return true if {@link Long#parseLong(String)} accepts the text and its value is within the bounds
+     */
+    public static boolean isInteger(final CharSequence text, final long min, final long max) {
+        if (text == null || text.length() == 0) {
+            return false;
+        }
+        
+        final boolean negative = text.charAt(0) == '-';
+        final int start = negative || text.charAt(0) == '+' ? 1 : 0;
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        
+        if (start == text.length()) {
+            return false;
+        }
+        
+        for (int i = start; i < text.length(); i++) {
+            final int digit = Character.digit(text.charAt(i), 10);
+            
+            if (digit < 0 || result < limit / 10 || result * 10 < limit + digit) {
+                return false;
+            }
+            
+            result = result * 10 - digit;
+        }
+        
+        final long value = negative ? result : -result;
+        
+        return value >= min && value <= max;
+    }
+    
+    /**
+     * @param text any text
+     * @return true if {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)} accept the text
+     */
+    public static boolean isFloatingPoint(final CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        
+        int start = 0;
+        int end = text.length();
+        
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        
+        if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            start++;
+        }
+        
+        if (startsWith(text, "NaN", start) || startsWith(text, "Infinity", start)) {
+            return end - start == (text.charAt(start) == 'N' ? 3 : 8);
+        }
+        
+        if (end > start && isTypeSuffix(text.charAt(end - 1))) {
+            end--;
+        }
+        
+        final boolean hexadecimal = end - start > 1 
+                && text.charAt(start) == '0' 
+                && (text.charAt(start + 1) == 'x' || text.charAt(start + 1) == 'X');
+        final int radix = hexadecimal ? 16 : 10;
+        int index = hexadecimal ? start + 2 : start;
+        int digits = 0;
+        boolean point = false;
+        
+        for (; index < end; index++) {
+            final char current = text.charAt(index);
+            
+            if (isAsciiDigit(current, radix)) {
+                digits++;
+            } else if (current == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        
+        if (digits == 0) {
+            return false;
+        } else if (index == end) {
+            return !hexadecimal;
+        }
+        
+        final char exponent = Character.toLowerCase(text.charAt(index));
+        
+        return exponent == (hexadecimal ? 'p' : 'e') && isAsciiSignedDigits(text, index + 1, end);
+    }
+    
+    /**
+     * @param text any text
+     * @return true if {@link java.math.BigDecimal#BigDecimal(String)} accepts the text
+     */
+    public static boolean isBigDecimal(final CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        
+        final int end = text.length();
+        int index = end > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean point = false;
+        
+        for (; index < end; index++) {
+            final char current = text.charAt(index);
+            
+            if (Character.isDigit(current)) {
+                digits++;
+                fractionDigits += point ? 1 : 0;
+            } else if (current == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        
+        if (digits == 0) {
+            return false;
+        } else if (index == end) {
+            return true;
+        } else if (text.charAt(index) != 'e' && text.charAt(index) != 'E') {
+            return false;
+        }
+        
+        return isScale(text, index + 1, fractionDigits);
+    }
+    
+    /*
+     * The exponent of a BigDecimal allows any Unicode digit and at most ten significant digits, and both the 
+     * exponent and the resulting scale must fit an int.
+     */
+    private static boolean isScale(final CharSequence text, final int offset, final int fractionDigits) {
+        final int end = text.length();
+        final boolean negative = offset < end && text.charAt(offset) == '-';
+        int index = offset < end && (negative || text.charAt(offset) == '+') ? offset + 1 : offset;
+        
+        if (index == end) {
+            return false;
+        }
+        
+        while (end - index > MAX_EXPONENT_DIGITS && Character.digit(text.charAt(index), 10) == 0) {
+            index++;
+        }
+        
+        if (end - index > MAX_EXPONENT_DIGITS) {
+            return false;
+        }
+        
+        long exponent = 0;
+        
+        for (; index < end; index++) {
+            final int digit = Character.digit(text.charAt(index), 10);
+            
+            if (digit < 0) {
+                return false;
+            }
+            
+            exponent = exponent * 10 + digit;
+        }
+        
+        final long signedExponent = negative ? -exponent : exponent;
+        final long scale = fractionDigits - signedExponent;
+        
+        return (int) signedExponent == signedExponent && (int) scale == scale;
+    }
+    
+    private static boolean isAsciiSignedDigits(final CharSequence text, final int offset, final int end) {
+        final int start = offset < end && (text.charAt(offset) == '-' || text.charAt(offset) == '+') 
+                ? offset + 1 
+                : offset;
+        
+        if (start == end) {
+            return false;
+        }
+        
+        for (int index = start; index < end; index++) {
+            if (!isAsciiDigit(text.charAt(index), 10)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static boolean startsWith(final CharSequence text, final String prefix, final int offset) {
+        if (text.length() - offset < prefix.length()) {
+            return false;
+        }
+        
+        for (int index = 0; index < prefix.length(); index++) {
+            if (text.charAt(offset + index) != prefix.charAt(index)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static boolean isAsciiDigit(final char character, final int radix) {
+        return (character >= '0' && character <= '9') 
+                || (radix == 16 && ((character >= 'a' && character <= 'f') || (character >= 'A' && character <= 'F')));
+    }
+    
+    private static boolean isTypeSuffix(final char character) {
+        return character == 'f' || character == 'F' || character == 'd' || character == 'D';
+    }
+}
@@ -15,20 +15,36 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToIntegerConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class SrtingToIntegerConverterImpl implements StringToIntegerConverter {
 
+    private static final Function<String, Integer> CONVERSION = ConversionMatrix.of(String.class, Integer.class);
+
     private Integer result;
     
     @Override
     public TypeConverter<String, Integer> from(final String sourceObject) {
-        result = sourceObject != null ? new Integer(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<Integer> targetClass, final ConversionResult<Integer> result) {
+        if (sourceObject != null && !NumberSyntax.isInteger(sourceObject, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public Integer to(final Class<Integer> targetClass) {
         return result;
@@ -16,21 +16,36 @@
 package br.com.armange.commons.object.impl.typeconverter.string;
 
 import java.math.BigDecimal;
+import java.util.function.Function;
 
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToBigDecimalConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToBigDecimalConverterImpl implements StringToBigDecimalConverter {
 
+    private static final Function<String, BigDecimal> CONVERSION = ConversionMatrix.of(String.class, BigDecimal.class);
+
     private BigDecimal result;
     
     @Override
     public TypeConverter<String, BigDecimal> from(final String sourceObject) {
-        result = sourceObject != null ? new BigDecimal(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<BigDecimal> targetClass, final ConversionResult<BigDecimal> result) {
+        if (sourceObject != null && !NumberSyntax.isBigDecimal(sourceObject)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public BigDecimal to(final Class<BigDecimal> targetClass) {
         return result;
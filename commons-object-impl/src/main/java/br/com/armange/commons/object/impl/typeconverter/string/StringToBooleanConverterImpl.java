@@ -15,16 +15,21 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToBooleanConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToBooleanConverterImpl implements StringToBooleanConverter {
 
+    private static final Function<String, Boolean> CONVERSION = ConversionMatrix.of(String.class, Boolean.class);
+
     private Boolean result;
     
     @Override
     public TypeConverter<String, Boolean> from(final String sourceObject) {
-        result = sourceObject != null ? Boolean.valueOf(sourceObject) : null; 
+        result = CONVERSION.apply(sourceObject); 
         
         return this; 
     }
@@ -15,20 +15,36 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToByteConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToByteConverterImpl implements StringToByteConverter {
 
+    private static final Function<String, Byte> CONVERSION = ConversionMatrix.of(String.class, Byte.class);
+
     private Byte result;
     
     @Override
     public TypeConverter<String, Byte> from(final String sourceObject) {
-        result = sourceObject != null ? new Byte(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<Byte> targetClass, final ConversionResult<Byte> result) {
+        if (sourceObject != null && !NumberSyntax.isInteger(sourceObject, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public Byte to(final Class<Byte> targetClass) {
         return result;
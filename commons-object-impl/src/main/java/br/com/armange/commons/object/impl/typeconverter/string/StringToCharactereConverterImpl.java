@@ -15,24 +15,25 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToCharactereConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToCharactereConverterImpl implements StringToCharactereConverter {
 
+    private static final Function<String, Character> CONVERSION = ConversionMatrix.of(String.class, Character.class);
+
     private Character result;
     
     @Override
     public TypeConverter<String, Character> from(final String sourceObject) {
-        result = sourceObject != null ? toChar(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
-    private char toChar(final String sourceObject) {
-        return sourceObject.isEmpty() ? Character.MIN_VALUE : sourceObject.charAt(0);
-    }
-
     @Override
     public Character to(final Class<Character> targetClass) {
         return result;
@@ -15,20 +15,36 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToDoubleConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToDoubleConverterImpl implements StringToDoubleConverter {
 
+    private static final Function<String, Double> CONVERSION = ConversionMatrix.of(String.class, Double.class);
+
     private Double result;
     
     @Override
     public TypeConverter<String, Double> from(final String sourceObject) {
-        result = sourceObject != null ? new Double(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<Double> targetClass, final ConversionResult<Double> result) {
+        if (sourceObject != null && !NumberSyntax.isFloatingPoint(sourceObject)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public Double to(final Class<Double> targetClass) {
         return result;
@@ -15,20 +15,36 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToFloatConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToFloatConverterImpl implements StringToFloatConverter {
 
+    private static final Function<String, Float> CONVERSION = ConversionMatrix.of(String.class, Float.class);
+
     private Float result;
     
     @Override
     public TypeConverter<String, Float> from(final String sourceObject) {
-        result = sourceObject != null ? new Float(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<Float> targetClass, final ConversionResult<Float> result) {
+        if (sourceObject != null && !NumberSyntax.isFloatingPoint(sourceObject)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public Float to(final Class<Float> targetClass) {
         return result;
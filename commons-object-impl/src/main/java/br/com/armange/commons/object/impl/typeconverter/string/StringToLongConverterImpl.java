@@ -15,20 +15,36 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToLongConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToLongConverterImpl implements StringToLongConverter {
 
+    private static final Function<String, Long> CONVERSION = ConversionMatrix.of(String.class, Long.class);
+
     private Long result;
     
     @Override
     public TypeConverter<String, Long> from(final String sourceObject) {
-        result = sourceObject != null ? new Long(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<Long> targetClass, final ConversionResult<Long> result) {
+        if (sourceObject != null && !NumberSyntax.isInteger(sourceObject, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public Long to(final Class<Long> targetClass) {
         return result;
@@ -15,20 +15,36 @@
  * */
 package br.com.armange.commons.object.impl.typeconverter.string;
 
+import java.util.function.Function;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
 import br.com.armange.commons.object.api.typeconverter.TypeConverter;
 import br.com.armange.commons.object.api.typeconverter.string.StringToShortConverter;
+import br.com.armange.commons.object.impl.typeconverter.ConversionMatrix;
 
 public class StringToShortConverterImpl implements StringToShortConverter {
 
+    private static final Function<String, Short> CONVERSION = ConversionMatrix.of(String.class, Short.class);
+
     private Short result;
     
     @Override
     public TypeConverter<String, Short> from(final String sourceObject) {
-        result = sourceObject != null ? new Short(sourceObject) : null;
+        result = CONVERSION.apply(sourceObject);
         
         return this; 
     }
 
+    @Override
+    public boolean tryConvert(
+            final String sourceObject, final Class<Short> targetClass, final ConversionResult<Short> result) {
+        if (sourceObject != null && !NumberSyntax.isInteger(sourceObject, Short.MIN_VALUE, Short.MAX_VALUE)) {
+            return result.fail(sourceObject);
+        }
+        
+        return result.succeed(from(sourceObject).to(targetClass));
+    }
+
     @Override
     public Short to(final Class<Short> targetClass) {
         return result;
@@ -0,0 +1,281 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Parsing of ISO-8601 dates and times from ranges of characters.
+ */
+public final class TimeParser {
+    static final int SECONDS_PER_DAY = 86_400;
+    static final int DAYS_PER_CYCLE = 146_097;
+    static final int DAYS_0000_TO_1970 = 719_468;
+    
+    private static final int DATE_LENGTH = 10;
+    private static final int MINUTE_TIME_LENGTH = 5;
+    private static final int SECOND_TIME_LENGTH = 8;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int OFFSET_LENGTH = 6;
+    private static final int MAX_OFFSET_HOURS = 18;
+    private static final int NOT_PARSED = -1;
+    private static final int[] NANO_SCALES = {
+        0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+    
+    private TimeParser() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Parses a local date, such as {@code 2019-05-31}, from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed date
+     * @throws java.time.format.DateTimeParseException if the range is not an ISO local date
+     */
+    public static LocalDate parseLocalDate(final CharSequence source, final int offset, final int length) {
+        checkRange(source.length(), offset, length);
+        
+        final int date = length == DATE_LENGTH ? parseDate(source, offset) : NOT_PARSED;
+        
+        return date != NOT_PARSED 
+                ? LocalDate.of(yearOf(date), monthOf(date), dayOf(date)) 
+                : LocalDate.parse(source.subSequence(offset, offset + length));
+    }
+    
+    /**
+     * Parses a local date-time, such as {@code 2019-05-31T10:15:30}, from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the range is not an ISO local date-time
+     */
+    public static LocalDateTime parseLocalDateTime(final CharSequence source, final int offset, final int length) {
+        checkRange(source.length(), offset, length);
+        
+        final int date = parseDateAndSeparator(source, offset, length);
+        final long time = date != NOT_PARSED ? parseTime(source, offset + DATE_LENGTH + 1, offset + length, false) : -1;
+        
+        return time >= 0 
+                ? LocalDateTime.of(LocalDate.of(yearOf(date), monthOf(date), dayOf(date)), 
+                        LocalTime.ofNanoOfDay(time))
+                : LocalDateTime.parse(source.subSequence(offset, offset + length));
+    }
+    
+    /**
+     * Parses an offset date-time, such as {@code 2019-05-31T10:15:30-03:00}, from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the range is not an ISO offset date-time
+     */
+    public static OffsetDateTime parseOffsetDateTime(final CharSequence source, final int offset, final int length) {
+        checkRange(source.length(), offset, length);
+        
+        final int end = offset + length;
+        final int zoneSeconds = parseOffset(source, offset, end);
+        final int timeEnd = end - (zoneSeconds == 0 && source.charAt(end - 1) == 'Z' ? 1 : OFFSET_LENGTH);
+        final int date = zoneSeconds != Integer.MIN_VALUE ? parseDateAndSeparator(source, offset, length) : NOT_PARSED;
+        final long time = date != NOT_PARSED ? parseTime(source, offset + DATE_LENGTH + 1, timeEnd, false) : -1;
+        
+        return time >= 0 
+                ? OffsetDateTime.of(
+                        LocalDate.of(yearOf(date), monthOf(date), dayOf(date)), 
+                        LocalTime.ofNanoOfDay(time), 
+                        ZoneOffset.ofTotalSeconds(zoneSeconds))
+                : OffsetDateTime.parse(source.subSequence(offset, end));
+    }
+    
+    /**
+     * Parses an instant, such as {@code 2019-05-31T13:15:30Z}, from a range of characters.
+     * @param source the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the parsed instant
+     * @throws java.time.format.DateTimeParseException if the range is not an ISO instant
+     */
+    public static Instant parseInstant(final CharSequence source, final int offset, final int length) {
+        checkRange(source.length(), offset, length);
+        
+        final int end = offset + length;
+        final int date = length > 0 && source.charAt(end - 1) == 'Z' 
+                ? parseDateAndSeparator(source, offset, length) 
+                : NOT_PARSED;
+        final long time = date != NOT_PARSED ? parseTime(source, offset + DATE_LENGTH + 1, end - 1, true) : -1;
+        
+        if (time < 0) {
+            return Instant.parse(source.subSequence(offset, end));
+        }
+        
+        final long epochDay = epochDay(yearOf(date), monthOf(date), dayOf(date));
+        
+        return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + time / 1_000_000_000L, time % 1_000_000_000L);
+    }
+    
+    /*
+     * Days since 1970-01-01 of a proleptic Gregorian date (Howard Hinnant, "chrono-Compatible Low-Level Date 
+     * Algorithms").
+     */
+    private static long epochDay(final int year, final int month, final int day) {
+        final int shiftedYear = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(shiftedYear, 400);
+        final int yearOfEra = shiftedYear - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        
+        return (long) era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+    
+    private static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+    
+    /*
+     * A parsed date is packed as the year (bits 9 and up), the month (bits 5-8) and the day (bits 0-4).
+     */
+    private static int parseDate(final CharSequence source, final int offset) {
+        final int high = digits(source, offset);
+        final int low = digits(source, offset + 2);
+        final int month = digits(source, offset + 5);
+        final int day = digits(source, offset + 8);
+        
+        if (high < 0 || low < 0 || month < 1 || month > 12 || day < 1 
+                || source.charAt(offset + 4) != '-' || source.charAt(offset + 7) != '-') {
+            return NOT_PARSED;
+        }
+        
+        final int year = high * 100 + low;
+        
+        return day <= lengthOfMonth(year, month) ? year << 9 | month << 5 | day : NOT_PARSED;
+    }
+    
+    private static int parseDateAndSeparator(final CharSequence source, final int offset, final int length) {
+        return length > DATE_LENGTH + MINUTE_TIME_LENGTH && source.charAt(offset + DATE_LENGTH) == 'T' 
+                ? parseDate(source, offset) 
+                : NOT_PARSED;
+    }
+    
+    /*
+     * The nano of day of HH:mm[:ss[.fffffffff]], or -1 if the range is not in this layout.
+     */
+    private static long parseTime(final CharSequence source, final int offset, final int end, final boolean seconds) {
+        final int length = end - offset;
+        
+        if (length < (seconds ? SECOND_TIME_LENGTH : MINUTE_TIME_LENGTH) 
+                || (length > MINUTE_TIME_LENGTH && length < SECOND_TIME_LENGTH) 
+                || length == SECOND_TIME_LENGTH + 1 
+                || length > SECOND_TIME_LENGTH + 1 + MAX_FRACTION_DIGITS) {
+            return -1;
+        }
+        
+        final int hour = digits(source, offset);
+        final int minute = digits(source, offset + 3);
+        final int second = length > MINUTE_TIME_LENGTH ? digits(source, offset + 6) : 0;
+        
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 
+                || source.charAt(offset + 2) != ':' 
+                || (length > MINUTE_TIME_LENGTH && source.charAt(offset + 5) != ':') 
+                || (length > SECOND_TIME_LENGTH && source.charAt(offset + SECOND_TIME_LENGTH) != '.')) {
+            return -1;
+        }
+        
+        int fraction = 0;
+        
+        for (int i = offset + SECOND_TIME_LENGTH + 1; i < end; i++) {
+            final int digit = source.charAt(i) - '0';
+            
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            
+            fraction = fraction * 10 + digit;
+        }
+        
+        final int fractionDigits = Math.max(0, length - SECOND_TIME_LENGTH - 1);
+        
+        return ((hour * 60L + minute) * 60 + second) * 1_000_000_000L + (long) fraction * NANO_SCALES[fractionDigits];
+    }
+    
+    /*
+     * The total seconds of a trailing Z or +HH:MM or -HH:MM, or Integer.MIN_VALUE if the range does not end with 
+     * either.
+     */
+    private static int parseOffset(final CharSequence source, final int offset, final int end) {
+        if (end - offset > 0 && source.charAt(end - 1) == 'Z') {
+            return 0;
+        } else if (end - offset < OFFSET_LENGTH) {
+            return Integer.MIN_VALUE;
+        }
+        
+        final int start = end - OFFSET_LENGTH;
+        final char sign = source.charAt(start);
+        final int hours = digits(source, start + 1);
+        final int minutes = digits(source, start + 4);
+        
+        if ((sign != '+' && sign != '-') || source.charAt(start + 3) != ':' 
+                || hours < 0 || hours > MAX_OFFSET_HOURS || minutes < 0 || minutes > 59 
+                || (hours == MAX_OFFSET_HOURS && minutes > 0)) {
+            return Integer.MIN_VALUE;
+        }
+        
+        final int result = hours * 3600 + minutes * 60;
+        
+        return sign == '-' ? -result : result;
+    }
+    
+    private static int digits(final CharSequence source, final int offset) {
+        final int high = source.charAt(offset) - '0';
+        final int low = source.charAt(offset + 1) - '0';
+        
+        return high >= 0 && high <= 9 && low >= 0 && low <= 9 ? high * 10 + low : -1;
+    }
+    
+    private static int lengthOfMonth(final int year, final int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+    
+    private static int yearOf(final int date) {
+        return date >>> 9;
+    }
+    
+    private static int monthOf(final int date) {
+        return date >>> 5 & 0xF;
+    }
+    
+    private static int dayOf(final int date) {
+        return date & 0x1F;
+    }
+    
+    private static void checkRange(final int sourceLength, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > sourceLength - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + sourceLength);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright [2019] [Diego Armange Costa]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * */
+package br.com.armange.commons.object.impl.typeconverter.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Rendering of ISO-8601 dates and times straight into a caller-provided sink.
+ */
+public final class TimeRenderer {
+    /**
+     * The maximum number of characters written for any value.
+     */
+    public static final int MAX_LENGTH = 44;
+    
+    private static final int MAX_YEAR = 9999;
+    private static final long MIN_FAST_EPOCH_SECOND = -62_167_219_200L;
+    private static final long MAX_FAST_EPOCH_SECOND = 253_402_300_799L;
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+    
+    private TimeRenderer() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * @param value the date to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first character to be written
+     * @return the number of characters written
+     */
+    public static int render(final LocalDate value, final char[] buffer, final int offset) {
+        if (value.getYear() < 0 || value.getYear() > MAX_YEAR) {
+            return copy(value.toString(), buffer, offset);
+        }
+        
+        return writeDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), buffer, offset) - offset;
+    }
+    
+    /**
+     * @param value the date-time to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first character to be written
+     * @return the number of characters written
+     */
+    public static int render(final LocalDateTime value, final char[] buffer, final int offset) {
+        if (value.getYear() < 0 || value.getYear() > MAX_YEAR) {
+            return copy(value.toString(), buffer, offset);
+        }
+        
+        return writeDateTime(value, buffer, offset) - offset;
+    }
+    
+    /**
+     * @param value the date-time to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first character to be written
+     * @return the number of characters written
+     */
+    public static int render(final OffsetDateTime value, final char[] buffer, final int offset) {
+        if (value.getYear() < 0 || value.getYear() > MAX_YEAR) {
+            return copy(value.toString(), buffer, offset);
+        }
+        
+        final int position = writeDateTime(value.toLocalDateTime(), buffer, offset);
+        final String zone = value.getOffset().getId();
+        
+        zone.getChars(0, zone.length(), buffer, position);
+        
+        return position + zone.length() - offset;
+    }
+    
+    /**
+     * @param value the instant to be rendered
+     * @param buffer the destination, which needs room for up to {@link #MAX_LENGTH} characters
+     * @param offset the index of the first character to be written
+     * @return the number of characters written
+     */
+    public static int render(final Instant value, final char[] buffer, final int offset) {
+        final long epochSecond = value.getEpochSecond();
+        
+        if (epochSecond < MIN_FAST_EPOCH_SECOND || epochSecond > MAX_FAST_EPOCH_SECOND) {
+            return copy(value.toString(), buffer, offset);
+        }
+        
+        final long epochDay = Math.floorDiv(epochSecond, TimeParser.SECONDS_PER_DAY);
+        final int secondOfDay = Math.floorMod(epochSecond, TimeParser.SECONDS_PER_DAY);
+        final int date = civilDate(epochDay);
+        int position = writeDate(date >> 9, date >>> 5 & 0xF, date & 0x1F, buffer, offset);
+        
+        buffer[position++] = 'T';
+        position = writeTime(
+                secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, value.getNano(), true, buffer, position);
+        buffer[position++] = 'Z';
+        
+        return position - offset;
+    }
+    
+    /**
+     * @param value the date to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final LocalDate value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the date-time to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final LocalDateTime value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the date-time to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final OffsetDateTime value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the instant to be rendered
+     * @param sink the destination
+     * @return the given sink
+     */
+    public static StringBuilder render(final Instant value, final StringBuilder sink) {
+        final char[] scratch = SCRATCH.get();
+        
+        return sink.append(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the date to be rendered
+     * @return the same text as {@link LocalDate#toString()}
+     */
+    public static String format(final LocalDate value) {
+        final char[] scratch = SCRATCH.get();
+        
+        return new String(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the date-time to be rendered
+     * @return the same text as {@link LocalDateTime#toString()}
+     */
+    public static String format(final LocalDateTime value) {
+        final char[] scratch = SCRATCH.get();
+        
+        return new String(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the date-time to be rendered
+     * @return the same text as {@link OffsetDateTime#toString()}
+     */
+    public static String format(final OffsetDateTime value) {
+        final char[] scratch = SCRATCH.get();
+        
+        return new String(scratch, 0, render(value, scratch, 0));
+    }
+    
+    /**
+     * @param value the instant to be rendered
+     * @return the same text as {@link Instant#toString()}
+     */
+    public static String format(final Instant value) {
+        final char[] scratch = SCRATCH.get();
+        
+        return new String(scratch, 0, render(value, scratch, 0));
+    }
+    
+    private static int writeDateTime(final LocalDateTime value, final char[] buffer, final int offset) {
+        int position = writeDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), buffer, offset);
+        
+        buffer[position++] = 'T';
+        
+        return writeTime(
+                value.getHour(), value.getMinute(), value.getSecond(), value.getNano(), false, buffer, position);
+    }
+    
+    private static int writeDate(
+            final int year, final int month, final int day, final char[] buffer, final int offset) {
+        int position = writeDigits(year / 100, buffer, offset);
+        
+        position = writeDigits(year % 100, buffer, position);
+        buffer[position++] = '-';
+        position = writeDigits(month, buffer, position);
+        buffer[position++] = '-';
+        
+        return writeDigits(day, buffer, position);
+    }
+    
+    /*
+     * Seconds and fractions are omitted when zero, unless the seconds are mandatory as in an instant.
+     */
+    private static int writeTime(
+            final int hour, final int minute, final int second, final int nano, final boolean mandatorySeconds, 
+            final char[] buffer, final int offset) {
+        int position = writeDigits(hour, buffer, offset);
+        
+        buffer[position++] = ':';
+        position = writeDigits(minute, buffer, position);
+        
+        if (second == 0 && nano == 0 && !mandatorySeconds) {
+            return position;
+        }
+        
+        buffer[position++] = ':';
+        position = writeDigits(second, buffer, position);
+        
+        if (nano == 0) {
+            return position;
+        }
+        
+        final int digits = nano % 1_000_000 == 0 ? 3 : nano % 1_000 == 0 ? 6 : 9;
+        int remaining = nano;
+        
+        buffer[position++] = '.';
+        
+        for (int divisor = 100_000_000, i = 0; i < digits; i++, divisor /= 10) {
+            buffer[position++] = (char) ('0' + remaining / divisor);
+            remaining %= divisor;
+        }
+        
+        return position;
+    }
+    
+    private static int writeDigits(final int value, final char[] buffer, final int offset) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+        
+        return offset + 2;
+    }
+    
+    /*
+     * The packed date of the days since 1970-01-01, in the layout of TimeParser (Howard Hinnant, 
+     * "chrono-Compatible Low-Level Date Algorithms").
+     */
+    private static int civilDate(final long epochDay) {
+        final long shifted = epochDay + TimeParser.DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(shifted, TimeParser.DAYS_PER_CYCLE);
+        final int dayOfEra = (int) (shifted - era * TimeParser.DAYS_PER_CYCLE);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+        
+        return year << 9 | month << 5 | day;
+    }
+    
+    private static int copy(final String text, final char[] buffer, final int offset) {
+        text.getChars(0, text.length(), buffer, offset);
+        
+        return text.length();
+    }
+}
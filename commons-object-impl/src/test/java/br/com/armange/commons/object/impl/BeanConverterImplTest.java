@@ -1,20 +1,42 @@
 package br.com.armange.commons.object.impl;
 
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
+import br.com.armange.commons.object.api.typeconverter.bean.BeanConverterMode;
+import br.com.armange.commons.object.api.typeconverter.bean.ConversionErrorPolicy;
 import br.com.armange.commons.object.impl.artifact.BeanArtifact;
+import br.com.armange.commons.object.impl.artifact.BeanViewArtifact;
+import br.com.armange.commons.object.impl.artifact.CollectionSourceArtifact;
+import br.com.armange.commons.object.impl.artifact.CollectionTargetArtifact;
+import br.com.armange.commons.object.impl.artifact.CommandViewArtifact;
 import br.com.armange.commons.object.impl.artifact.ConvertibleBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.ImmutableBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.LooseRecordArtifact;
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.TextBeanArtifact;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
 import br.com.armange.commons.object.impl.typeconverter.bean.BeanConverterImpl;
+import br.com.armange.commons.object.impl.typeconverter.bean.IncrementalConversion;
+import br.com.armange.commons.object.impl.typeconverter.bean.Projection;
+import br.com.armange.commons.object.impl.typeconverter.bean.SameFieldNameStrategyConverter;
 
 public class BeanConverterImplTest {
 
@@ -128,4 +150,380 @@ public class BeanConverterImplTest {
                         hasProperty(BIG_DECIMAL, nullValue()),
                         not(hasProperty(BIG_CODE))));
     }
+    
+    @Test
+    public void constructorInjectionConversion() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, ImmutableBeanArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        final String name = "Teste";
+        
+        sourceObject.setName(name);
+        sourceObject.setCode(1);
+        sourceObject.setLongCode(2);
+        converter.setMode(BeanConverterMode.CONSTRUCTOR_INJECTION);
+        
+        final ImmutableBeanArtifact targetObject = converter
+            .from(sourceObject)
+            .to(ImmutableBeanArtifact.class);
+        
+        assertThat(targetObject, 
+                allOf(
+                        hasProperty(NAME, is(name)),
+                        hasProperty(CODE, is(1L)),
+                        hasProperty(LONG_CODE, is(2L))));
+    }
+    
+    @Test
+    public void constructorInjectionConversionWithMissingSourceFields() {
+        final BeanConverterImpl<BeanArtifact, ImmutableBeanArtifact> converter = new BeanConverterImpl<>();
+        final BeanArtifact sourceObject = new BeanArtifact();
+        
+        converter.setMode(BeanConverterMode.CONSTRUCTOR_INJECTION);
+        
+        final ImmutableBeanArtifact targetObject = converter
+            .from(sourceObject)
+            .to(ImmutableBeanArtifact.class);
+        
+        assertThat(targetObject, 
+                allOf(
+                        hasProperty(NAME, nullValue()),
+                        hasProperty(CODE, nullValue()),
+                        hasProperty(LONG_CODE, is(0L))));
+    }
+    
+    @Test
+    public void lazyConversionMemoizesTheFirstRead() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanViewArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        final String name = "Teste";
+        
+        sourceObject.setName(name);
+        sourceObject.setCode(1);
+        converter.setMode(BeanConverterMode.LAZY);
+        
+        final BeanViewArtifact targetObject = converter
+            .from(sourceObject)
+            .to(BeanViewArtifact.class);
+        
+        assertThat(targetObject.getName(), is(name));
+        
+        sourceObject.setName("Other");
+        sourceObject.setCode(2);
+        
+        assertThat(targetObject.getName(), is(name));
+        assertThat(targetObject.getCode(), is(2L));
+        assertThat(targetObject.getLongCode(), is(0L));
+    }
+    
+    @Test
+    public void lazyConversionSetterReplacesTheValue() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanViewArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        
+        sourceObject.setName("Teste");
+        converter.setMode(BeanConverterMode.LAZY);
+        
+        final BeanViewArtifact targetObject = converter
+            .from(sourceObject)
+            .to(BeanViewArtifact.class);
+        
+        targetObject.setName("Other");
+        
+        assertThat(targetObject.getName(), is("Other"));
+        assertThat(targetObject.getLabel(), is("Other#0"));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void lazyConversionRejectsMethodsOtherThanAccessors() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, CommandViewArtifact> converter = new BeanConverterImpl<>();
+        
+        converter.setMode(BeanConverterMode.LAZY);
+        converter
+            .from(new ConvertibleBeanArtifact())
+            .to(CommandViewArtifact.class);
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void lazyConversionRequiresAnInterface() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        
+        converter.setMode(BeanConverterMode.LAZY);
+        converter
+            .from(new ConvertibleBeanArtifact())
+            .to(BeanArtifact.class);
+    }
+    
+    @Test
+    public void projectedConversionByFieldNames() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        final String name = "Teste";
+        
+        sourceObject.setName(name);
+        sourceObject.setCode(1);
+        sourceObject.setLongCode(2);
+        converter.setProjection(NAME, LONG_CODE);
+        
+        final BeanArtifact targetObject = converter
+            .from(sourceObject)
+            .to(BeanArtifact.class);
+        
+        assertThat(targetObject, 
+                allOf(
+                        hasProperty(NAME, is(name)),
+                        hasProperty(CODE, nullValue()),
+                        hasProperty(LONG_CODE, is(2L))));
+    }
+    
+    @Test
+    public void projectedConversionByReusableProjection() {
+        final Projection projection = Projection.of(ConvertibleBeanArtifact.class, BeanArtifact.class, CODE);
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        
+        sourceObject.setName("Teste");
+        sourceObject.setCode(1);
+        converter.setProjection(projection);
+        
+        final BeanArtifact targetObject = converter
+            .from(sourceObject)
+            .to(BeanArtifact.class);
+        
+        assertThat(targetObject, 
+                allOf(
+                        hasProperty(NAME, nullValue()),
+                        hasProperty(CODE, is(1))));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void projectionOfUnknownField() {
+        Projection.of(ConvertibleBeanArtifact.class, BeanArtifact.class, BIG_CODE);
+    }
+    
+    @Test
+    public void incrementalConversionReusesTheTarget() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        
+        sourceObject.setName("Teste");
+        converter.setMode(BeanConverterMode.INCREMENTAL);
+        
+        final BeanArtifact firstTarget = converter.from(sourceObject).to(BeanArtifact.class);
+        
+        sourceObject.setName("Other");
+        
+        final BeanArtifact secondTarget = converter.from(sourceObject).to(BeanArtifact.class);
+        
+        assertThat(secondTarget, sameInstance(firstTarget));
+        assertThat(secondTarget, hasProperty(NAME, is("Other")));
+    }
+    
+    @Test
+    public void incrementalConversionOnlyRefreshesChangedFields() {
+        final ConvertibleBeanArtifact sourceObject = new ConvertibleBeanArtifact();
+        
+        sourceObject.setName("Teste");
+        sourceObject.setCode(1);
+        
+        final IncrementalConversion<BeanArtifact> conversion = IncrementalConversion.of(sourceObject, BeanArtifact.class);
+        
+        assertThat(conversion.refresh(), is(0));
+        
+        sourceObject.setCode(2);
+        
+        assertThat(conversion.refresh(), is(1));
+        assertThat(conversion.getTarget(), 
+                allOf(
+                        hasProperty(NAME, is("Teste")),
+                        hasProperty(CODE, is(2))));
+    }
+    
+    @Test
+    public void incrementalConversionDetectsArraysChangedInPlace() {
+        final ArrayHolder sourceObject = new ArrayHolder();
+        
+        sourceObject.codes = new int[] {1, 2};
+        
+        final IncrementalConversion<ArrayHolder> conversion = IncrementalConversion.of(sourceObject, ArrayHolder.class);
+        
+        assertThat(conversion.refresh(), is(0));
+        
+        sourceObject.codes[1] = 3;
+        
+        assertThat(conversion.refresh(), is(1));
+        assertThat(conversion.refresh(), is(0));
+    }
+    
+    @Test
+    public void incrementalConversionTracksEverySource() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact firstSource = new ConvertibleBeanArtifact();
+        final ConvertibleBeanArtifact secondSource = new ConvertibleBeanArtifact();
+        
+        firstSource.setName("First");
+        secondSource.setName("Second");
+        converter.setMode(BeanConverterMode.INCREMENTAL);
+        
+        final BeanArtifact firstTarget = converter.from(firstSource).to(BeanArtifact.class);
+        final BeanArtifact secondTarget = converter.from(secondSource).to(BeanArtifact.class);
+        
+        assertThat(converter.from(firstSource).to(BeanArtifact.class), sameInstance(firstTarget));
+        assertThat(converter.from(secondSource).to(BeanArtifact.class), sameInstance(secondTarget));
+        assertThat(firstTarget, hasProperty(NAME, is("First")));
+        assertThat(secondTarget, hasProperty(NAME, is("Second")));
+    }
+    
+    @Test
+    public void untrackedSourcesAreConvertedIntoNewTargets() {
+        final BeanConverterImpl<ConvertibleBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final ConvertibleBeanArtifact firstSource = new ConvertibleBeanArtifact();
+        final ConvertibleBeanArtifact secondSource = new ConvertibleBeanArtifact();
+        
+        converter.setMode(BeanConverterMode.INCREMENTAL);
+        
+        final BeanArtifact firstTarget = converter.from(firstSource).to(BeanArtifact.class);
+        final BeanArtifact secondTarget = converter.from(secondSource).to(BeanArtifact.class);
+        
+        assertTrue(converter.untrack(firstSource));
+        assertFalse(converter.untrack(firstSource));
+        assertThat(converter.from(firstSource).to(BeanArtifact.class), not(sameInstance(firstTarget)));
+        assertThat(converter.from(secondSource).to(BeanArtifact.class), sameInstance(secondTarget));
+        
+        converter.untrackAll();
+        
+        assertThat(converter.from(secondSource).to(BeanArtifact.class), not(sameInstance(secondTarget)));
+    }
+    
+    @Test
+    public void incrementalConversionFollowsTheErrorPolicy() {
+        final BeanConverterImpl<TextBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final TextBeanArtifact sourceObject = newTextBean("abc");
+        
+        converter.setMode(BeanConverterMode.INCREMENTAL);
+        converter.setErrorPolicy(ConversionErrorPolicy.COLLECT);
+        
+        final BeanArtifact targetObject = converter.from(sourceObject).to(BeanArtifact.class);
+        
+        assertThat(targetObject, hasProperty(LONG_CODE, is(7L)));
+        assertThat(converter.getConversionErrors(), hasSize(1));
+        
+        sourceObject.setCode("1");
+        
+        assertThat(converter.from(sourceObject).to(BeanArtifact.class), sameInstance(targetObject));
+        assertThat(converter.getConversionErrors(), hasSize(0));
+        assertThat(targetObject, hasProperty(CODE, is(1)));
+    }
+    
+    @Test
+    public void collectionFieldConversion() {
+        final BeanConverterImpl<CollectionSourceArtifact, CollectionTargetArtifact> converter = new BeanConverterImpl<>();
+        final CollectionSourceArtifact sourceObject = new CollectionSourceArtifact();
+        final ConvertibleBeanArtifact item = new ConvertibleBeanArtifact();
+        
+        item.setName("Teste");
+        sourceObject.setCodes(Arrays.asList(1, 2, 2));
+        sourceObject.setAmounts(Collections.singletonMap("a", 3));
+        sourceObject.setItems(Collections.singletonList(item));
+        
+        final CollectionTargetArtifact targetObject = converter
+            .from(sourceObject)
+            .to(CollectionTargetArtifact.class);
+        
+        assertThat(targetObject.getCodes(), allOf(hasSize(2), hasItem(1L), hasItem(2L)));
+        assertThat(targetObject.getAmounts().get("a"), is(3L));
+        assertThat(targetObject.getItems(), hasSize(1));
+        assertThat(targetObject.getItems().get(0), hasProperty(NAME, is("Teste")));
+    }
+    
+    @Test(expected = NumberFormatException.class)
+    public void invalidFieldValueFailsByDefault() {
+        final BeanConverterImpl<TextBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        
+        converter.from(newTextBean("abc")).to(BeanArtifact.class);
+    }
+    
+    @Test
+    public void invalidFieldValuesAreCollected() {
+        final BeanConverterImpl<TextBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        
+        converter.setErrorPolicy(ConversionErrorPolicy.COLLECT);
+        
+        final BeanArtifact targetObject = converter.from(newTextBean("abc")).to(BeanArtifact.class);
+        
+        assertThat(targetObject, 
+                allOf(
+                        hasProperty(NAME, is("Teste")),
+                        hasProperty(CODE, nullValue()),
+                        hasProperty(LONG_CODE, is(7L))));
+        assertThat(converter.getConversionErrors(), hasSize(1));
+        assertThat(converter.getConversionErrors().get(0), 
+                allOf(
+                        hasProperty("fieldName", is(CODE)),
+                        hasProperty("rejectedValue", is("abc"))));
+        
+        converter.from(newTextBean("1")).to(BeanArtifact.class);
+        
+        assertThat(converter.getConversionErrors(), hasSize(0));
+    }
+    
+    @Test
+    public void enumFieldsAreConvertedByName() {
+        final BeanConverterImpl<TextBeanArtifact, StatusBeanArtifact> converter = new BeanConverterImpl<>();
+        final BeanConverterImpl<StatusBeanArtifact, TextBeanArtifact> reverseConverter = new BeanConverterImpl<>();
+        final StatusBeanArtifact targetObject = converter.from(newTextBean("INACTIVE")).to(StatusBeanArtifact.class);
+        
+        assertThat(targetObject.getCode(), is(StatusArtifact.INACTIVE));
+        assertThat(reverseConverter.from(targetObject).to(TextBeanArtifact.class).getCode(), is("INACTIVE"));
+    }
+    
+    @Test
+    public void looselyDeclaredFieldsAreConvertedByTheirValues() {
+        final BeanConverterImpl<LooseRecordArtifact, RecordArtifact> converter = new BeanConverterImpl<>();
+        final LooseRecordArtifact sourceObject = new LooseRecordArtifact();
+        
+        sourceObject.setId(7);
+        sourceObject.setQuantity(3L);
+        sourceObject.setName("name");
+        
+        final RecordArtifact targetObject = converter.from(sourceObject).to(RecordArtifact.class);
+        
+        assertThat(targetObject.getId(), is(7L));
+        assertThat(targetObject.getQuantity(), is(3));
+        assertThat(targetObject.getName(), is("name"));
+        
+        sourceObject.setId("8");
+        
+        assertThat(converter.from(sourceObject).to(RecordArtifact.class).getId(), is(8L));
+    }
+    
+    @Test
+    @SuppressWarnings("removal")
+    public void sameFieldNameStrategyWritesOnlyTheGivenFields() throws NoSuchFieldException {
+        final BeanArtifact sourceObject = new BeanArtifact();
+        final ConvertibleBeanArtifact targetObject = new ConvertibleBeanArtifact();
+        
+        sourceObject.setName("Teste");
+        sourceObject.setLongCode(5L);
+        
+        new SameFieldNameStrategyConverter<BeanArtifact, ConvertibleBeanArtifact>()
+            .readSource(sourceObject, Arrays.asList(BeanArtifact.class.getDeclaredFields()))
+            .writeInto(targetObject, Collections.singletonList(ConvertibleBeanArtifact.class.getDeclaredField(NAME)));
+        
+        assertThat(targetObject.getName(), is("Teste"));
+        assertThat(targetObject.getLongCode(), is(0L));
+    }
+    
+    private TextBeanArtifact newTextBean(final String code) {
+        final TextBeanArtifact sourceObject = new TextBeanArtifact();
+        
+        sourceObject.setName("Teste");
+        sourceObject.setCode(code);
+        sourceObject.setLongCode("7");
+        
+        return sourceObject;
+    }
+    
+    public static class ArrayHolder {
+        private int[] codes;
+    }
 }
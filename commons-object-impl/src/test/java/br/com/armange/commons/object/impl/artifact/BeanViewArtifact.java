@@ -0,0 +1,16 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public interface BeanViewArtifact {
+
+    String getName();
+    
+    void setName(String name);
+    
+    Long getCode();
+    
+    long getLongCode();
+    
+    default String getLabel() {
+        return getName() + "#" + getLongCode();
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public class CodeArtifact {
+    
+    private final String code;
+    
+    public CodeArtifact(final String code) {
+        this.code = code;
+    }
+    
+    public String getCode() {
+        return code;
+    }
+}
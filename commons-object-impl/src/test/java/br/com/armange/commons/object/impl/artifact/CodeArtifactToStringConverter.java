@@ -0,0 +1,25 @@
+package br.com.armange.commons.object.impl.artifact;
+
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+
+public class CodeArtifactToStringConverter implements TypeConverter<CodeArtifact, String> {
+
+    private String result;
+    
+    @Override
+    public TypeConverter<CodeArtifact, String> from(final CodeArtifact sourceObject) {
+        result = sourceObject != null ? sourceObject.getCode() : null;
+        
+        return this;
+    }
+
+    @Override
+    public String to(final Class<String> targetClass) {
+        return result;
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return sourceObject.getClass().equals(CodeArtifact.class) && targetClass.equals(String.class);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.armange.commons.object.impl.artifact;
+
+import java.util.List;
+import java.util.Map;
+
+public class CollectionSourceArtifact {
+
+    private List<Integer> codes;
+    private Map<String, Integer> amounts;
+    private List<ConvertibleBeanArtifact> items;
+    
+    public List<Integer> getCodes() {
+        return codes;
+    }
+    
+    public void setCodes(final List<Integer> codes) {
+        this.codes = codes;
+    }
+    
+    public Map<String, Integer> getAmounts() {
+        return amounts;
+    }
+    
+    public void setAmounts(final Map<String, Integer> amounts) {
+        this.amounts = amounts;
+    }
+    
+    public List<ConvertibleBeanArtifact> getItems() {
+        return items;
+    }
+    
+    public void setItems(final List<ConvertibleBeanArtifact> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.armange.commons.object.impl.artifact;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class CollectionTargetArtifact {
+
+    private Set<Long> codes;
+    private Map<String, Long> amounts;
+    private List<BeanArtifact> items;
+    
+    public Set<Long> getCodes() {
+        return codes;
+    }
+    
+    public void setCodes(final Set<Long> codes) {
+        this.codes = codes;
+    }
+    
+    public Map<String, Long> getAmounts() {
+        return amounts;
+    }
+    
+    public void setAmounts(final Map<String, Long> amounts) {
+        this.amounts = amounts;
+    }
+    
+    public List<BeanArtifact> getItems() {
+        return items;
+    }
+    
+    public void setItems(final List<BeanArtifact> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public interface CommandViewArtifact {
+
+    String getName();
+    
+    void refresh();
+}
@@ -0,0 +1,26 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public class ImmutableBeanArtifact {
+
+    private final String name;
+    private final Long code;
+    private final long longCode;
+    
+    public ImmutableBeanArtifact(final String name, final Long code, final long longCode) {
+        this.name = name;
+        this.code = code;
+        this.longCode = longCode;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Long getCode() {
+        return code;
+    }
+    
+    public long getLongCode() {
+        return longCode;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public class LooseRecordArtifact {
+
+    private Object id;
+    private Number quantity;
+    private CharSequence name;
+    
+    public Object getId() {
+        return id;
+    }
+    
+    public void setId(final Object id) {
+        this.id = id;
+    }
+    
+    public Number getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(final Number quantity) {
+        this.quantity = quantity;
+    }
+    
+    public CharSequence getName() {
+        return name;
+    }
+    
+    public void setName(final CharSequence name) {
+        this.name = name;
+    }
+}
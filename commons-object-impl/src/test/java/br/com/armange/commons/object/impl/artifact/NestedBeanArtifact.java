@@ -0,0 +1,23 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public class NestedBeanArtifact {
+
+    private Long id;
+    private StatusBeanArtifact owner;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public StatusBeanArtifact getOwner() {
+        return owner;
+    }
+
+    public void setOwner(final StatusBeanArtifact owner) {
+        this.owner = owner;
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.armange.commons.object.impl.artifact;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class RecordArtifact {
+
+    private long id;
+    private int quantity;
+    private double price;
+    private BigDecimal total;
+    private String name;
+    private StatusArtifact status;
+    private LocalDate date;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(final long id) {
+        this.id = id;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final int quantity) {
+        this.quantity = quantity;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(final double price) {
+        this.price = price;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(final BigDecimal total) {
+        this.total = total;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public StatusArtifact getStatus() {
+        return status;
+    }
+
+    public void setStatus(final StatusArtifact status) {
+        this.status = status;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(final LocalDate date) {
+        this.date = date;
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public enum StatusArtifact {
+    ACTIVE, 
+    INACTIVE {
+        
+        @Override
+        public String toString() {
+            return "Inactive";
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public class StatusBeanArtifact {
+
+    private String name;
+    private StatusArtifact code;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public StatusArtifact getCode() {
+        return code;
+    }
+
+    public void setCode(final StatusArtifact code) {
+        this.code = code;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.armange.commons.object.impl.artifact;
+
+public class TextBeanArtifact {
+
+    private String name;
+    private String code;
+    private String longCode;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(final String code) {
+        this.code = code;
+    }
+
+    public String getLongCode() {
+        return longCode;
+    }
+
+    public void setLongCode(final String longCode) {
+        this.longCode = longCode;
+    }
+}
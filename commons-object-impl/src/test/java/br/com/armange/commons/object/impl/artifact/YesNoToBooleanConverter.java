@@ -0,0 +1,25 @@
+package br.com.armange.commons.object.impl.artifact;
+
+import br.com.armange.commons.object.api.typeconverter.TypeConverter;
+
+public class YesNoToBooleanConverter implements TypeConverter<Character, Boolean> {
+
+    private Boolean result;
+    
+    @Override
+    public TypeConverter<Character, Boolean> from(final Character sourceObject) {
+        result = sourceObject != null ? Character.toUpperCase(sourceObject) == 'Y' : null;
+        
+        return this;
+    }
+
+    @Override
+    public Boolean to(final Class<Boolean> targetClass) {
+        return result;
+    }
+
+    @Override
+    public boolean matches(final Object sourceObject, final Class<?> targetClass) {
+        return sourceObject instanceof Character && targetClass.equals(Boolean.class);
+    }
+}
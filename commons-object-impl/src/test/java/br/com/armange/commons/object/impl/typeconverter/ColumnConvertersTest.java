@@ -0,0 +1,89 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+public class ColumnConvertersTest {
+
+    private static final String[] COLUMN = {"id", "10", null, "-7", "x1", "2147483647"};
+
+    @Test
+    public void parseColumnSliceReportingRejectedRows() {
+        final ColumnReport report = new ColumnReport();
+        final int[] target = new int[6];
+        
+        assertEquals(2, ColumnConverters.convert(COLUMN, 1, target, 1, 5, report));
+        assertArrayEquals(new int[] {0, 10, 0, -7, 0, Integer.MAX_VALUE}, target);
+        assertTrue(report.getNullRows().get(1));
+        assertTrue(report.getInvalidRows().get(3));
+    }
+    
+    @Test
+    public void reportIsClearedByEveryConversion() {
+        final ColumnReport report = new ColumnReport();
+        
+        ColumnConverters.convert(COLUMN, 0, new long[6], 0, 6, report);
+        
+        assertEquals(0, ColumnConverters.convert(COLUMN, 3, new long[1], 0, 1, report));
+        assertTrue(report.isClean());
+    }
+    
+    @Test
+    public void convertPrimitiveColumn() {
+        final BigDecimal[] target = new BigDecimal[2];
+        
+        ColumnConverters.convert(new long[] {Long.MIN_VALUE, 42}, 0, target, 0, 2);
+        
+        assertArrayEquals(new BigDecimal[] {BigDecimal.valueOf(Long.MIN_VALUE), BigDecimal.valueOf(42)}, target);
+    }
+    
+    @Test
+    public void convertBoxedColumnThroughRegisteredConverters() {
+        final ColumnReport report = new ColumnReport();
+        final Long[] target = new Long[3];
+        
+        assertEquals(1, ColumnConverters.convert(new Integer[] {1, null, 3}, 0, target, 0, 3, report));
+        assertArrayEquals(new Long[] {1L, null, 3L}, target);
+    }
+    
+    @Test
+    public void acceptNonAsciiDigitsLikeThePerValueConverters() {
+        final ColumnReport report = new ColumnReport();
+        final String[] column = {"\u0661\u0662", "-\u0967", "\uff13"};
+        final byte[] bytes = new byte[3];
+        final short[] shorts = new short[3];
+        final int[] ints = new int[3];
+        final long[] longs = new long[3];
+        
+        assertEquals(0, ColumnConverters.convert(column, 0, bytes, 0, 3, report));
+        assertArrayEquals(new byte[] {12, -1, 3}, bytes);
+        assertEquals(0, ColumnConverters.convert(column, 0, shorts, 0, 3, report));
+        assertArrayEquals(new short[] {12, -1, 3}, shorts);
+        assertEquals(0, ColumnConverters.convert(column, 0, ints, 0, 3, report));
+        assertArrayEquals(new int[] {12, -1, 3}, ints);
+        assertEquals(0, ColumnConverters.convert(column, 0, longs, 0, 3, report));
+        assertArrayEquals(new long[] {12, -1, 3}, longs);
+        assertEquals(Integer.valueOf(ints[0]), TypeConverters.find(String.class, Integer.class).get().apply(column[0]));
+    }
+    
+    @Test
+    public void rejectTextOutsideTheParserGrammar() {
+        final ColumnReport report = new ColumnReport();
+        final String[] column = {"\u0661\u0662", "128", "-128", "1e400", "0x1p3", ".", "1.50"};
+        final double[] doubles = new double[7];
+        final BigDecimal[] decimals = new BigDecimal[7];
+        
+        assertEquals(5, ColumnConverters.convert(column, 0, new byte[7], 0, 7, report));
+        assertTrue(report.getInvalidRows().get(1));
+        assertEquals(2, ColumnConverters.convert(column, 0, doubles, 0, 7, report));
+        assertEquals(Double.POSITIVE_INFINITY, doubles[3], 0);
+        assertEquals(8, doubles[4], 0);
+        assertEquals(2, ColumnConverters.convert(column, 0, decimals, 0, 7, report));
+        assertEquals(new BigDecimal("1.50"), decimals[6]);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class ConversionCacheTest {
+
+    @Test
+    public void countHitsAndMisses() {
+        final ConversionCache<String, Integer> cache = ConversionCache.ofSize(8);
+        
+        assertThat(cache.get("42", Integer::valueOf), is(42));
+        assertThat(cache.get("42", Integer::valueOf), is(42));
+        assertThat(cache.get("7", Integer::valueOf), is(7));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+    
+    @Test
+    public void frequentValueSurvivesScan() {
+        final ConversionCache<String, Integer> cache = ConversionCache.ofSize(4);
+        
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot", String::length);
+        }
+        
+        for (int i = 0; i < 100; i++) {
+            cache.get("cold" + i, String::length);
+        }
+        
+        assertTrue(cache.size() <= 4);
+        assertThat(cache.getIfPresent("hot"), is(3));
+    }
+    
+    @Test
+    public void boundByWeight() {
+        final ConversionCache<String, String> cache = ConversionCache.ofWeight(10, (key, value) -> value.length());
+        
+        cache.get("a", key -> "123456");
+        cache.get("a", key -> "123456");
+        cache.get("b", key -> "12345678901");
+        cache.get("c", key -> "1234");
+        
+        assertTrue(cache.getWeight() <= 10);
+        assertEquals(1, cache.getRejectionCount());
+    }
+    
+    @Test
+    public void memoizeConversionsOfPair() {
+        final ConversionCache<String, BigDecimal> cache = ConversionCache.ofSize(16);
+        
+        TypeConverters.memoize(String.class, BigDecimal.class, cache);
+        
+        try {
+            final Function<Object, Object> converter = TypeConverters.find(String.class, BigDecimal.class).get();
+            
+            assertThat(converter.apply("19.99"), sameInstance(converter.apply("19.99")));
+            assertEquals(1, cache.getHitCount());
+        } finally {
+            TypeConverters.memoize(String.class, BigDecimal.class, null);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.typeconverter.longvalue.LongToBigDecimalConverterImpl;
+
+public class ConversionMatrixTest {
+
+    @Test
+    public void primitiveAndBoxedTypesShareTheSameEntry() {
+        assertThat(
+                ConversionMatrix.of(int.class, char.class), 
+                sameInstance(ConversionMatrix.of(Integer.class, Character.class)));
+        assertThat(ConversionMatrix.of(Integer.class, Character.class).apply(65), is('A'));
+        assertThat(ConversionMatrix.of(Character.class, Boolean.class).apply('T'), is(true));
+        assertThat(ConversionMatrix.of(Double.class, Integer.class).apply(null), nullValue());
+    }
+    
+    @Test
+    public void facadeConvertsLikeTheMatrix() {
+        final Function<Long, BigDecimal> conversion = ConversionMatrix.of(Long.class, BigDecimal.class);
+        
+        assertThat(new LongToBigDecimalConverterImpl().from(7L).to(BigDecimal.class), is(conversion.apply(7L)));
+    }
+    
+    @Test
+    public void typeConvertersServeTheMatrix() {
+        final ConversionResult<Object> result = new ConversionResult<>();
+        
+        assertThat(TypeConverters.find(short.class, String.class).get().apply((short) -7), is("-7"));
+        assertFalse(TypeConverters.routes().containsKey(TypePair.of(Short.class, String.class)));
+        assertFalse(TypeConverters.findAttempt(Double.class, BigDecimal.class).get().attempt(Double.NaN, result));
+        assertTrue(TypeConverters.findAttempt(String.class, Byte.class).get().attempt("-128", result));
+        assertThat(result.getValue(), is((byte) -128));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void userTypesAreNotSupported() {
+        ConversionMatrix.of(Long.class, Object.class);
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.impl.artifact.BeanArtifact;
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.TextBeanArtifact;
+import br.com.armange.commons.object.impl.typeconverter.bean.BeanConverterImpl;
+
+public class ConversionMetricsTest {
+
+    @Test
+    public void bucketsBoundTheirLatencies() {
+        for (long nanos = 0; nanos < 1L << 40; nanos = nanos * 3 / 2 + 1) {
+            final long upperBound = ConversionRecorder.upperBoundOf(ConversionRecorder.bucketOf(nanos));
+            
+            assertTrue(upperBound >= nanos);
+            assertTrue(upperBound - nanos <= nanos / 8);
+        }
+        
+        assertEquals(Long.MAX_VALUE, ConversionRecorder.upperBoundOf(ConversionRecorder.bucketOf(Long.MAX_VALUE)));
+        assertEquals(ConversionRecorder.BUCKETS - 1, ConversionRecorder.bucketOf(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void enabledMetricsRecordConversionsAndFailures() {
+        final TypePair pair = TypePair.of(String.class, Short.class);
+        final Function<Object, Object> function;
+        
+        ConversionMetrics.reset();
+        TypeConverters.find(String.class, Short.class).orElseThrow().apply("1");
+        assertFalse(ConversionMetrics.snapshot().containsKey(pair));
+        
+        ConversionMetrics.enable();
+        
+        try {
+            final ConversionAttempt attempt = TypeConverters.findAttempt(String.class, Short.class).orElseThrow();
+            
+            function = TypeConverters.find(String.class, Short.class).orElseThrow();
+            function.apply("1");
+            function.apply("2");
+            attempt.attempt("x", new ConversionResult<>());
+            
+            try {
+                function.apply("x");
+            } catch (final RuntimeException e) {
+                // counted as a failure
+            }
+        } finally {
+            ConversionMetrics.disable();
+        }
+        
+        function.apply("3");
+        
+        final ConversionStats stats = ConversionMetrics.snapshot().get(pair);
+        
+        assertThat(stats.getCount(), is(4L));
+        assertThat(stats.getFailureCount(), is(2L));
+        assertThat(stats.getBuckets().values().stream().mapToLong(Long::longValue).sum(), is(4L));
+        assertTrue(stats.getPercentileNanos(50) <= stats.getPercentileNanos(100));
+        assertTrue(stats.getPercentileNanos(100) <= stats.getMaxNanos());
+    }
+    
+    @Test
+    public void beanConversionsAreRecordedByBeanPair() {
+        final RecordArtifact record = new RecordArtifact();
+        
+        record.setName("name");
+        ConversionMetrics.reset();
+        ConversionMetrics.enable();
+        
+        try {
+            new BeanConverterImpl<RecordArtifact, StatusBeanArtifact>().from(record).to(StatusBeanArtifact.class);
+        } finally {
+            ConversionMetrics.disable();
+        }
+        
+        final ConversionStats stats = ConversionMetrics
+                .snapshot()
+                .get(TypePair.of(RecordArtifact.class, StatusBeanArtifact.class));
+        
+        assertThat(stats.getCount(), is(1L));
+        assertThat(stats.getFailureCount(), is(0L));
+        assertFalse(ConversionMetrics.snapshot().containsKey(TypePair.of(String.class, String.class)));
+    }
+    
+    @Test
+    public void fieldConversionsOfExistingPlansAreRecordedOnceEnabled() {
+        final BeanConverterImpl<TextBeanArtifact, BeanArtifact> converter = new BeanConverterImpl<>();
+        final TextBeanArtifact sourceObject = new TextBeanArtifact();
+        final TypePair pair = TypePair.of(String.class, Long.class);
+        
+        sourceObject.setLongCode("7");
+        converter.from(sourceObject).to(BeanArtifact.class);
+        ConversionMetrics.reset();
+        ConversionMetrics.enable();
+        
+        try {
+            converter.from(sourceObject).to(BeanArtifact.class);
+        } finally {
+            ConversionMetrics.disable();
+        }
+        
+        assertThat(ConversionMetrics.snapshot().get(pair).getCount(), is(1L));
+    }
+}
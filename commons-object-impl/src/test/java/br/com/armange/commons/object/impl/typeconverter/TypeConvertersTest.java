@@ -0,0 +1,71 @@
+package br.com.armange.commons.object.impl.typeconverter;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.impl.artifact.CodeArtifact;
+
+public class TypeConvertersTest {
+
+    @Test
+    public void composeConvertersThroughIntermediateType() {
+        final Function<Object, Object> converter = TypeConverters.find(CodeArtifact.class, Long.class).get();
+        
+        assertThat(converter.apply(new CodeArtifact("42")), is(42L));
+        assertThat(converter.apply(null), nullValue());
+    }
+    
+    @Test
+    public void composedConverterIsCached() {
+        assertThat(
+                TypeConverters.find(CodeArtifact.class, long.class).get(), 
+                sameInstance(TypeConverters.find(CodeArtifact.class, Long.class).get()));
+    }
+    
+    @Test
+    public void unreachableTargetHasNoConverter() {
+        assertFalse(TypeConverters.find(Long.class, CodeArtifact.class).isPresent());
+    }
+    
+    @Test
+    public void attemptReportsInvalidInputWithoutException() {
+        final ConversionAttempt attempt = TypeConverters.findAttempt(String.class, Integer.class).get();
+        final ConversionResult<Object> result = new ConversionResult<>();
+        
+        assertFalse(attempt.attempt("2147483648", result));
+        assertThat(result.getRejectedValue(), is("2147483648"));
+        assertTrue(attempt.attempt("-42", result));
+        assertThat(result.getValue(), is(-42));
+    }
+    
+    @Test
+    public void composedAttemptReportsTheOriginalValue() {
+        final ConversionAttempt attempt = TypeConverters.findAttempt(CodeArtifact.class, Long.class).get();
+        final ConversionResult<Object> result = new ConversionResult<>();
+        final CodeArtifact code = new CodeArtifact("x");
+        
+        assertFalse(attempt.attempt(code, result));
+        assertThat(result.getRejectedValue(), sameInstance(code));
+    }
+    
+    @Test
+    public void convertersFromOutsideTheLibraryReplaceBuiltInPairs() {
+        final ConversionResult<Object> result = new ConversionResult<>();
+        
+        assertThat(TypeConverters.find(char.class, Boolean.class).get().apply('y'), is(true));
+        assertThat(TypeConverters.find(Character.class, Boolean.class).get().apply('T'), is(false));
+        assertTrue(TypeConverters.findAttempt(Character.class, Boolean.class).get().attempt('Y', result));
+        assertThat(result.getValue(), is(true));
+        assertThat(ConversionMatrix.of(Character.class, Boolean.class).apply('T'), is(true));
+        assertThat(TypeConverters.find(Character.class, String.class).get().apply('y'), is("y"));
+    }
+}
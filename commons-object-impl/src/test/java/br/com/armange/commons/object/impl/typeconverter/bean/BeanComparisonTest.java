@@ -0,0 +1,96 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.CollectionSourceArtifact;
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+public class BeanComparisonTest {
+
+    @Test
+    public void equalityAndHashFollowTheBoxedValues() {
+        final BeanComparison<RecordArtifact> comparison = BeanComparison.of(RecordArtifact.class);
+        final RecordArtifact record = record(1, 2, -0.0, "name");
+        final RecordArtifact copy = record(1, 2, -0.0, "name");
+        
+        assertThat(BeanComparison.of(RecordArtifact.class), sameInstance(comparison));
+        assertTrue(comparison.equals(record, copy));
+        assertFalse(comparison.equals(record, record(1, 2, 0.0, "name")));
+        assertFalse(comparison.equals(record, null));
+        assertThat(comparison.hashCode(record), is(Objects.hash(
+                record.getId(), 
+                record.getQuantity(), 
+                record.getPrice(), 
+                record.getTotal(), 
+                record.getName(), 
+                record.getStatus(), 
+                record.getDate())));
+        assertTrue(BeanComparison.of(RecordArtifact.class, "id").equals(record, record(1, 3, 1.0, null)));
+    }
+    
+    @Test
+    public void comparatorsOrderByEveryKey() {
+        final List<RecordArtifact> records = new ArrayList<>(Arrays.asList(
+                record(2, 1, 1.5, "b"), 
+                record(1, 2, 1.5, "b"), 
+                record(1, 1, 2.5, null), 
+                record(1, 1, 0.5, "a"), 
+                null));
+        
+        records.sort(BeanComparison.of(RecordArtifact.class, "quantity", "price", "name", "id").comparator());
+        
+        assertThat(records.get(0) == null, is(true));
+        assertThat(records.get(1).getPrice(), is(0.5));
+        assertThat(records.get(2).getId(), is(2L));
+        assertThat(records.get(3).getName() == null, is(true));
+        assertThat(records.get(4).getQuantity(), is(2));
+    }
+    
+    @Test
+    public void keysDeduplicateBeans() {
+        final BeanComparison<RecordArtifact> comparison = BeanComparison.of(RecordArtifact.class, "name", "status");
+        final Set<Object> keys = new HashSet<>();
+        
+        keys.add(comparison.keyOf(record(1, 1, 1, "a")));
+        keys.add(comparison.keyOf(record(2, 2, 2, "a")));
+        keys.add(comparison.keyOf(record(3, 3, 3, "b")));
+        
+        assertThat(keys.size(), is(2));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void comparatorsNeedComparableFields() {
+        BeanComparison.of(CollectionSourceArtifact.class, "codes").comparator();
+    }
+    
+    private static RecordArtifact record(final long id, final int quantity, final double price, final String name) {
+        final RecordArtifact record = new RecordArtifact();
+        
+        record.setId(id);
+        record.setQuantity(quantity);
+        record.setPrice(price);
+        record.setTotal(BigDecimal.TEN);
+        record.setName(name);
+        record.setStatus(StatusArtifact.ACTIVE);
+        record.setDate(LocalDate.of(2020, 1, 1));
+        
+        return record;
+    }
+}
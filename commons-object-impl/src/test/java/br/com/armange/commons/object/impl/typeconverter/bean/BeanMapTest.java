@@ -0,0 +1,160 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.CollectionTargetArtifact;
+import br.com.armange.commons.object.impl.artifact.NestedBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusBeanArtifact;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+public class BeanMapTest {
+
+    @Test
+    public void mapValuesAreConvertedToTheirFields() {
+        final Map<String, Object> source = new HashMap<>();
+        
+        source.put("id", "42");
+        source.put("quantity", 7L);
+        source.put("price", 1);
+        source.put("total", 2.5);
+        source.put("status", "INACTIVE");
+        source.put("date", "2020-02-29");
+        source.put("name", null);
+        source.put("unknown", "ignored");
+        
+        final RecordArtifact record = new MapToBeanConverterImpl<RecordArtifact>()
+                .from(source)
+                .to(RecordArtifact.class);
+        
+        assertThat(record.getId(), is(42L));
+        assertThat(record.getQuantity(), is(7));
+        assertThat(record.getPrice(), is(1.0));
+        assertThat(record.getTotal(), is(new BigDecimal("2.5")));
+        assertThat(record.getStatus(), is(StatusArtifact.INACTIVE));
+        assertThat(record.getDate(), is(LocalDate.of(2020, 2, 29)));
+        assertThat(record.getName(), nullValue());
+    }
+    
+    @Test
+    public void nestedMapsBecomeNestedBeans() {
+        final Map<String, Object> owner = new HashMap<>();
+        final Map<String, Object> source = new HashMap<>();
+        
+        owner.put("name", "owner");
+        owner.put("code", "ACTIVE");
+        source.put("id", 1);
+        source.put("owner", owner);
+        
+        final NestedBeanArtifact bean = new MapToBeanConverterImpl<NestedBeanArtifact>()
+                .from(source)
+                .to(NestedBeanArtifact.class);
+        
+        assertThat(bean.getId(), is(1L));
+        assertThat(bean.getOwner().getName(), is("owner"));
+        assertThat(bean.getOwner().getCode(), is(StatusArtifact.ACTIVE));
+    }
+    
+    @Test
+    public void containerValuesAreConvertedElementByElement() {
+        final Map<String, Object> item = new HashMap<>();
+        final Map<String, Object> source = new HashMap<>();
+        
+        item.put("name", "item");
+        source.put("codes", Arrays.asList(1, 2, 2));
+        source.put("amounts", Collections.singletonMap("a", 3));
+        source.put("items", Collections.singletonList(item));
+        
+        final CollectionTargetArtifact bean = BeanMapPlan.of(CollectionTargetArtifact.class).toBean(source);
+        
+        assertThat(bean.getCodes(), is(new HashSet<>(Arrays.asList(1L, 2L))));
+        assertThat(bean.getAmounts().get("a"), is(3L));
+        assertThat(bean.getItems().get(0).getName(), is("item"));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void nestedMapsAreOnlyConvertedIntoBeanClasses() {
+        BeanMapPlan.of(RecordArtifact.class).toBean(Collections.singletonMap("date", Collections.emptyMap()));
+    }
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void beansBecomeFixedShapeMaps() {
+        final StatusBeanArtifact bean = new StatusBeanArtifact();
+        
+        bean.setName("name");
+        bean.setCode(StatusArtifact.ACTIVE);
+        
+        final Map<String, Object> map = new BeanToMapConverterImpl<StatusBeanArtifact>()
+                .from(bean)
+                .to((Class) Map.class);
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        
+        expected.put("name", "name");
+        expected.put("code", StatusArtifact.ACTIVE);
+        
+        assertThat(map, is(expected));
+        assertThat(expected, is(map));
+        assertThat(map.hashCode(), is(expected.hashCode()));
+        assertThat(new ArrayList<>(map.keySet()), is(Arrays.asList("name", "code")));
+        assertTrue(map.containsKey("code"));
+        assertFalse(map.containsKey("other"));
+        assertThat(map.put("name", "other"), is("name"));
+        assertThat(map.get("name"), is("other"));
+        
+        try {
+            map.remove("name");
+            fail();
+        } catch (final UnsupportedOperationException e) {
+            assertThat(map.size(), is(2));
+        }
+        
+        assertThat(BeanMapPlan.of(StatusBeanArtifact.class).toBean(map).getName(), is("other"));
+    }
+    
+    @Test
+    public void mapToBeanOnlyMatchesBeanClasses() {
+        final MapToBeanConverterImpl<Object> converter = new MapToBeanConverterImpl<>();
+        final Map<String, Object> source = new HashMap<>();
+        
+        assertTrue(converter.matches(source, RecordArtifact.class));
+        assertFalse(converter.matches(source, String.class));
+        assertFalse(converter.matches(source, Integer.class));
+        assertFalse(converter.matches(source, int.class));
+        assertFalse(converter.matches(source, StatusArtifact.class));
+        assertFalse(converter.matches(source, Map.class));
+        assertFalse(converter.matches(new RecordArtifact(), RecordArtifact.class));
+    }
+    
+    @Test
+    public void beanToMapOnlyMatchesBeansIntoMaps() {
+        final BeanToMapConverterImpl<Object> converter = new BeanToMapConverterImpl<>();
+        
+        assertTrue(converter.matches(new RecordArtifact(), Map.class));
+        assertTrue(converter.matches(new RecordArtifact(), BeanMap.class));
+        assertFalse(converter.matches("x", Object.class));
+        assertFalse(converter.matches("x", Map.class));
+        assertFalse(converter.matches(new RecordArtifact(), Object.class));
+        assertFalse(converter.matches(new RecordArtifact(), HashMap.class));
+        assertFalse(converter.matches(new HashMap<>(), Map.class));
+        assertFalse(converter.matches(null, Map.class));
+    }
+}
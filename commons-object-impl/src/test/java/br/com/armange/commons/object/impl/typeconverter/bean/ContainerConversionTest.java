@@ -0,0 +1,46 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+public class ContainerConversionTest {
+    
+    private List<String> names;
+    private Set<String> distinctNames;
+    private List<StringBuilder> builders;
+    private List<Thread> threads;
+
+    @Test
+    public void assignableElementsAreCopied() throws ReflectiveOperationException {
+        final Function<Object, Object> conversion = ContainerConversion
+                .of(typeOf("names"), typeOf("distinctNames"))
+                .get();
+        
+        assertThat(conversion.apply(Arrays.asList("a", "b", "a")), is(new LinkedHashSet<>(Arrays.asList("a", "b"))));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void elementsWithoutConverterAreNotBeans() throws ReflectiveOperationException {
+        final Function<Object, Object> conversion = ContainerConversion
+                .of(typeOf("builders"), typeOf("threads"))
+                .get();
+        
+        conversion.apply(Collections.singletonList(new StringBuilder()));
+    }
+    
+    private static Type typeOf(final String name) throws ReflectiveOperationException {
+        return ContainerConversionTest.class.getDeclaredField(name).getGenericType();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.BeanArtifact;
+import br.com.armange.commons.object.impl.artifact.ConvertibleBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusBeanArtifact;
+import br.com.armange.commons.object.impl.typeconverter.TypePair;
+
+public class ConversionWarmupTest {
+
+    @Test
+    public void packagesDeclareTheirConvertibleBeans() {
+        final ConversionWarmup warmup = ConversionWarmup
+                .create()
+                .withPackage("br.com.armange.commons.object.impl.artifact");
+        
+        assertTrue(warmup.getPairs().contains(TypePair.of(ConvertibleBeanArtifact.class, BeanArtifact.class)));
+    }
+    
+    @Test
+    public void runBuildsThePlans() {
+        final Map<TypePair, RuntimeException> failures = ConversionWarmup
+                .create()
+                .withPair(RecordArtifact.class, StatusBeanArtifact.class)
+                .withIterations(100)
+                .run();
+        
+        assertThat(failures.isEmpty(), is(true));
+        assertTrue(FieldInjectionPlan.plans().containsKey(TypePair.of(RecordArtifact.class, StatusBeanArtifact.class)));
+    }
+    
+    @Test
+    public void runAsyncReportsFailedPairs() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        
+        try {
+            final Map<TypePair, RuntimeException> failures = ConversionWarmup
+                    .create()
+                    .withPair(RecordArtifact.class, StatusBeanArtifact.class)
+                    .withPair(RecordArtifact.class, Runnable.class)
+                    .withIterations(10)
+                    .runAsync(executor)
+                    .join();
+            
+            assertThat(failures.size(), is(1));
+            assertTrue(failures.containsKey(TypePair.of(RecordArtifact.class, Runnable.class)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void runAsyncDoesNotBlockItsOwnExecutor() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try {
+            final ConversionWarmup warmup = ConversionWarmup
+                    .create()
+                    .withPair(EmptyEnumSource.class, EmptyEnumTarget.class)
+                    .withIterations(10);
+            final Map<TypePair, RuntimeException> failures = executor
+                    .submit(() -> warmup.runAsync(executor))
+                    .get(10, TimeUnit.SECONDS)
+                    .get(10, TimeUnit.SECONDS);
+            
+            assertThat(failures.isEmpty(), is(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private enum Empty {
+    }
+    
+    public static class EmptyEnumSource {
+        private Empty empty;
+        private String name;
+    }
+    
+    public static class EmptyEnumTarget {
+        private String name;
+    }
+}
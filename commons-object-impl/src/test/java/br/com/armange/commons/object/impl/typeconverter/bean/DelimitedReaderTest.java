@@ -0,0 +1,105 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+public class DelimitedReaderTest {
+    
+    private static final int RECORDS = 1000;
+    
+    private static Path write(final String content) throws IOException {
+        final Path file = Files.createTempFile("records", ".csv");
+        
+        file.toFile().deleteOnExit();
+        
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void recordsAreBoundByHeaderAcrossChunks() throws IOException {
+        final StringBuilder content = new StringBuilder("status;id;quantity;price;total;name;date;ignored\r\n");
+        
+        for (int i = 0; i < RECORDS; i++) {
+            content.append(i % 2 == 0 ? "ACTIVE" : "INACTIVE").append(';')
+                    .append(i).append(';')
+                    .append(-i).append(';')
+                    .append(i).append(".5;")
+                    .append(i).append(".25;")
+                    .append("name \u00e3").append(i).append(';')
+                    .append(LocalDate.of(2020, 1, 1).plusDays(i)).append(";x\r\n");
+        }
+        
+        final Path file = write(content.toString());
+        final DelimitedReader<RecordArtifact> reader = DelimitedReader
+                .of(file, RecordArtifact.class, DelimitedFormat.of(';').withHeader())
+                .withChunkSize(1024);
+        final List<RecordArtifact> records = new ArrayList<>();
+        
+        reader.forEach(records::add);
+        
+        assertThat(records.size(), is(RECORDS));
+        
+        for (int i = 0; i < RECORDS; i++) {
+            final RecordArtifact record = records.get(i);
+            
+            assertThat(record.getId(), is((long) i));
+            assertThat(record.getQuantity(), is(-i));
+            assertThat(record.getPrice(), is(i + 0.5));
+            assertThat(record.getTotal(), is(new BigDecimal(i + ".25")));
+            assertThat(record.getName(), is("name \u00e3" + i));
+            assertThat(record.getStatus(), is(i % 2 == 0 ? StatusArtifact.ACTIVE : StatusArtifact.INACTIVE));
+            assertThat(record.getDate(), is(LocalDate.of(2020, 1, 1).plusDays(i)));
+        }
+        
+        assertThat(reader.stream().parallel().map(RecordArtifact::getId).collect(Collectors.toList()), 
+                is(records.stream().map(RecordArtifact::getId).collect(Collectors.toList())));
+    }
+    
+    @Test
+    public void emptyFieldsAndBlankLinesAreSkipped() throws IOException {
+        final Path file = write("7,,\n\n8,9,b");
+        final List<RecordArtifact> records = DelimitedReader
+                .of(file, RecordArtifact.class, DelimitedFormat.of(',').withColumns("id", "quantity", "name"))
+                .stream()
+                .collect(Collectors.toList());
+        
+        assertThat(records.size(), is(2));
+        assertThat(records.get(0).getId(), is(7L));
+        assertThat(records.get(0).getQuantity(), is(0));
+        assertThat(records.get(0).getName(), nullValue());
+        assertThat(records.get(1).getQuantity(), is(9));
+        assertThat(records.get(1).getName(), is("b"));
+    }
+    
+    @Test
+    public void invalidValuesAreLocated() throws IOException {
+        final Path file = write("id\n1\n2x\n");
+        
+        try {
+            DelimitedReader.of(file, RecordArtifact.class, DelimitedFormat.of('\t').withHeader()).forEach(r -> { });
+            fail();
+        } catch (final ObjectConverterException e) {
+            assertTrue(e.getMessage().contains("\"2x\""));
+            assertTrue(e.getMessage().contains("byte 5"));
+        }
+    }
+}
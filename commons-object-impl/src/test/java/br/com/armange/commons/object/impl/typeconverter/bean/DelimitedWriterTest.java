@@ -0,0 +1,117 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+
+public class DelimitedWriterTest {
+    
+    private static final int RECORDS = 1000;
+    
+    private static Path file() throws IOException {
+        final Path file = Files.createTempFile("records", ".csv");
+        
+        file.toFile().deleteOnExit();
+        
+        return file;
+    }
+    
+    private static List<RecordArtifact> records() {
+        final List<RecordArtifact> records = new ArrayList<>();
+        
+        for (int i = 0; i < RECORDS; i++) {
+            final RecordArtifact record = new RecordArtifact();
+            
+            record.setId(Long.MAX_VALUE - i);
+            record.setQuantity(-i);
+            record.setPrice(i / 3.0);
+            record.setTotal(i % 3 == 0 ? null : new BigDecimal(i).scaleByPowerOfTen(-2));
+            record.setName("name \u00e3\u20ac\ud83d\ude00 " + i);
+            record.setStatus(i % 2 == 0 ? StatusArtifact.ACTIVE : StatusArtifact.INACTIVE);
+            record.setDate(LocalDate.of(2020, 1, 1).plusDays(i));
+            records.add(record);
+        }
+        
+        return records;
+    }
+    
+    private static String line(final RecordArtifact record) {
+        return String.join("|", 
+                String.valueOf(record.getId()), 
+                String.valueOf(record.getQuantity()), 
+                String.valueOf(record.getPrice()), 
+                record.getTotal() == null ? "" : record.getTotal().toString(), 
+                record.getName(), 
+                record.getStatus().name(), 
+                record.getDate().toString());
+    }
+
+    @Test
+    public void recordsAreWrittenAsTheirConvertersRenderThem() throws IOException {
+        final List<RecordArtifact> records = records();
+        final String expected = "id|quantity|price|total|name|status|date\n" 
+                + records.stream().map(r -> line(r) + "\n").collect(Collectors.joining());
+        final DelimitedWriter<RecordArtifact> writer = DelimitedWriter
+                .of(RecordArtifact.class, DelimitedFormat.of('|').withHeader())
+                .withBufferSize(64)
+                .withChunkRecords(7);
+        final Path sequential = file();
+        final Path parallel = file();
+        
+        assertThat(writer.write(sequential, records.stream()), is((long) RECORDS));
+        assertThat(writer.writeParallel(parallel, records), is((long) RECORDS));
+        assertThat(new String(Files.readAllBytes(sequential), StandardCharsets.UTF_8), is(expected));
+        assertThat(new String(Files.readAllBytes(parallel), StandardCharsets.UTF_8), is(expected));
+    }
+    
+    @Test
+    public void writtenRecordsAreReadBack() throws IOException {
+        final List<RecordArtifact> records = records();
+        final DelimitedFormat format = DelimitedFormat.of('\t').withHeader();
+        final Path file = file();
+        
+        DelimitedWriter.of(RecordArtifact.class, format).writeParallel(file, records);
+        
+        final List<String> lines = DelimitedReader
+                .of(file, RecordArtifact.class, format)
+                .stream()
+                .map(r -> line(r))
+                .collect(Collectors.toList());
+        
+        assertThat(lines, is(records.stream().map(r -> line(r)).collect(Collectors.toList())));
+    }
+    
+    @Test
+    public void valuesBreakingRecordsAreRejected() throws IOException {
+        final RecordArtifact record = new RecordArtifact();
+        
+        record.setName("a,b");
+        
+        try {
+            DelimitedWriter
+                    .of(RecordArtifact.class, DelimitedFormat.of(',').withColumns("id", "name"))
+                    .write(file(), Stream.of(record));
+            fail();
+        } catch (final ObjectConverterException e) {
+            assertTrue(e.getMessage().contains("\"a,b\""));
+        }
+    }
+}
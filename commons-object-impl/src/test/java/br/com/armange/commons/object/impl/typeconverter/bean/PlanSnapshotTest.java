@@ -0,0 +1,110 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.BeanArtifact;
+import br.com.armange.commons.object.impl.artifact.ConvertibleBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.NestedBeanArtifact;
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusBeanArtifact;
+
+public class PlanSnapshotTest {
+
+    @Test
+    public void shapesFollowTheFields() {
+        assertThat(PlanSnapshot.shapeOf(RecordArtifact.class), is(PlanSnapshot.shapeOf(RecordArtifact.class)));
+        assertThat(PlanSnapshot.shapeOf(RecordArtifact.class), not(PlanSnapshot.shapeOf(StatusBeanArtifact.class)));
+        assertThat(PlanSnapshot.shapeOf(BeanArtifact.class), not(PlanSnapshot.shapeOf(ConvertibleBeanArtifact.class)));
+    }
+    
+    @Test
+    public void restoredPlansConvertLikeDiscoveredOnes() {
+        final RecordArtifact record = new RecordArtifact();
+        
+        record.setName("name");
+        record.setStatus(StatusArtifact.INACTIVE);
+        
+        assertFalse(restore(new String[] { "id" }, FieldBinding.Kind.CONVERTER));
+        assertFalse(restore(new String[] { "name" }, FieldBinding.Kind.CONTAINER));
+        assertTrue(restore(new String[] { "name" }, FieldBinding.Kind.CONVERTER));
+        
+        final StatusBeanArtifact converted = new BeanConverterImpl<RecordArtifact, StatusBeanArtifact>()
+                .from(record)
+                .to(StatusBeanArtifact.class);
+        
+        assertThat(converted.getName(), is("name"));
+        assertThat(converted.getCode() == null, is(true));
+    }
+    
+    @Test
+    public void snapshotsOnlyRestoreMissingPlans() throws IOException {
+        final Path file = Files.createTempFile("plans", ".bin");
+        
+        file.toFile().deleteOnExit();
+        
+        final NestedBeanArtifact nested = new NestedBeanArtifact();
+        
+        nested.setId(1L);
+        new BeanConverterImpl<NestedBeanArtifact, RecordArtifact>().from(nested).to(RecordArtifact.class);
+        
+        assertTrue(PlanSnapshot.save(file) > 0);
+        assertThat(PlanSnapshot.load(file), is(0));
+        
+        Files.write(file, new byte[] { 1, 2, 3 });
+        
+        assertThat(PlanSnapshot.load(file), is(0));
+        
+        Files.delete(file);
+        
+        assertThat(PlanSnapshot.load(file), is(0));
+    }
+    
+    @Test
+    public void damagedSnapshotsRestoreNothing() throws IOException {
+        final Path file = Files.createTempFile("plans", ".bin");
+        
+        file.toFile().deleteOnExit();
+        new BeanConverterImpl<NestedBeanArtifact, RecordArtifact>()
+                .from(new NestedBeanArtifact())
+                .to(RecordArtifact.class);
+        PlanSnapshot.save(file);
+        
+        final byte[] saved = Files.readAllBytes(file);
+        final byte[] corrupted = saved.clone();
+        
+        corrupted[corrupted.length / 2] ^= 0x5A;
+        Files.write(file, Arrays.copyOf(saved, saved.length - 1));
+        
+        assertThat(PlanSnapshot.load(file), is(0));
+        
+        Files.write(file, corrupted);
+        
+        assertThat(PlanSnapshot.load(file), is(0));
+        
+        Files.write(file, Arrays.copyOf(saved, saved.length + 8));
+        
+        assertThat(PlanSnapshot.load(file), is(0));
+    }
+    
+    private static boolean restore(final String[] stepNames, final FieldBinding.Kind... stepKinds) {
+        return FieldInjectionPlan.restore(
+                RecordArtifact.class, 
+                FieldBinding.fieldsByName(RecordArtifact.class), 
+                StatusBeanArtifact.class, 
+                FieldBinding.fieldsByName(StatusBeanArtifact.class), 
+                stepNames, 
+                stepKinds);
+    }
+}
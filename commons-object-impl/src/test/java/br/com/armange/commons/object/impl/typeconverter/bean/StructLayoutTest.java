@@ -0,0 +1,111 @@
+package br.com.armange.commons.object.impl.typeconverter.bean;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.artifact.RecordArtifact;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+
+public class StructLayoutTest {
+    
+    private static final int RECORDS = 100;
+    
+    private static List<RecordArtifact> records() {
+        final List<RecordArtifact> records = new ArrayList<>();
+        
+        for (int i = 0; i < RECORDS; i++) {
+            final RecordArtifact record = new RecordArtifact();
+            
+            record.setId(Long.MIN_VALUE + i);
+            record.setQuantity(i);
+            record.setPrice(i / 3.0);
+            record.setTotal(BigDecimal.ONE);
+            record.setName("name");
+            record.setStatus(i % 3 == 0 ? null : StatusArtifact.values()[i % 2]);
+            record.setDate(i % 5 == 0 ? null : LocalDate.of(2020, 1, 1).plusDays(i));
+            records.add(record);
+        }
+        
+        return records;
+    }
+
+    @Test
+    public void fieldsAreAlignedFromTheWidest() {
+        final StructLayout<RecordArtifact> layout = StructLayout.of(RecordArtifact.class);
+        
+        assertThat(layout.size(), is(40));
+        assertThat(layout.fields().size(), is(5));
+        assertThat(layout.field("id").getOffset(), is(0));
+        assertThat(layout.field("price").getOffset(), is(8));
+        assertThat(layout.field("date").getOffset(), is(16));
+        assertThat(layout.field("quantity").getOffset(), is(24));
+        assertThat(layout.field("status").getOffset(), is(28));
+    }
+    
+    @Test
+    public void beansArePackedAndUnpacked() {
+        final StructLayout<RecordArtifact> layout = StructLayout.of(RecordArtifact.class);
+        final List<RecordArtifact> records = records();
+        final ByteBuffer buffer = layout.pack(records);
+        final List<RecordArtifact> unpacked = layout.unpack(buffer);
+        
+        assertTrue(buffer.isDirect());
+        assertThat(unpacked.size(), is(RECORDS));
+        
+        for (int i = 0; i < RECORDS; i++) {
+            assertThat(unpacked.get(i).getId(), is(records.get(i).getId()));
+            assertThat(unpacked.get(i).getQuantity(), is(i));
+            assertThat(unpacked.get(i).getPrice(), is(records.get(i).getPrice()));
+            assertThat(unpacked.get(i).getStatus(), is(records.get(i).getStatus()));
+            assertThat(unpacked.get(i).getDate(), is(records.get(i).getDate()));
+            assertThat(unpacked.get(i).getTotal(), nullValue());
+            assertThat(unpacked.get(i).getName(), nullValue());
+        }
+    }
+    
+    @Test
+    public void reusedBeansReceiveNullValues() {
+        final StructLayout<RecordArtifact> layout = StructLayout.of(RecordArtifact.class);
+        final List<RecordArtifact> records = records();
+        final ByteBuffer buffer = layout.pack(records);
+        final RecordArtifact target = new RecordArtifact();
+        
+        for (int i = 0; i < RECORDS; i++) {
+            layout.read(buffer, i, target);
+            
+            assertThat(target.getStatus(), is(records.get(i).getStatus()));
+            assertThat(target.getDate(), is(records.get(i).getDate()));
+        }
+    }
+    
+    @Test
+    public void flyweightsReadFieldsInPlace() {
+        final StructLayout<RecordArtifact> layout = StructLayout.of(RecordArtifact.class);
+        final ByteBuffer buffer = layout.pack(records());
+        final StructField quantity = layout.field("quantity");
+        final StructField status = layout.field("status");
+        long sum = 0;
+        
+        for (int i = 0; i < layout.count(buffer); i++) {
+            sum += quantity.getInt(buffer, i);
+        }
+        
+        assertThat(sum, is((long) RECORDS * (RECORDS - 1) / 2));
+        assertThat(layout.field("price").getDouble(buffer, 2), is(2 / 3.0));
+        assertTrue(status.isNull(buffer, 3));
+        assertThat(status.get(buffer, 3), nullValue());
+        assertFalse(status.isNull(buffer, 4));
+        assertThat(status.get(buffer, 4), is(StatusArtifact.ACTIVE));
+    }
+}
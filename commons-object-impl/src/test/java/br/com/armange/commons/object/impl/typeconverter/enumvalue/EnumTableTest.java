@@ -0,0 +1,81 @@
+package br.com.armange.commons.object.impl.typeconverter.enumvalue;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.api.typeconverter.ConversionResult;
+import br.com.armange.commons.object.impl.artifact.StatusArtifact;
+import br.com.armange.commons.object.impl.exception.ObjectConverterException;
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+
+public class EnumTableTest {
+    
+    private enum Case { 
+        VALUE, 
+        value, 
+        Other 
+    }
+    
+    private enum Empty {
+    }
+
+    @Test
+    public void everyConstantIsFoundByItsName() {
+        final EnumTable<TimeUnit> table = EnumTable.of(TimeUnit.class);
+        
+        for (final TimeUnit unit : TimeUnit.values()) {
+            assertThat(table.byName(unit.name()), is(unit));
+            assertThat(table.byName(new StringBuilder(unit.name())), is(unit));
+            assertThat(table.byNameIgnoreCase(unit.name().toLowerCase()), is(unit));
+            assertThat(table.byOrdinal(unit.ordinal()), is(unit));
+        }
+        
+        assertThat(table.byName("seconds"), nullValue());
+        assertThat(table.byName("SECOND"), nullValue());
+        assertThat(table.byOrdinal(TimeUnit.values().length), nullValue());
+    }
+    
+    @Test
+    public void exactNameWinsOverOtherCases() {
+        final EnumTable<Case> table = EnumTable.of(Case.class);
+        
+        assertThat(table.byNameIgnoreCase("value"), is(Case.value));
+        assertThat(table.byNameIgnoreCase("Value"), is(Case.VALUE));
+        assertThat(table.byNameIgnoreCase("OTHER"), is(Case.Other));
+    }
+    
+    @Test
+    public void emptyEnumFindsNothing() {
+        final EnumTable<Empty> table = EnumTable.of(Empty.class);
+        
+        assertThat(table.size(), is(0));
+        assertThat(table.byName("VALUE"), nullValue());
+        assertThat(table.byNameIgnoreCase("value"), nullValue());
+        assertThat(table.byOrdinal(0), nullValue());
+    }
+    
+    @Test
+    public void typeConvertersServeEnumPairs() {
+        final ConversionResult<Object> result = new ConversionResult<>();
+        
+        assertThat(TypeConverters.find(StatusArtifact.class, String.class).get().apply(StatusArtifact.INACTIVE), 
+                is("INACTIVE"));
+        assertThat(TypeConverters.find(int.class, StatusArtifact.class).get().apply(1), is(StatusArtifact.INACTIVE));
+        assertFalse(TypeConverters.findAttempt(String.class, StatusArtifact.class).get().attempt("Active", result));
+        assertThat(result.getRejectedValue(), is("Active"));
+    }
+    
+    @Test(expected = ObjectConverterException.class)
+    public void unknownNameIsRejected() {
+        final Function<Object, Object> conversion = TypeConverters.find(String.class, StatusArtifact.class).get();
+        
+        conversion.apply("UNKNOWN");
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.typeconverter.time.TimeParser;
+
+public class ByteBufferTextTest {
+    
+    private static final byte[] RECORD = "42;-7.25;2019-05-31;s\u00e3o".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void heapAndDirectBuffersAreParsedInPlace() {
+        for (final ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.wrap(RECORD), direct(RECORD) }) {
+            assertThat(ByteBufferText.parseInt(buffer, 0, 2), is(42));
+            assertThat(ByteBufferText.parseDouble(buffer, 3, 5), is(-7.25));
+            assertThat(ByteBufferText.parseBigDecimal(buffer, 3, 5), is(new BigDecimal("-7.25")));
+            assertThat(ByteBufferText.decodeUtf8(buffer, 20, 4), is("s\u00e3o"));
+            assertThat(buffer.position(), is(0));
+        }
+    }
+    
+    @Test
+    public void charSequenceViewFeedsOtherParsers() {
+        final CharSequence date = ByteBufferText.asCharSequence(direct(RECORD).asReadOnlyBuffer(), 9, 10);
+        
+        assertThat(TimeParser.parseLocalDate(date, 0, date.length()), is(LocalDate.of(2019, 5, 31)));
+        assertThat(date.subSequence(0, 4).toString(), is("2019"));
+    }
+    
+    @Test(expected = NumberFormatException.class)
+    public void nonAsciiBytesAreNotNumbers() {
+        ByteBufferText.parseLong(direct(RECORD), 20, 4);
+    }
+    
+    private static ByteBuffer direct(final byte[] bytes) {
+        final ByteBuffer result = ByteBuffer.allocateDirect(bytes.length);
+        
+        result.put(bytes).clear();
+        
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class NumberParserTest {
+
+    private static final String LINE = "id=-9223372036854775808;qty=+42;price=19.99;rate=1.5e-3";
+    private static final byte[] ASCII = LINE.getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void parseLongFromRange() {
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLong(LINE, 3, 20));
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLong(ASCII, 3, 20));
+    }
+    
+    @Test
+    public void parseIntFromRange() {
+        assertEquals(42, NumberParser.parseInt(LINE, 28, 3));
+        assertEquals(42, NumberParser.parseInt(ASCII, 28, 3));
+    }
+    
+    @Test
+    public void parseDoubleFromRange() {
+        assertEquals(Double.valueOf(19.99), Double.valueOf(NumberParser.parseDouble(LINE, 38, 5)));
+        assertEquals(Double.valueOf(0.0015), Double.valueOf(NumberParser.parseDouble(ASCII, 49, 6)));
+    }
+    
+    @Test
+    public void parseFloatFromRange() {
+        assertEquals(Float.valueOf(19.99f), Float.valueOf(NumberParser.parseFloat(LINE, 38, 5)));
+        assertEquals(Float.valueOf(0.0015f), Float.valueOf(NumberParser.parseFloat(ASCII, 49, 6)));
+    }
+    
+    @Test
+    public void parseDoubleFallsBackToTheJdkParser() {
+        final String max = "1.7976931348623157e308";
+        
+        assertEquals(Double.valueOf(Double.MAX_VALUE), Double.valueOf(NumberParser.parseDouble(max, 0, max.length())));
+    }
+    
+    @Test
+    public void parseBigDecimalKeepsTheScale() {
+        assertEquals(new BigDecimal("19.99"), NumberParser.parseBigDecimal(LINE, 38, 5));
+        assertEquals(new BigDecimal("-0.00"), NumberParser.parseBigDecimal("-0.00", 0, 5));
+        assertEquals(new BigDecimal("1.5e-3"), NumberParser.parseBigDecimal(ASCII, 49, 6));
+    }
+    
+    @Test
+    public void parseBigDecimalReusesFrequentValues() {
+        assertSame(NumberParser.parseBigDecimal("100.00", 0, 6), NumberParser.parseBigDecimal("100.00", 0, 6));
+    }
+    
+    @Test(expected = NumberFormatException.class)
+    public void intOverflow() {
+        NumberParser.parseInt("2147483648", 0, 10);
+    }
+    
+    @Test(expected = NumberFormatException.class)
+    public void invalidDigit() {
+        NumberParser.parseLong(ASCII, 0, 5);
+    }
+    
+    @Test(expected = NumberFormatException.class)
+    public void signWithoutDigits() {
+        NumberParser.parseShort("-", 0, 1);
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.armange.commons.object.impl.typeconverter.string;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class NumberRendererTest {
+
+    private static final char[] BUFFER = new char[NumberRenderer.MAX_LENGTH + 4];
+
+    private static String render(final double value) {
+        return new String(BUFFER, 0, NumberRenderer.render(value, BUFFER, 0));
+    }
+    
+    @Test
+    public void renderLongIntoCharRange() {
+        final int length = NumberRenderer.render(Long.MIN_VALUE, BUFFER, 2);
+        
+        assertEquals("-9223372036854775808", new String(BUFFER, 2, length));
+        assertEquals("0", new String(BUFFER, 0, NumberRenderer.render(0L, BUFFER, 0)));
+    }
+    
+    @Test
+    public void renderDoubleWithTheToStringLayout() {
+        assertEquals("19.99", render(19.99));
+        assertEquals("100.0", render(100.0));
+        assertEquals("0.001", render(0.001));
+        assertEquals("1.0E-4", render(0.0001));
+        assertEquals("1.0E7", render(1.0E7));
+        assertEquals("-1.7976931348623157E308", render(-Double.MAX_VALUE));
+        assertEquals("-0.0", render(-0.0));
+        assertEquals("NaN", render(Double.NaN));
+    }
+    
+    @Test
+    public void renderDoubleAsTheShortestRoundTrip() {
+        assertEquals("1.0E23", render(1.0E23));
+        assertEquals("5.0E-324", render(Double.MIN_VALUE));
+        assertEquals("8.98349940776825E17", render(8.98349940776825E17));
+    }
+    
+    @Test
+    public void renderFloatAsTheShortestRoundTrip() {
+        assertEquals("2.4424279E16", new String(BUFFER, 0, NumberRenderer.render(2.4424279E16f, BUFFER, 0)));
+        assertEquals("0.1", new String(BUFFER, 0, NumberRenderer.render(0.1f, BUFFER, 0)));
+    }
+    
+    @Test
+    public void renderIntoSinks() throws IOException {
+        final byte[] ascii = new byte[NumberRenderer.MAX_LENGTH];
+        final StringWriter writer = new StringWriter();
+        
+        NumberRenderer.render(1.5E-3, writer);
+        
+        assertEquals("price=19.99", NumberRenderer.render(19.99, new StringBuilder("price=")).toString());
+        assertEquals("0.0015", writer.toString());
+        assertEquals("-42", new String(ascii, 0, NumberRenderer.render(-42L, ascii, 0), StandardCharsets.US_ASCII));
+    }
+}
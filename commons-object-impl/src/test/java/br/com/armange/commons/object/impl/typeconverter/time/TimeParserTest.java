@@ -0,0 +1,63 @@
+package br.com.armange.commons.object.impl.typeconverter.time;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import org.junit.Test;
+
+import br.com.armange.commons.object.impl.typeconverter.TypeConverters;
+
+public class TimeParserTest {
+
+    @Test
+    public void fixedLayoutsAreParsedFromRanges() {
+        final String text = "[2019-05-31T10:15:30.25-03:00]";
+        
+        assertThat(TimeParser.parseLocalDate(text, 1, 10), is(LocalDate.of(2019, 5, 31)));
+        assertThat(TimeParser.parseLocalDateTime(text, 1, 16), is(LocalDateTime.of(2019, 5, 31, 10, 15)));
+        assertThat(TimeParser.parseLocalDateTime(text, 1, 22), 
+                is(LocalDateTime.of(2019, 5, 31, 10, 15, 30, 250_000_000)));
+        assertThat(TimeParser.parseOffsetDateTime(text, 1, 28), 
+                is(OffsetDateTime.of(2019, 5, 31, 10, 15, 30, 250_000_000, ZoneOffset.ofHours(-3))));
+        assertThat(TimeParser.parseInstant("2019-05-31T13:15:30.25Z", 0, 23), 
+                is(Instant.parse("2019-05-31T13:15:30.25Z")));
+    }
+    
+    @Test
+    public void otherLayoutsFallBackToTheJdk() {
+        assertThat(TimeParser.parseLocalDate("+12019-05-31", 0, 12), is(LocalDate.of(12019, 5, 31)));
+        assertThat(TimeParser.parseInstant("2019-05-31t13:15:30z", 0, 20), is(Instant.parse("2019-05-31T13:15:30Z")));
+    }
+    
+    @Test(expected = DateTimeParseException.class)
+    public void invalidDateIsRejectedLikeTheJdk() {
+        TimeParser.parseLocalDate("2019-02-29", 0, 10);
+    }
+    
+    @Test
+    public void renderedTextMatchesToString() {
+        final Instant instant = Instant.ofEpochSecond(1_559_308_530L, 120_000);
+        final OffsetDateTime dateTime = instant.atOffset(ZoneOffset.ofHoursMinutes(5, 30));
+        
+        assertThat(TimeRenderer.format(instant), is(instant.toString()));
+        assertThat(TimeRenderer.format(dateTime), is(dateTime.toString()));
+        assertThat(TimeRenderer.format(dateTime.toLocalDateTime()), is(dateTime.toLocalDateTime().toString()));
+        assertThat(TimeRenderer.render(LocalDate.of(7, 1, 2), new StringBuilder("d=")).toString(), is("d=0007-01-02"));
+    }
+    
+    @Test
+    public void typeConvertersServeTimePairs() {
+        final Instant instant = Instant.ofEpochMilli(1_559_308_530_250L);
+        
+        assertThat(TypeConverters.find(String.class, Instant.class).get().apply(instant.toString()), is(instant));
+        assertThat(TypeConverters.find(long.class, Instant.class).get().apply(1_559_308_530_250L), is(instant));
+        assertThat(TypeConverters.find(Instant.class, String.class).get().apply(instant), is(instant.toString()));
+    }
+}